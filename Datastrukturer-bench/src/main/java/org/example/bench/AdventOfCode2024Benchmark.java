@@ -0,0 +1,829 @@
+package org.example.bench;
+
+import AdventOfCode2024.Grid;
+import AdventOfCode2024.Oppgave_1;
+import AdventOfCode2024.Oppgave_10;
+import AdventOfCode2024.Oppgave_11;
+import AdventOfCode2024.Oppgave_12;
+import AdventOfCode2024.Oppgave_13;
+import AdventOfCode2024.Oppgave_14;
+import AdventOfCode2024.Oppgave_15;
+import AdventOfCode2024.Oppgave_16;
+import AdventOfCode2024.Oppgave_18;
+import AdventOfCode2024.Oppgave_19;
+import AdventOfCode2024.Oppgave_2;
+import AdventOfCode2024.Oppgave_20;
+import AdventOfCode2024.Oppgave_21;
+import AdventOfCode2024.Oppgave_22;
+import AdventOfCode2024.Oppgave_23;
+import AdventOfCode2024.Oppgave_24;
+import AdventOfCode2024.Oppgave_25;
+import AdventOfCode2024.Oppgave_3;
+import AdventOfCode2024.Oppgave_4;
+import AdventOfCode2024.Oppgave_5;
+import AdventOfCode2024.Oppgave_6;
+import AdventOfCode2024.Oppgave_7;
+import AdventOfCode2024.Oppgave_8;
+import AdventOfCode2024.Oppgave_9;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Kjører inngangen til hver {@code AdventOfCode2024.Oppgave_N} på genererte input. Hver dag har
+ * sin egen tilstand med en {@code size}-parameter som skalerer inputen (antall linjer, sidelengde
+ * på kartet osv.), og inputen lages med {@code SplittableRandom(42)}, så den er lik fra kjøring til
+ * kjøring og tallene kan sammenlignes over tid. Løsere som endrer inputen sin (dag 14, 15 og 24)
+ * får en ny kopi i hvert kall, og kopieringen er med i tiden. Dag 18 og 20 leser fra fil, så inputen
+ * skrives til en midlertidig fil i oppsettet.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AdventOfCode2024Benchmark {
+
+    private static final long SEED = 42;
+
+    /** Stokker listen på samme måte hver gang. */
+    private static <T> void stokk(List<T> liste, SplittableRandom random) {
+        for (int i = liste.size() - 1; i > 0; i--) {
+            Collections.swap(liste, i, random.nextInt(i + 1));
+        }
+    }
+
+    /** Et kvadratisk kart med vegg rundt, tilfeldige vegger inni og en åpen gang langs bunnen og høyre side. */
+    static char[][] labyrint(int n, double veggAndel, SplittableRandom random) {
+        char[][] kart = new char[n][n];
+        for (int r = 0; r < n; r++) {
+            for (int c = 0; c < n; c++) {
+                boolean kant = r == 0 || c == 0 || r == n - 1 || c == n - 1;
+                boolean gang = r == n - 2 || c == n - 2;
+                kart[r][c] = kant || (!gang && random.nextDouble() < veggAndel) ? '#' : '.';
+            }
+        }
+        kart[n - 2][1] = 'S';
+        kart[1][n - 2] = 'E';
+        return kart;
+    }
+
+    private static List<String> somLinjer(char[][] kart) {
+        List<String> linjer = new ArrayList<>(kart.length);
+        for (char[] rad : kart) {
+            linjer.add(new String(rad));
+        }
+        return linjer;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag1 {
+        @Param({"1000", "100000"})
+        int size;
+        List<Integer> venstre;
+        List<Integer> hoyre;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            venstre = new ArrayList<>(size);
+            hoyre = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                venstre.add(random.nextInt(10_000, 100_000));
+                hoyre.add(random.nextInt(10_000, 100_000));
+            }
+        }
+    }
+
+    @Benchmark
+    public int oppgave01(Dag1 dag) {
+        return Oppgave_1.totalDistance(dag.venstre, dag.hoyre);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag2 {
+        @Param({"1000", "100000"})
+        int size;
+        int[][] rapporter;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            rapporter = new int[size][];
+            for (int i = 0; i < size; i++) {
+                int[] nivaer = new int[random.nextInt(5, 9)];
+                int retning = random.nextBoolean() ? 1 : -1;
+                nivaer[0] = random.nextInt(1, 100);
+                for (int j = 1; j < nivaer.length; j++) {
+                    // Stort sett trygge steg, men noen rapporter hopper for langt
+                    nivaer[j] = nivaer[j - 1] + retning * random.nextInt(1, random.nextInt(10) == 0 ? 6 : 4);
+                }
+                rapporter[i] = nivaer;
+            }
+        }
+    }
+
+    @Benchmark
+    public int oppgave02(Dag2 dag) {
+        int trygge = 0;
+        for (int[] rapport : dag.rapporter) {
+            if (Oppgave_2.erTryggRapport(rapport)) {
+                trygge++;
+            }
+        }
+        return trygge;
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag3 {
+        @Param({"10000", "1000000"})
+        int size;
+        String minne;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            String stoy = "xmul(do()[]?!%^&*, )don't()";
+            StringBuilder sb = new StringBuilder(size + 16);
+            while (sb.length() < size) {
+                if (random.nextInt(8) == 0) {
+                    sb.append("mul(").append(random.nextInt(1, 1000)).append(',')
+                            .append(random.nextInt(1, 1000)).append(')');
+                } else {
+                    sb.append(stoy.charAt(random.nextInt(stoy.length())));
+                }
+            }
+            minne = sb.toString();
+        }
+    }
+
+    @Benchmark
+    public long oppgave03(Dag3 dag) {
+        return Oppgave_3.beregnMultiplikasjonsSum(dag.minne);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag4 {
+        @Param({"50", "500"})
+        int size;
+        String[] linjer;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            String bokstaver = "XMAS";
+            linjer = new String[size];
+            for (int r = 0; r < size; r++) {
+                char[] rad = new char[size];
+                for (int c = 0; c < size; c++) {
+                    rad[c] = bokstaver.charAt(random.nextInt(bokstaver.length()));
+                }
+                linjer[r] = new String(rad);
+            }
+        }
+    }
+
+    @Benchmark
+    public int oppgave04(Dag4 dag) {
+        return Oppgave_4.solve(dag.linjer);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag5 {
+        @Param({"50", "500"})
+        int size;
+        List<String> regler;
+        List<String> oppdateringer;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            List<Integer> sider = new ArrayList<>();
+            for (int side = 10; side < 59; side++) {
+                sider.add(side);
+            }
+            // En fast rekkefølge på sidene gir en regel for hvert par
+            stokk(sider, random);
+            regler = new ArrayList<>();
+            for (int i = 0; i < sider.size(); i++) {
+                for (int j = i + 1; j < sider.size(); j++) {
+                    regler.add(sider.get(i) + "|" + sider.get(j));
+                }
+            }
+            stokk(regler, random);
+            oppdateringer = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                List<Integer> utvalg = new ArrayList<>(sider);
+                stokk(utvalg, random);
+                utvalg = utvalg.subList(0, random.nextInt(5, 24));
+                if (random.nextBoolean()) {
+                    // Halvparten av oppdateringene følger reglene
+                    utvalg.sort((a, b) -> Integer.compare(sider.indexOf(a), sider.indexOf(b)));
+                }
+                StringBuilder sb = new StringBuilder();
+                for (int side : utvalg) {
+                    if (sb.length() > 0) {
+                        sb.append(',');
+                    }
+                    sb.append(side);
+                }
+                oppdateringer.add(sb.toString());
+            }
+        }
+    }
+
+    @Benchmark
+    public int oppgave05(Dag5 dag) {
+        return new Oppgave_5(dag.regler, dag.oppdateringer).solve();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag6 {
+        @Param({"50", "130"})
+        int size;
+        char[][] kart;
+        Grid grid;
+
+        @Setup
+        public void setup() {
+            // Vakten har ingen løkkesjekk, så kart der vakten går i ring forkastes
+            long seed = SEED;
+            do {
+                kart = vaktKart(size, new SplittableRandom(seed++));
+            } while (!vaktForlaterKartet(kart));
+            grid = Grid.av(kart, 1);
+        }
+
+        private static char[][] vaktKart(int n, SplittableRandom random) {
+            char[][] kart = new char[n][n];
+            for (int r = 0; r < n; r++) {
+                for (int c = 0; c < n; c++) {
+                    kart[r][c] = random.nextInt(40) == 0 ? '#' : '.';
+                }
+            }
+            kart[n / 2][n / 2] = '^';
+            return kart;
+        }
+
+        private static boolean vaktForlaterKartet(char[][] kart) {
+            int n = kart.length;
+            int[] dr = {-1, 0, 1, 0};
+            int[] dc = {0, 1, 0, -1};
+            boolean[] sett = new boolean[n * n * 4];
+            int r = n / 2;
+            int c = n / 2;
+            int retning = 0;
+            while (!sett[(r * n + c) * 4 + retning]) {
+                sett[(r * n + c) * 4 + retning] = true;
+                int nr = r + dr[retning];
+                int nc = c + dc[retning];
+                if (nr < 0 || nr >= n || nc < 0 || nc >= n) {
+                    return true;
+                }
+                if (kart[nr][nc] == '#') {
+                    retning = (retning + 1) % 4;
+                } else {
+                    r = nr;
+                    c = nc;
+                }
+            }
+            return false;
+        }
+    }
+
+    @Benchmark
+    public int oppgave06(Dag6 dag) {
+        return Oppgave_6.simulateGuard(dag.grid);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag7 {
+        @Param({"100", "1000"})
+        int size;
+        List<String> ligninger;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            ligninger = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int antall = random.nextInt(3, 11);
+                long[] tall = new long[antall];
+                for (int j = 0; j < antall; j++) {
+                    tall[j] = random.nextInt(1, 20);
+                }
+                long mal = tall[0];
+                for (int j = 1; j < antall; j++) {
+                    mal = random.nextBoolean() ? mal + tall[j] : mal * tall[j];
+                }
+                if (random.nextBoolean()) {
+                    mal++; // Omtrent halvparten skal ikke gå opp
+                }
+                StringBuilder sb = new StringBuilder().append(mal).append(':');
+                for (long t : tall) {
+                    sb.append(' ').append(t);
+                }
+                ligninger.add(sb.toString());
+            }
+        }
+    }
+
+    @Benchmark
+    public long oppgave07(Dag7 dag) {
+        return Oppgave_7.calculateTotalCalibrationResult(dag.ligninger);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag8 {
+        @Param({"50", "200"})
+        int size;
+        List<String> kart;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            String frekvenser = "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789";
+            char[][] rader = new char[size][size];
+            for (int r = 0; r < size; r++) {
+                for (int c = 0; c < size; c++) {
+                    rader[r][c] = random.nextInt(50) == 0
+                            ? frekvenser.charAt(random.nextInt(frekvenser.length())) : '.';
+                }
+            }
+            kart = somLinjer(rader);
+        }
+    }
+
+    @Benchmark
+    public int oppgave08(Dag8 dag) {
+        return Oppgave_8.solve(dag.kart);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag9 {
+        @Param({"1000", "20000"})
+        int size;
+        String diskkart;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            StringBuilder sb = new StringBuilder(size);
+            for (int i = 0; i < size; i++) {
+                // Filer er minst én blokk lange, ledig plass kan være tom
+                sb.append((char) ('0' + ((i & 1) == 0 ? random.nextInt(1, 10) : random.nextInt(10))));
+            }
+            diskkart = sb.toString();
+        }
+    }
+
+    @Benchmark
+    public long oppgave09(Dag9 dag) {
+        return new Oppgave_9().komprimerOgBeregnSjekkSum(dag.diskkart);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag10 {
+        @Param({"50", "200"})
+        int size;
+        int[][] kart;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            kart = new int[size][size];
+            for (int r = 0; r < size; r++) {
+                for (int c = 0; c < size; c++) {
+                    // Diagonale skråninger gir mange stier, støyen bryter noen av dem
+                    kart[r][c] = random.nextInt(5) == 0 ? random.nextInt(10) : (r + c) % 10;
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public int oppgave10(Dag10 dag) {
+        return new Oppgave_10(dag.kart).solve();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag11 {
+        @Param({"15", "25"})
+        int size;
+        List<Long> steiner;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            steiner = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                steiner.add((long) random.nextInt(1_000_000));
+            }
+        }
+    }
+
+    @Benchmark
+    public int oppgave11(Dag11 dag) {
+        return Oppgave_11.simulate(dag.steiner, dag.size).size();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag12 {
+        @Param({"50", "140"})
+        int size;
+        String[] kart;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            kart = new String[size];
+            for (int r = 0; r < size; r++) {
+                char[] rad = new char[size];
+                for (int c = 0; c < size; c++) {
+                    // Blokker på 5x5 med samme plante, og litt ugress innimellom
+                    int blokk = (r / 5) * 7 + (c / 5) * 3;
+                    rad[c] = (char) ('A' + (random.nextInt(6) == 0 ? random.nextInt(26) : blokk % 26));
+                }
+                kart[r] = new String(rad);
+            }
+        }
+    }
+
+    @Benchmark
+    public int oppgave12(Dag12 dag) {
+        return Oppgave_12.beregnTotalPris(dag.kart);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag13 {
+        @Param({"10", "100"})
+        int size;
+        List<String> maskiner;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            maskiner = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int ax = random.nextInt(10, 100);
+                int ay = random.nextInt(10, 100);
+                int bx = random.nextInt(10, 100);
+                int by = random.nextInt(10, 100);
+                int a = random.nextInt(101);
+                int b = random.nextInt(101);
+                // Hver fjerde premie kan ikke nås
+                int skyv = random.nextInt(4) == 0 ? 1 : 0;
+                maskiner.add("Button A: X+" + ax + ", Y+" + ay + "\n"
+                        + "Button B: X+" + bx + ", Y+" + by + "\n"
+                        + "Prize: X=" + (a * ax + b * bx + skyv) + ", Y=" + (a * ay + b * by));
+            }
+        }
+    }
+
+    @Benchmark
+    public Object oppgave13(Dag13 dag) {
+        return Oppgave_13.optimize(dag.maskiner);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag14 {
+        @Param({"500", "5000"})
+        int size;
+        List<String> roboter;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            roboter = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                roboter.add("p=" + random.nextInt(101) + "," + random.nextInt(103)
+                        + " v=" + random.nextInt(-100, 101) + "," + random.nextInt(-100, 101));
+            }
+        }
+    }
+
+    @Benchmark
+    public long oppgave14(Dag14 dag) {
+        return new Oppgave_14(101, 103, 100, dag.roboter).calculateSafetyFactor();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag15 {
+        @Param({"20", "50"})
+        int size;
+        char[][] lager;
+        String bevegelser;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            lager = new char[size][size];
+            for (int r = 0; r < size; r++) {
+                for (int c = 0; c < size; c++) {
+                    boolean kant = r == 0 || c == 0 || r == size - 1 || c == size - 1;
+                    int terning = random.nextInt(20);
+                    lager[r][c] = kant || terning == 0 ? '#' : terning < 5 ? 'O' : '.';
+                }
+            }
+            lager[size / 2][size / 2] = '@';
+            String retninger = "^v<>";
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 10 * size * size; i++) {
+                sb.append(retninger.charAt(random.nextInt(4)));
+            }
+            bevegelser = sb.toString();
+        }
+    }
+
+    @Benchmark
+    public long oppgave15(Dag15 dag) {
+        // Konstruktøren kopierer kartet inn i et Grid, så tegnkartet endres ikke
+        return new Oppgave_15(dag.lager, dag.bevegelser).calculateTotalGpsCoordinates();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag16 {
+        @Param({"31", "141"})
+        int size;
+        String labyrint;
+
+        @Setup
+        public void setup() {
+            labyrint = String.join("\n", somLinjer(labyrint(size, 0.3, new SplittableRandom(SEED))));
+        }
+    }
+
+    @Benchmark
+    public int oppgave16(Dag16 dag) {
+        return Oppgave_16.solveMaze(dag.labyrint);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag18 {
+        @Param({"256", "1024"})
+        int size;
+        Path fil;
+
+        @Setup
+        public void setup() throws IOException {
+            SplittableRandom random = new SplittableRandom(SEED);
+            List<String> celler = new ArrayList<>();
+            for (int x = 0; x <= 70; x++) {
+                for (int y = 0; y <= 70; y++) {
+                    if ((x != 0 || y != 0) && (x != 70 || y != 70)) {
+                        celler.add(x + "," + y);
+                    }
+                }
+            }
+            stokk(celler, random);
+            fil = Files.createTempFile("oppgave18", ".txt");
+            Files.write(fil, celler.subList(0, size));
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(fil);
+        }
+    }
+
+    @Benchmark
+    public int oppgave18(Dag18 dag) {
+        return Oppgave_18.solve(dag.fil.toString());
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag19 {
+        @Param({"100", "1000"})
+        int size;
+        String handklaer;
+        List<String> design;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            String farger = "wubrg";
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < 30; i++) {
+                if (i > 0) {
+                    sb.append(", ");
+                }
+                for (int j = random.nextInt(1, 4); j > 0; j--) {
+                    sb.append(farger.charAt(random.nextInt(farger.length())));
+                }
+            }
+            handklaer = sb.toString();
+            design = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                char[] monster = new char[random.nextInt(20, 41)];
+                for (int j = 0; j < monster.length; j++) {
+                    monster[j] = farger.charAt(random.nextInt(farger.length()));
+                }
+                design.add(new String(monster));
+            }
+        }
+    }
+
+    @Benchmark
+    public int oppgave19(Dag19 dag) {
+        return new Oppgave_19().countPossibleDesigns(dag.handklaer, dag.design);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag20 {
+        @Param({"11", "21", "141"})
+        int size;
+        Path fil;
+
+        @Setup
+        public void setup() throws IOException {
+            fil = Files.createTempFile("oppgave20", ".txt");
+            Files.write(fil, somLinjer(labyrint(size, 0.3, new SplittableRandom(SEED))));
+        }
+
+        @TearDown
+        public void tearDown() throws IOException {
+            Files.deleteIfExists(fil);
+        }
+    }
+
+    @Benchmark
+    public int oppgave20(Dag20 dag) throws IOException {
+        return new Oppgave_20(dag.fil.toString()).solve();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag21 {
+        @Param({"5", "50"})
+        int size;
+        List<String> koder;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            koder = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                koder.add(String.format("%03dA", random.nextInt(1000)));
+            }
+        }
+    }
+
+    @Benchmark
+    public long oppgave21(Dag21 dag) {
+        return Oppgave_21.solve(dag.koder);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag22 {
+        @Param({"100", "2000"})
+        int size;
+        List<Long> hemmeligheter;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            hemmeligheter = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                hemmeligheter.add((long) random.nextInt(1, 16_777_216));
+            }
+        }
+    }
+
+    @Benchmark
+    public long oppgave22(Dag22 dag) {
+        return Oppgave_22.calculateSumOf2000thSecrets(dag.hemmeligheter);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag23 {
+        @Param({"500", "3000"})
+        int size;
+        List<String> forbindelser;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            List<String> navn = new ArrayList<>();
+            for (char a = 'a'; a <= 'z'; a++) {
+                for (char b = 'a'; b <= 'z'; b++) {
+                    navn.add("" + a + b);
+                }
+            }
+            stokk(navn, random);
+            // Få maskiner i forhold til forbindelsene, så grafen får trekanter
+            int maskiner = Math.min(navn.size(), size / 8 + 10);
+            forbindelser = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                int a = random.nextInt(maskiner);
+                int b = (a + random.nextInt(1, maskiner)) % maskiner;
+                forbindelser.add(navn.get(a) + "-" + navn.get(b));
+            }
+        }
+    }
+
+    @Benchmark
+    public int oppgave23(Dag23 dag) {
+        return Oppgave_23.countTrianglesWithT(dag.forbindelser);
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag24 {
+        @Param({"16", "44"})
+        int size;
+        List<String> krets;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            // En ripple-carry-adderer på size bit, med portene i tilfeldig rekkefølge
+            List<String> verdier = new ArrayList<>();
+            List<String> porter = new ArrayList<>();
+            for (int i = 0; i < size; i++) {
+                String n = String.format("%02d", i);
+                verdier.add("x" + n + ":" + random.nextInt(2));
+                verdier.add("y" + n + ":" + random.nextInt(2));
+                if (i == 0) {
+                    porter.add("x00 XOR y00 -> z00");
+                    porter.add("x00 AND y00 -> c01");
+                } else {
+                    String neste = String.format("%02d", i + 1);
+                    String mente = (i + 1 == size) ? "z" + neste : "c" + neste;
+                    porter.add("x" + n + " XOR y" + n + " -> t" + n);
+                    porter.add("t" + n + " XOR c" + n + " -> z" + n);
+                    porter.add("x" + n + " AND y" + n + " -> g" + n);
+                    porter.add("t" + n + " AND c" + n + " -> p" + n);
+                    porter.add("g" + n + " OR p" + n + " -> " + mente);
+                }
+            }
+            stokk(porter, random);
+            krets = new ArrayList<>(verdier);
+            krets.addAll(porter);
+        }
+    }
+
+    @Benchmark
+    public long oppgave24(Dag24 dag) {
+        return new Oppgave_24(dag.krets).simulate();
+    }
+
+    @State(Scope.Benchmark)
+    public static class Dag25 {
+        @Param({"100", "500"})
+        int size;
+        String laaser;
+        String nokler;
+
+        @Setup
+        public void setup() {
+            SplittableRandom random = new SplittableRandom(SEED);
+            laaser = skjemaer(size, true, random);
+            nokler = skjemaer(size, false, random);
+        }
+
+        private static String skjemaer(int antall, boolean laas, SplittableRandom random) {
+            StringBuilder sb = new StringBuilder();
+            for (int i = 0; i < antall; i++) {
+                int[] hoyder = new int[5];
+                for (int c = 0; c < hoyder.length; c++) {
+                    hoyder[c] = random.nextInt(6);
+                }
+                if (i > 0) {
+                    sb.append("\n\n");
+                }
+                for (int r = 0; r < 6; r++) {
+                    if (r > 0) {
+                        sb.append('\n');
+                    }
+                    for (int hoyde : hoyder) {
+                        boolean fylt = laas ? r < hoyde : r >= 6 - hoyde;
+                        sb.append(fylt ? '#' : '.');
+                    }
+                }
+            }
+            return sb.toString();
+        }
+    }
+
+    @Benchmark
+    public int oppgave25(Dag25 dag) {
+        return new Oppgave_25().countMatchingPairs(
+                Oppgave_25.parseSchemas(dag.laaser), Oppgave_25.parseSchemas(dag.nokler));
+    }
+}
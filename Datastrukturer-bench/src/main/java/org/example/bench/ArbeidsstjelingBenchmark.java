@@ -0,0 +1,226 @@
+package org.example.bench;
+
+import org.example.ConcurrentDobbelko;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * En liten fork/join-planlegger med arbeidsstjeling, med tre ulike køer per arbeider:
+ * {@link ConcurrentDobbelko} (Chase-Lev), {@link ConcurrentLinkedDeque} og en {@link ArrayDeque}
+ * bak en lås.
+ * <p>
+ * Jobben summerer en funksjon over [0, size) ved å dele intervallet i to til bitene er små nok.
+ * Hver arbeider legger den ene halvdelen bak i sin egen kø og fortsetter med den andre, og tar
+ * fra sin egen kø bak. Når den er tom, stjeler den foran i køen til en tilfeldig annen arbeider.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArbeidsstjelingBenchmark {
+
+    private static final int GRENSE = 64; // Intervaller som ikke er større enn dette deles ikke.
+
+    record Oppgave(int fra, int til) {
+    }
+
+    /**
+     * Køen til én arbeider. Bare eieren kaller leggTil og taEgen, alle kan kalle stjel.
+     */
+    interface Arbeidsko {
+        void leggTil(Oppgave oppgave);
+
+        Oppgave taEgen();
+
+        Oppgave stjel();
+    }
+
+    static final class ChaseLevKo implements Arbeidsko {
+        private final ConcurrentDobbelko<Oppgave> ko = new ConcurrentDobbelko<>();
+
+        public void leggTil(Oppgave oppgave) {
+            ko.leggTilBak(oppgave);
+        }
+
+        public Oppgave taEgen() {
+            return ko.fjernBak();
+        }
+
+        public Oppgave stjel() {
+            return ko.fjernForan();
+        }
+    }
+
+    static final class LenketKo implements Arbeidsko {
+        private final ConcurrentLinkedDeque<Oppgave> ko = new ConcurrentLinkedDeque<>();
+
+        public void leggTil(Oppgave oppgave) {
+            ko.addLast(oppgave);
+        }
+
+        public Oppgave taEgen() {
+            return ko.pollLast();
+        }
+
+        public Oppgave stjel() {
+            return ko.pollFirst();
+        }
+    }
+
+    static final class LaastKo implements Arbeidsko {
+        private final ArrayDeque<Oppgave> ko = new ArrayDeque<>();
+        private final ReentrantLock lock = new ReentrantLock();
+
+        public void leggTil(Oppgave oppgave) {
+            lock.lock();
+            try {
+                ko.addLast(oppgave);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public Oppgave taEgen() {
+            lock.lock();
+            try {
+                return ko.pollLast();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        public Oppgave stjel() {
+            lock.lock();
+            try {
+                return ko.pollFirst();
+            } finally {
+                lock.unlock();
+            }
+        }
+    }
+
+    @Param({"chaseLev", "concurrentLinkedDeque", "laastArrayDeque"})
+    String ko;
+
+    @Param({"1", "4"})
+    int arbeidere;
+
+    @Param({"1048576"})
+    int size;
+
+    private ExecutorService pool;
+
+    @Setup
+    public void setup() {
+        pool = Executors.newFixedThreadPool(arbeidere);
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    private Arbeidsko nyKo() {
+        return switch (ko) {
+            case "chaseLev" -> new ChaseLevKo();
+            case "concurrentLinkedDeque" -> new LenketKo();
+            case "laastArrayDeque" -> new LaastKo();
+            default -> throw new IllegalArgumentException("Ukjent kø: " + ko);
+        };
+    }
+
+    @Benchmark
+    public long planlegger() throws Exception {
+        Arbeidsko[] koer = new Arbeidsko[arbeidere];
+        for (int w = 0; w < arbeidere; w++) {
+            koer[w] = nyKo();
+        }
+        AtomicLong uferdige = new AtomicLong(1); // Oppgaver som er laget men ikke kjørt ferdig
+        AtomicLong resultat = new AtomicLong();
+        koer[0].leggTil(new Oppgave(0, size));
+
+        List<Callable<Void>> jobber = new ArrayList<>(arbeidere);
+        for (int w = 0; w < arbeidere; w++) {
+            int egen = w;
+            jobber.add(() -> {
+                arbeid(egen, koer, uferdige, resultat);
+                return null;
+            });
+        }
+        for (Future<Void> future : pool.invokeAll(jobber)) {
+            future.get();
+        }
+        return resultat.get();
+    }
+
+    private static void arbeid(int egen, Arbeidsko[] koer, AtomicLong uferdige, AtomicLong resultat) {
+        long sum = 0;
+        while (uferdige.get() > 0) {
+            Oppgave oppgave = koer[egen].taEgen();
+            if (oppgave == null) {
+                oppgave = stjel(egen, koer);
+                if (oppgave == null) {
+                    Thread.onSpinWait();
+                    continue;
+                }
+            }
+            int fra = oppgave.fra();
+            int til = oppgave.til();
+            while (til - fra > GRENSE) {
+                int midt = (fra + til) >>> 1;
+                uferdige.incrementAndGet();
+                koer[egen].leggTil(new Oppgave(midt, til));
+                til = midt;
+            }
+            for (int i = fra; i < til; i++) {
+                sum += blandet(i);
+            }
+            uferdige.decrementAndGet();
+        }
+        resultat.addAndGet(sum);
+    }
+
+    private static Oppgave stjel(int egen, Arbeidsko[] koer) {
+        int start = ThreadLocalRandom.current().nextInt(koer.length);
+        for (int k = 0; k < koer.length; k++) {
+            int offer = (start + k) % koer.length;
+            if (offer != egen) {
+                Oppgave oppgave = koer[offer].stjel();
+                if (oppgave != null) {
+                    return oppgave;
+                }
+            }
+        }
+        return null;
+    }
+
+    private static long blandet(int i) {
+        long x = i * 0x9E3779B97F4A7C15L;
+        return (x ^ (x >>> 31)) & 0xFF;
+    }
+}
@@ -0,0 +1,81 @@
+package org.example.bench;
+
+import org.example.BlokkerendeDobbelko;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Produsent/konsument gjennom en {@link BlokkerendeDobbelko}: en konsument som tar ett element
+ * per låsing mot en som tømmer opptil 64 elementer per låsing med {@code drainTo}. Produsentens
+ * gjennomstrømning er antall elementer som kom gjennom køen, og er tallet som kan sammenlignes.
+ * Ventingene har korte tidsfrister, så en tråd ikke blir hengende når den andre tråden i
+ * gruppen stopper på slutten av en iterasjon.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class BlokkerendeDobbelkoBenchmark {
+
+    private static final int KAPASITET = 1024;
+    private static final int BATCH = 64;
+    private static final Integer ELEMENT = 42;
+
+    private BlokkerendeDobbelko<Integer> ko;
+
+    @Setup
+    public void setup() {
+        ko = new BlokkerendeDobbelko<>(KAPASITET);
+    }
+
+    @State(Scope.Thread)
+    public static class Mottak {
+        final List<Integer> batch = new ArrayList<>(BATCH);
+    }
+
+    @Benchmark
+    @Group("enOgEn")
+    public boolean enOgEnProdusent() throws InterruptedException {
+        return ko.leggTilBak(ELEMENT, 1, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    @Group("enOgEn")
+    public Integer enOgEnKonsument() throws InterruptedException {
+        return ko.fjernForan(1, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    @Group("batch")
+    public boolean batchProdusent() throws InterruptedException {
+        return ko.leggTilBak(ELEMENT, 1, TimeUnit.MILLISECONDS);
+    }
+
+    @Benchmark
+    @Group("batch")
+    public int batchKonsument(Mottak mottak) throws InterruptedException {
+        List<Integer> batch = mottak.batch;
+        batch.clear();
+        Integer forste = ko.fjernForan(1, TimeUnit.MILLISECONDS);
+        if (forste == null) {
+            return 0;
+        }
+        batch.add(forste);
+        return 1 + ko.drainTo(batch, BATCH - 1);
+    }
+}
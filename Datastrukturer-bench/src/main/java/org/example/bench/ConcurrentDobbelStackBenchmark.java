@@ -0,0 +1,88 @@
+package org.example.bench;
+
+import org.example.ConcurrentDobbelStackLenket;
+import org.example.DobbelStackLenket;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Delte lister med ledige objekter: hver operasjon lånes ut fra stack 1 og legges tilbake, med
+ * {@link ConcurrentDobbelStackLenket} mot en {@link DobbelStackLenket} der hver operasjon er
+ * synkronisert.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConcurrentDobbelStackBenchmark {
+
+    private static final int LEDIGE = 1024;
+    private static final Integer ELEMENT = 42;
+
+    private ConcurrentDobbelStackLenket<Integer> laasfri;
+    private DobbelStackLenket<Integer> synkronisert;
+
+    @Setup
+    public void setup() {
+        laasfri = new ConcurrentDobbelStackLenket<>();
+        synkronisert = new DobbelStackLenket<>();
+        for (int i = 0; i < LEDIGE; i++) {
+            laasfri.push1(ELEMENT);
+            synkronisert.push1(ELEMENT);
+        }
+    }
+
+    private Integer laanOgLeverSynkronisert() {
+        Integer element;
+        synchronized (synkronisert) {
+            element = synkronisert.pop1();
+        }
+        synchronized (synkronisert) {
+            synkronisert.push1(element);
+        }
+        return element;
+    }
+
+    private Integer laanOgLeverLaasfri() {
+        Integer element = laasfri.pop1();
+        laasfri.push1(element);
+        return element;
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer synkronisert1() {
+        return laanOgLeverSynkronisert();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer synkronisert4() {
+        return laanOgLeverSynkronisert();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public Integer laasfri1() {
+        return laanOgLeverLaasfri();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public Integer laasfri4() {
+        return laanOgLeverLaasfri();
+    }
+}
@@ -0,0 +1,114 @@
+package org.example.bench;
+
+import org.example.DobbelStack;
+import org.example.DobbelStackLenket;
+import org.example.IntDobbelStack;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Fyller og tømmer begge stakkene: den lenkede {@link DobbelStackLenket} mot de array-baserte
+ * {@link DobbelStack} og {@link IntDobbelStack}. {@code size} elementer pushes annenhver gang på
+ * stack 1 og stack 2 og poppes igjen. {@code flyttLenket} fyller stack 1 med {@code pushAll1},
+ * flytter halvparten til stack 2 med {@code transfer1to2} og tømmer stack 1 med {@code popN1}.
+ * Tidene er per runde.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DobbelStackBenchmark {
+
+    @Param({"64", "65536"})
+    int size;
+
+    // Ferdig boksede verdier, så boksing ikke måles for de generiske stakkene
+    private Integer[] verdier;
+    private List<Integer> verdiListe;
+    private Integer[] mottak;
+
+    @Setup
+    public void setup() {
+        verdier = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            verdier[i] = i;
+        }
+        verdiListe = Arrays.asList(verdier);
+        mottak = new Integer[size];
+    }
+
+    @Benchmark
+    public long fyllOgTomLenket() {
+        DobbelStackLenket<Integer> stakk = new DobbelStackLenket<>();
+        for (int i = 0; i < size; i++) {
+            if ((i & 1) == 0) {
+                stakk.push1(verdier[i]);
+            } else {
+                stakk.push2(verdier[i]);
+            }
+        }
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += ((i & 1) == 0) ? stakk.pop1() : stakk.pop2();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long fyllOgTomArray() {
+        DobbelStack<Integer> stakk = new DobbelStack<>();
+        for (int i = 0; i < size; i++) {
+            if ((i & 1) == 0) {
+                stakk.push1(verdier[i]);
+            } else {
+                stakk.push2(verdier[i]);
+            }
+        }
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += ((i & 1) == 0) ? stakk.pop1() : stakk.pop2();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long fyllOgTomInt() {
+        IntDobbelStack stakk = new IntDobbelStack();
+        for (int i = 0; i < size; i++) {
+            if ((i & 1) == 0) {
+                stakk.push1(i);
+            } else {
+                stakk.push2(i);
+            }
+        }
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += ((i & 1) == 0) ? stakk.pop1() : stakk.pop2();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int flyttLenket() {
+        DobbelStackLenket<Integer> stakk = new DobbelStackLenket<>();
+        stakk.pushAll1(verdiListe);
+        stakk.transfer1to2(size / 2);
+        stakk.popN1(stakk.size1(), mottak);
+        return stakk.size2();
+    }
+}
@@ -0,0 +1,163 @@
+package org.example.bench;
+
+import org.example.Dobbelko;
+import org.example.IntDobbelko;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vekslende arbeid foran og bak: den sirkulære {@link Dobbelko} og {@link IntDobbelko} mot den
+ * gamle utgaven med to deques som rebalanseres ({@link ToDequeDobbelko}).
+ * <p>
+ * {@code fyllOgTom*} legger inn {@code size} elementer annenhver gang foran og bak, og tar dem ut
+ * igjen annenhver gang. {@code stabil*} holder køen på {@code size} elementer og veksler mellom å
+ * legge til i én ende og fjerne i den andre, som i en arbeidskø. Tidene for {@code fyllOgTom*} er
+ * per runde, og for {@code stabil*} per operasjon.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class DobbelkoBenchmark {
+
+    private static final int STABILE_OPERASJONER = 4096;
+
+    @Param({"64", "65536"})
+    int size;
+
+    // Ferdig boksede verdier, så boksing ikke måles for de generiske køene
+    private Integer[] verdier;
+
+    private ToDequeDobbelko<Integer> stabilToDeque;
+    private Dobbelko<Integer> stabilRing;
+    private IntDobbelko stabilInt;
+
+    @Setup
+    public void setup() {
+        verdier = new Integer[Math.max(size, STABILE_OPERASJONER)];
+        for (int i = 0; i < verdier.length; i++) {
+            verdier[i] = i;
+        }
+        stabilToDeque = new ToDequeDobbelko<>();
+        stabilRing = new Dobbelko<>();
+        stabilInt = new IntDobbelko();
+        for (int i = 0; i < size; i++) {
+            stabilToDeque.leggTilBak(verdier[i]);
+            stabilRing.leggTilBak(verdier[i]);
+            stabilInt.leggTilBak(i);
+        }
+    }
+
+    @Benchmark
+    public long fyllOgTomToDeque() {
+        ToDequeDobbelko<Integer> ko = new ToDequeDobbelko<>();
+        for (int i = 0; i < size; i++) {
+            if ((i & 1) == 0) {
+                ko.leggTilForan(verdier[i]);
+            } else {
+                ko.leggTilBak(verdier[i]);
+            }
+        }
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += ((i & 1) == 0) ? ko.fjernForan() : ko.fjernBak();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long fyllOgTomRing() {
+        Dobbelko<Integer> ko = new Dobbelko<>();
+        for (int i = 0; i < size; i++) {
+            if ((i & 1) == 0) {
+                ko.leggTilForan(verdier[i]);
+            } else {
+                ko.leggTilBak(verdier[i]);
+            }
+        }
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += ((i & 1) == 0) ? ko.fjernForan() : ko.fjernBak();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long fyllOgTomInt() {
+        IntDobbelko ko = new IntDobbelko();
+        for (int i = 0; i < size; i++) {
+            if ((i & 1) == 0) {
+                ko.leggTilForan(i);
+            } else {
+                ko.leggTilBak(i);
+            }
+        }
+        long sum = 0;
+        for (int i = 0; i < size; i++) {
+            sum += ((i & 1) == 0) ? ko.fjernForan() : ko.fjernBak();
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2 * STABILE_OPERASJONER)
+    public long stabilToDeque() {
+        long sum = 0;
+        for (int i = 0; i < STABILE_OPERASJONER; i++) {
+            if ((i & 1) == 0) {
+                stabilToDeque.leggTilForan(verdier[i]);
+                sum += stabilToDeque.fjernBak();
+            } else {
+                stabilToDeque.leggTilBak(verdier[i]);
+                sum += stabilToDeque.fjernForan();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2 * STABILE_OPERASJONER)
+    public long stabilRing() {
+        long sum = 0;
+        for (int i = 0; i < STABILE_OPERASJONER; i++) {
+            if ((i & 1) == 0) {
+                stabilRing.leggTilForan(verdier[i]);
+                sum += stabilRing.fjernBak();
+            } else {
+                stabilRing.leggTilBak(verdier[i]);
+                sum += stabilRing.fjernForan();
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(2 * STABILE_OPERASJONER)
+    public long stabilInt() {
+        long sum = 0;
+        for (int i = 0; i < STABILE_OPERASJONER; i++) {
+            if ((i & 1) == 0) {
+                stabilInt.leggTilForan(i);
+                sum += stabilInt.fjernBak();
+            } else {
+                stabilInt.leggTilBak(i);
+                sum += stabilInt.fjernForan();
+            }
+        }
+        return sum;
+    }
+}
@@ -0,0 +1,145 @@
+package org.example.bench;
+
+import AdventOfCode2024.Grid;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.LinkedList;
+import java.util.Queue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Samme BFS over en labyrint på {@code size x size} ruter, skrevet på to måter:
+ * {@code bfsTegnKart} slik løserne gjorde før {@link Grid}, med {@code char[][]}, grensesjekk for
+ * hver nabo, {@code boolean[][]} og et nytt objekt per rute i en {@code LinkedList}, og
+ * {@code bfsGrid} med celle-id-er i en {@code int[]}-kø og rammen som grense. {@code naboer*}
+ * teller bare åpne naboer for hver rute, så forskjellen i selve oppslagene kan ses alene.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GridBenchmark {
+
+    private static final int[] DR = {-1, 0, 1, 0};
+    private static final int[] DC = {0, 1, 0, -1};
+
+    @Param({"141", "1001"})
+    int size;
+
+    private char[][] kart;
+    private Grid grid;
+
+    @Setup
+    public void setup() {
+        kart = AdventOfCode2024Benchmark.labyrint(size, 0.3, new SplittableRandom(42));
+        grid = Grid.av(kart, 1);
+    }
+
+    private static final class Rute {
+        final int rad, kol, steg;
+
+        Rute(int rad, int kol, int steg) {
+            this.rad = rad;
+            this.kol = kol;
+            this.steg = steg;
+        }
+    }
+
+    @Benchmark
+    public int bfsTegnKart() {
+        int n = kart.length;
+        boolean[][] besokt = new boolean[n][n];
+        Queue<Rute> ko = new LinkedList<>();
+        ko.offer(new Rute(n - 2, 1, 0));
+        besokt[n - 2][1] = true;
+        int sum = 0;
+        while (!ko.isEmpty()) {
+            Rute rute = ko.poll();
+            sum += rute.steg;
+            for (int r = 0; r < 4; r++) {
+                int rad = rute.rad + DR[r];
+                int kol = rute.kol + DC[r];
+                if (rad >= 0 && rad < n && kol >= 0 && kol < n && kart[rad][kol] != '#' && !besokt[rad][kol]) {
+                    besokt[rad][kol] = true;
+                    ko.offer(new Rute(rad, kol, rute.steg + 1));
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int bfsGrid() {
+        int[] steg = new int[grid.storrelse()];
+        boolean[] besokt = new boolean[grid.storrelse()];
+        int[] ko = new int[grid.storrelse()];
+        int hode = 0;
+        int hale = 0;
+        int start = grid.id(size - 2, 1);
+        ko[hale++] = start;
+        besokt[start] = true;
+        int sum = 0;
+        while (hode < hale) {
+            int id = ko[hode++];
+            sum += steg[id];
+            for (int r = 0; r < 4; r++) {
+                int nabo = grid.nabo(id, r);
+                byte celle = grid.get(nabo);
+                if (celle != '#' && celle != Grid.KANT && !besokt[nabo]) {
+                    besokt[nabo] = true;
+                    steg[nabo] = steg[id] + 1;
+                    ko[hale++] = nabo;
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public int naboerTegnKart() {
+        int n = kart.length;
+        int antall = 0;
+        for (int rad = 0; rad < n; rad++) {
+            for (int kol = 0; kol < n; kol++) {
+                for (int r = 0; r < 4; r++) {
+                    int nr = rad + DR[r];
+                    int nk = kol + DC[r];
+                    if (nr >= 0 && nr < n && nk >= 0 && nk < n && kart[nr][nk] != '#') {
+                        antall++;
+                    }
+                }
+            }
+        }
+        return antall;
+    }
+
+    @Benchmark
+    public int naboerGrid() {
+        int antall = 0;
+        for (int id = 0; id < grid.storrelse(); id++) {
+            if (grid.get(id) == Grid.KANT) {
+                continue;
+            }
+            for (int r = 0; r < 4; r++) {
+                byte celle = grid.get(grid.nabo(id, r));
+                if (celle != '#' && celle != Grid.KANT) {
+                    antall++;
+                }
+            }
+        }
+        return antall;
+    }
+}
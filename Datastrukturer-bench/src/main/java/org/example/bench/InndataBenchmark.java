@@ -0,0 +1,82 @@
+package org.example.bench;
+
+import AdventOfCode2024.Inndata;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Leser en fil med {@code size} linjer på formen {@code x,y} og summerer tallene, slik
+ * dag 18 gjør. {@code bufferedReader} er den gamle måten med én {@code String} per linje og
+ * {@code split}; {@code inndata} mapper filen med {@link Inndata} og tolker tallene rett fra bytene.
+ * Tidene er per hele fil, inkludert åpning.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InndataBenchmark {
+
+    @Param({"1024", "1048576"})
+    int size;
+
+    private Path fil;
+
+    @Setup
+    public void setup() throws IOException {
+        SplittableRandom random = new SplittableRandom(42);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < size; i++) {
+            sb.append(random.nextInt(100_000)).append(',').append(random.nextInt(100_000)).append('\n');
+        }
+        fil = Files.createTempFile("inndata", ".txt");
+        Files.writeString(fil, sb);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(fil);
+    }
+
+    @Benchmark
+    public long bufferedReader() throws IOException {
+        long sum = 0;
+        try (BufferedReader br = Files.newBufferedReader(fil)) {
+            String line;
+            while ((line = br.readLine()) != null) {
+                String[] parts = line.split(",");
+                sum += Integer.parseInt(parts[0].trim()) + Integer.parseInt(parts[1].trim());
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long inndata() throws IOException {
+        long sum = 0;
+        Inndata.Leser leser = Inndata.map(fil).leser();
+        while (leser.nesteLinje()) {
+            long par = leser.nestePar();
+            sum += Inndata.forste(par) + Inndata.andre(par);
+        }
+        return sum;
+    }
+}
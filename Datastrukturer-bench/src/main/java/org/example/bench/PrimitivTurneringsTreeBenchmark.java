@@ -0,0 +1,107 @@
+package org.example.bench;
+
+import org.example.DoubleTurneringsTree;
+import org.example.LongTurneringsTree;
+import org.example.TurneringsTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sammenligner oppdatering av en deltaker + lesing av vinneren i det generiske
+ * {@link TurneringsTree} (boksede verdier og Comparator) mot de primitive trærne.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class PrimitivTurneringsTreeBenchmark {
+
+    @Param({"1024", "1048576"})
+    int size;
+
+    private TurneringsTree<Long> genericLong;
+    private TurneringsTree<Double> genericDouble;
+    private LongTurneringsTree longTree;
+    private DoubleTurneringsTree doubleTree;
+
+    // Forhåndsgenererte oppdateringer, så tilfeldighetene ikke måles
+    private int[] indices;
+    private long[] longValues;
+    private double[] doubleValues;
+    private int next;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        long[] longs = new long[size];
+        double[] doubles = new double[size];
+        Long[] boxedLongs = new Long[size];
+        Double[] boxedDoubles = new Double[size];
+        for (int i = 0; i < size; i++) {
+            longs[i] = random.nextLong();
+            doubles[i] = random.nextDouble();
+            boxedLongs[i] = longs[i];
+            boxedDoubles[i] = doubles[i];
+        }
+        genericLong = new TurneringsTree<>(boxedLongs);
+        genericDouble = new TurneringsTree<>(boxedDoubles);
+        longTree = new LongTurneringsTree(longs);
+        doubleTree = new DoubleTurneringsTree(doubles);
+
+        indices = new int[4096];
+        longValues = new long[indices.length];
+        doubleValues = new double[indices.length];
+        for (int i = 0; i < indices.length; i++) {
+            indices[i] = random.nextInt(size);
+            longValues[i] = random.nextLong();
+            doubleValues[i] = random.nextDouble();
+        }
+    }
+
+    private int nextUpdate() {
+        next = (next + 1) & (indices.length - 1);
+        return next;
+    }
+
+    @Benchmark
+    public Long genericLongUpdate() {
+        int i = nextUpdate();
+        genericLong.updateParticipant(indices[i], longValues[i]);
+        return genericLong.getWinner();
+    }
+
+    @Benchmark
+    public long primitiveLongUpdate() {
+        int i = nextUpdate();
+        longTree.updateParticipant(indices[i], longValues[i]);
+        return longTree.getWinner();
+    }
+
+    @Benchmark
+    public Double genericDoubleUpdate() {
+        int i = nextUpdate();
+        genericDouble.updateParticipant(indices[i], doubleValues[i]);
+        return genericDouble.getWinner();
+    }
+
+    @Benchmark
+    public double primitiveDoubleUpdate() {
+        int i = nextUpdate();
+        doubleTree.updateParticipant(indices[i], doubleValues[i]);
+        return doubleTree.getWinner();
+    }
+}
@@ -0,0 +1,110 @@
+package org.example.bench;
+
+import org.example.ShardedTurneringsTree;
+import org.example.TurneringsTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Skalering med antall skrivende tråder: {@link TurneringsTree} med én felles lås mot
+ * {@link ShardedTurneringsTree} med én lås per deltre. Hver tråd oppdaterer tilfeldige blader.
+ * Gjennomstrømningen for hver trådmengde ligger i metodene med tilsvarende {@code @Threads}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ShardedTurneringsTreeBenchmark {
+
+    @Param({"1048576"})
+    int size;
+
+    @Param({"16"})
+    int shards;
+
+    private TurneringsTree<Integer> global;
+    private ShardedTurneringsTree<Integer> sharded;
+
+    @Setup
+    public void setup() {
+        Integer[] elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        global = new TurneringsTree<>(elements);
+        sharded = new ShardedTurneringsTree<>(elements, shards);
+    }
+
+    private void updateGlobal() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        global.updateParticipant(random.nextInt(size), random.nextInt());
+    }
+
+    private void updateSharded() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        sharded.updateParticipant(random.nextInt(size), random.nextInt());
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void enLaas1() {
+        updateGlobal();
+    }
+
+    @Benchmark
+    @Threads(1)
+    public void sharded1() {
+        updateSharded();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void enLaas2() {
+        updateGlobal();
+    }
+
+    @Benchmark
+    @Threads(2)
+    public void sharded2() {
+        updateSharded();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void enLaas4() {
+        updateGlobal();
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void sharded4() {
+        updateSharded();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void enLaas8() {
+        updateGlobal();
+    }
+
+    @Benchmark
+    @Threads(8)
+    public void sharded8() {
+        updateSharded();
+    }
+}
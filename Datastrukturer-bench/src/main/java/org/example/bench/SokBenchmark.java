@@ -0,0 +1,248 @@
+package org.example.bench;
+
+import AdventOfCode2024.Besokt;
+import AdventOfCode2024.BotteKo;
+import AdventOfCode2024.Grid;
+import AdventOfCode2024.IntKo;
+import AdventOfCode2024.LongHaug;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Køene i søkeverktøyet mot de vanlige samlingene. {@code dijkstra*} løser dag 16 (steg koster 1,
+ * å snu koster 1000) på en labyrint av {@code size x size} ruter med en {@code PriorityQueue} av
+ * tilstandsobjekter, med {@link LongHaug} og med {@link BotteKo}. {@code mangeSok*} gjør
+ * {@value #SOK} korte bredde-først-søk fra tilfeldige ruter, som dag 10 gjør fra hver trailhead,
+ * med et nytt {@code boolean[]} per søk eller med én {@link Besokt} som tømmes i O(1).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SokBenchmark {
+
+    private static final int STEG = 1;
+    private static final int SNU = 1000;
+    private static final int SOK = 256;
+    private static final int MAKS_DYBDE = 9;
+
+    @Param({"141", "1001"})
+    int size;
+
+    private Grid grid;
+    private int start;
+    private int slutt;
+    private int[] sokStarter;
+    private IntKo ko;
+    private Besokt besokt;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        grid = Grid.av(AdventOfCode2024Benchmark.labyrint(size, 0.3, random), 1);
+        start = grid.finn((byte) 'S');
+        slutt = grid.finn((byte) 'E');
+        sokStarter = new int[SOK];
+        for (int i = 0; i < SOK; i++) {
+            int id;
+            do {
+                id = grid.id(random.nextInt(size), random.nextInt(size));
+            } while (grid.get(id) == '#');
+            sokStarter[i] = id;
+        }
+        ko = new IntKo(grid.storrelse());
+        besokt = new Besokt(grid.storrelse());
+    }
+
+    private boolean apen(int id) {
+        byte celle = grid.get(id);
+        return celle != '#' && celle != Grid.KANT;
+    }
+
+    private static final class Tilstand implements Comparable<Tilstand> {
+        final int tilstand, kost;
+
+        Tilstand(int tilstand, int kost) {
+            this.tilstand = tilstand;
+            this.kost = kost;
+        }
+
+        @Override
+        public int compareTo(Tilstand o) {
+            return Integer.compare(kost, o.kost);
+        }
+    }
+
+    @Benchmark
+    public int dijkstraPriorityQueue() {
+        int[] minKost = new int[grid.storrelse() * 4];
+        Arrays.fill(minKost, Integer.MAX_VALUE);
+        PriorityQueue<Tilstand> ko = new PriorityQueue<>();
+        minKost[start * 4 + Grid.OST] = 0;
+        ko.offer(new Tilstand(start * 4 + Grid.OST, 0));
+        while (!ko.isEmpty()) {
+            Tilstand t = ko.poll();
+            if (t.kost > minKost[t.tilstand]) {
+                continue;
+            }
+            int celle = t.tilstand >>> 2;
+            int retning = t.tilstand & 3;
+            if (celle == slutt) {
+                return t.kost;
+            }
+            int frem = grid.nabo(celle, retning);
+            if (apen(frem) && t.kost + STEG < minKost[frem * 4 + retning]) {
+                minKost[frem * 4 + retning] = t.kost + STEG;
+                ko.offer(new Tilstand(frem * 4 + retning, t.kost + STEG));
+            }
+            for (int snudd : new int[]{Grid.hoyre(retning), Grid.venstre(retning)}) {
+                if (t.kost + SNU < minKost[celle * 4 + snudd]) {
+                    minKost[celle * 4 + snudd] = t.kost + SNU;
+                    ko.offer(new Tilstand(celle * 4 + snudd, t.kost + SNU));
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int dijkstraLongHaug() {
+        int[] minKost = new int[grid.storrelse() * 4];
+        Arrays.fill(minKost, Integer.MAX_VALUE);
+        LongHaug haug = new LongHaug(grid.storrelse());
+        minKost[start * 4 + Grid.OST] = 0;
+        haug.leggTil(LongHaug.pakk(0, start * 4 + Grid.OST));
+        while (!haug.isEmpty()) {
+            long nokkel = haug.taUt();
+            int tilstand = LongHaug.tilstand(nokkel);
+            int kost = LongHaug.kost(nokkel);
+            if (kost > minKost[tilstand]) {
+                continue;
+            }
+            int celle = tilstand >>> 2;
+            int retning = tilstand & 3;
+            if (celle == slutt) {
+                return kost;
+            }
+            int frem = grid.nabo(celle, retning);
+            if (apen(frem) && kost + STEG < minKost[frem * 4 + retning]) {
+                minKost[frem * 4 + retning] = kost + STEG;
+                haug.leggTil(LongHaug.pakk(kost + STEG, frem * 4 + retning));
+            }
+            for (int snudd : new int[]{Grid.hoyre(retning), Grid.venstre(retning)}) {
+                if (kost + SNU < minKost[celle * 4 + snudd]) {
+                    minKost[celle * 4 + snudd] = kost + SNU;
+                    haug.leggTil(LongHaug.pakk(kost + SNU, celle * 4 + snudd));
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int dijkstraBotteKo() {
+        int[] minKost = new int[grid.storrelse() * 4];
+        Arrays.fill(minKost, Integer.MAX_VALUE);
+        BotteKo ko = new BotteKo(SNU);
+        minKost[start * 4 + Grid.OST] = 0;
+        ko.leggTil(0, start * 4 + Grid.OST);
+        while (!ko.isEmpty()) {
+            int tilstand = ko.taUt();
+            int kost = ko.prioritet();
+            if (kost > minKost[tilstand]) {
+                continue;
+            }
+            int celle = tilstand >>> 2;
+            int retning = tilstand & 3;
+            if (celle == slutt) {
+                return kost;
+            }
+            int frem = grid.nabo(celle, retning);
+            if (apen(frem) && kost + STEG < minKost[frem * 4 + retning]) {
+                minKost[frem * 4 + retning] = kost + STEG;
+                ko.leggTil(kost + STEG, frem * 4 + retning);
+            }
+            for (int snudd : new int[]{Grid.hoyre(retning), Grid.venstre(retning)}) {
+                if (kost + SNU < minKost[celle * 4 + snudd]) {
+                    minKost[celle * 4 + snudd] = kost + SNU;
+                    ko.leggTil(kost + SNU, celle * 4 + snudd);
+                }
+            }
+        }
+        return -1;
+    }
+
+    @Benchmark
+    public int mangeSokNyeArrayer() {
+        int antall = 0;
+        for (int sokStart : sokStarter) {
+            boolean[] besokt = new boolean[grid.storrelse()];
+            int[] ko = new int[grid.storrelse()];
+            int[] dybde = new int[grid.storrelse()];
+            int hode = 0;
+            int hale = 0;
+            ko[hale++] = sokStart;
+            besokt[sokStart] = true;
+            while (hode < hale) {
+                int id = ko[hode++];
+                antall++;
+                if (dybde[id] == MAKS_DYBDE) {
+                    continue;
+                }
+                for (int r = 0; r < 4; r++) {
+                    int nabo = grid.nabo(id, r);
+                    if (apen(nabo) && !besokt[nabo]) {
+                        besokt[nabo] = true;
+                        dybde[nabo] = dybde[id] + 1;
+                        ko[hale++] = nabo;
+                    }
+                }
+            }
+        }
+        return antall;
+    }
+
+    @Benchmark
+    public int mangeSokEpoke() {
+        int antall = 0;
+        for (int sokStart : sokStarter) {
+            besokt.nyttSok();
+            ko.clear();
+            ko.leggTil(sokStart);
+            besokt.besok(sokStart);
+            // Køen tømmes ett nivå om gangen, så dybden trenger ikke lagres per rute
+            for (int dybde = 0; !ko.isEmpty(); dybde++) {
+                for (int i = ko.size(); i > 0; i--) {
+                    int id = ko.taUt();
+                    antall++;
+                    if (dybde == MAKS_DYBDE) {
+                        continue;
+                    }
+                    for (int r = 0; r < 4; r++) {
+                        int nabo = grid.nabo(id, r);
+                        if (apen(nabo) && besokt.besok(nabo)) {
+                            ko.leggTil(nabo);
+                        }
+                    }
+                }
+            }
+        }
+        return antall;
+    }
+}
@@ -0,0 +1,121 @@
+package org.example.bench;
+
+import org.example.TurneringsKo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.PriorityQueue;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Dijkstra med decrease-key på en tilfeldig graf: {@link TurneringsKo#changeKey} (O(log n))
+ * mot {@link PriorityQueue} der en avstand endres med {@code remove(Object)} (O(n)) og {@code offer}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TurneringsKoDijkstraBenchmark {
+
+    private static final int EDGES_PER_NODE = 8;
+    private static final Comparator<Avstand> BY_DISTANCE = Comparator.comparingLong(Avstand::distance);
+
+    record Avstand(int node, long distance) {
+    }
+
+    @Param({"10000", "50000"})
+    int nodes;
+
+    // Kantene til node u ligger på [u * EDGES_PER_NODE, (u + 1) * EDGES_PER_NODE)
+    private int[] targets;
+    private int[] weights;
+
+    @Setup
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        targets = new int[nodes * EDGES_PER_NODE];
+        weights = new int[targets.length];
+        for (int e = 0; e < targets.length; e++) {
+            targets[e] = random.nextInt(nodes);
+            weights[e] = 1 + random.nextInt(100);
+        }
+    }
+
+    @Benchmark
+    public long turneringsKo() {
+        long[] dist = new long[nodes];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        int[] handles = new int[nodes];
+        Arrays.fill(handles, -1);
+        TurneringsKo<Avstand> queue = new TurneringsKo<>(BY_DISTANCE);
+
+        dist[0] = 0;
+        handles[0] = queue.insert(new Avstand(0, 0));
+        long sum = 0;
+        Avstand current;
+        while ((current = queue.poll()) != null) {
+            int u = current.node();
+            handles[u] = -1;
+            sum += current.distance();
+            for (int e = u * EDGES_PER_NODE; e < (u + 1) * EDGES_PER_NODE; e++) {
+                int v = targets[e];
+                long candidate = current.distance() + weights[e];
+                if (candidate < dist[v]) {
+                    dist[v] = candidate;
+                    if (handles[v] >= 0) {
+                        queue.changeKey(handles[v], new Avstand(v, candidate));
+                    } else {
+                        handles[v] = queue.insert(new Avstand(v, candidate));
+                    }
+                }
+            }
+        }
+        return sum;
+    }
+
+    @Benchmark
+    public long priorityQueueRemove() {
+        long[] dist = new long[nodes];
+        Arrays.fill(dist, Long.MAX_VALUE);
+        Avstand[] queued = new Avstand[nodes];
+        PriorityQueue<Avstand> queue = new PriorityQueue<>(BY_DISTANCE);
+
+        dist[0] = 0;
+        queued[0] = new Avstand(0, 0);
+        queue.offer(queued[0]);
+        long sum = 0;
+        Avstand current;
+        while ((current = queue.poll()) != null) {
+            int u = current.node();
+            queued[u] = null;
+            sum += current.distance();
+            for (int e = u * EDGES_PER_NODE; e < (u + 1) * EDGES_PER_NODE; e++) {
+                int v = targets[e];
+                long candidate = current.distance() + weights[e];
+                if (candidate < dist[v]) {
+                    dist[v] = candidate;
+                    if (queued[v] != null) {
+                        queue.remove(queued[v]);
+                    }
+                    queued[v] = new Avstand(v, candidate);
+                    queue.offer(queued[v]);
+                }
+            }
+        }
+        return sum;
+    }
+}
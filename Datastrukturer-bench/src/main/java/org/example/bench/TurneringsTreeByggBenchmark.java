@@ -0,0 +1,63 @@
+package org.example.bench;
+
+import org.example.TurneringsTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.SplittableRandom;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Måler hvordan byggingen av et stort {@link TurneringsTree} skalerer med antall kjerner.
+ * Konstruktøren kjøres inne i en fork/join-pool med {@code threads} tråder, og de parallelle
+ * nivåene i byggingen bruker da den poolen.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3)
+@Measurement(iterations = 5)
+@Fork(value = 1, jvmArgsAppend = "-Xmx4g")
+@State(Scope.Benchmark)
+public class TurneringsTreeByggBenchmark {
+
+    @Param({"1048576", "4194304"})
+    int size;
+
+    @Param({"1", "2", "4", "8"})
+    int threads;
+
+    private Integer[] elements;
+    private ForkJoinPool pool;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = random.nextInt();
+        }
+        pool = new ForkJoinPool(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public Integer bygg() {
+        return pool.submit(() -> new TurneringsTree<>(elements)).join().getWinner();
+    }
+}
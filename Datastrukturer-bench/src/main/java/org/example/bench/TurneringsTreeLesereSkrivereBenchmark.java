@@ -0,0 +1,80 @@
+package org.example.bench;
+
+import org.example.TurneringsTree;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Group;
+import org.openjdk.jmh.annotations.GroupThreads;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Stresstest og gjennomstrømning for {@link TurneringsTree} med lesere som spør etter vinneren
+ * mens skrivere endrer, setter inn og sletter blader.
+ * <p>
+ * Deltaker 0 har hele tiden den største verdien, og ingen skriver rører den. Enhver lesing som
+ * gir noe annet har sett et tre midt i en endring, og da feiler benchmarken.
+ * Antall lesere og skrivere styres med {@code -tg lesere,skrivere,innsettere}, f.eks. {@code -tg 8,2,1}.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Group)
+public class TurneringsTreeLesereSkrivereBenchmark {
+
+    private static final int LEDER = Integer.MAX_VALUE;
+
+    @Param({"1024", "65536"})
+    int size;
+
+    private TurneringsTree<Integer> tree;
+
+    @Setup
+    public void setup() {
+        Integer[] elements = new Integer[size];
+        for (int i = 0; i < size; i++) {
+            elements[i] = i;
+        }
+        elements[0] = LEDER;
+        tree = new TurneringsTree<>(elements);
+    }
+
+    @Benchmark
+    @Group("lesOgSkriv")
+    @GroupThreads(4)
+    public Integer leser() {
+        Integer winner = tree.getWinner();
+        if (winner == null || winner != LEDER) {
+            throw new IllegalStateException("Inkonsistent vinner lest: " + winner);
+        }
+        return winner;
+    }
+
+    @Benchmark
+    @Group("lesOgSkriv")
+    @GroupThreads(1)
+    public void skriver() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        tree.updateParticipant(1 + random.nextInt(size - 1), random.nextInt(LEDER));
+    }
+
+    @Benchmark
+    @Group("lesOgSkriv")
+    @GroupThreads(1)
+    public void innsetter() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        tree.deleteParticipant(tree.insertParticipant(random.nextInt(LEDER)));
+    }
+}
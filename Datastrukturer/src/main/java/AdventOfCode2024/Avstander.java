@@ -0,0 +1,70 @@
+package AdventOfCode2024;
+
+import java.util.Arrays;
+
+/**
+ * Avstand eller kostnad for tilstandene {@code 0..storrelse-1}, som kan nullstilles i O(1) på
+ * samme måte som {@link Besokt}: en avstand gjelder bare hvis den ble satt i det gjeldende
+ * søket, ellers er den {@link #UKJENT}. Dermed kan samme arrayer brukes til alle søkene i en
+ * løsning i stedet for et nytt {@code int[]} med {@code Arrays.fill} hver gang.
+ */
+public final class Avstander {
+
+    /** Avstanden til en tilstand som ikke er nådd i dette søket. */
+    public static final int UKJENT = Integer.MAX_VALUE;
+
+    private final int[] avstand;
+    private final int[] epoke;
+    private int gjeldende = 1;
+
+    /**
+     * @param storrelse Antall tilstander, for eksempel {@link Grid#storrelse()}.
+     */
+    public Avstander(int storrelse) {
+        avstand = new int[storrelse];
+        epoke = new int[storrelse];
+    }
+
+    /**
+     * Starter et nytt søk der alle avstandene er {@link #UKJENT}.
+     */
+    public void nyttSok() {
+        if (++gjeldende == Integer.MAX_VALUE) {
+            Arrays.fill(epoke, 0);
+            gjeldende = 1;
+        }
+    }
+
+    /**
+     * @return Avstanden satt i dette søket, eller {@link #UKJENT}.
+     */
+    public int get(int tilstand) {
+        return epoke[tilstand] == gjeldende ? avstand[tilstand] : UKJENT;
+    }
+
+    public boolean erKjent(int tilstand) {
+        return epoke[tilstand] == gjeldende;
+    }
+
+    public void set(int tilstand, int avstand) {
+        this.avstand[tilstand] = avstand;
+        epoke[tilstand] = gjeldende;
+    }
+
+    /**
+     * Setter avstanden hvis den er kortere enn den kjente, slik Dijkstra gjør.
+     *
+     * @return true hvis avstanden ble satt.
+     */
+    public boolean forbedre(int tilstand, int avstand) {
+        if (avstand >= get(tilstand)) {
+            return false;
+        }
+        set(tilstand, avstand);
+        return true;
+    }
+
+    public int storrelse() {
+        return avstand.length;
+    }
+}
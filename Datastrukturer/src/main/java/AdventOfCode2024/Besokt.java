@@ -0,0 +1,55 @@
+package AdventOfCode2024;
+
+import java.util.Arrays;
+
+/**
+ * Mengde av besøkte tilstander {@code 0..storrelse-1} som kan tømmes i O(1), så samme array
+ * kan brukes til mange søk etter hverandre. Hver tilstand har et epokenummer, og den regnes som
+ * besøkt bare hvis nummeret er lik det gjeldende søkets; {@link #nyttSok()} teller epoken opp i
+ * stedet for å nullstille arrayet. Et nytt {@code boolean[]} per søk koster både allokering og
+ * nullstilling av hele kartet, også når søket bare når noen få ruter.
+ */
+public final class Besokt {
+
+    private final int[] epoke;
+    private int gjeldende = 1;
+
+    /**
+     * @param storrelse Antall tilstander, for eksempel {@link Grid#storrelse()}.
+     */
+    public Besokt(int storrelse) {
+        epoke = new int[storrelse];
+    }
+
+    /**
+     * Starter et nytt søk der ingen tilstander er besøkt.
+     */
+    public void nyttSok() {
+        if (++gjeldende == Integer.MAX_VALUE) {
+            // Etter over to milliarder søk må gamle epoker ikke kunne forveksles med nye
+            Arrays.fill(epoke, 0);
+            gjeldende = 1;
+        }
+    }
+
+    public boolean erBesokt(int tilstand) {
+        return epoke[tilstand] == gjeldende;
+    }
+
+    /**
+     * Merker tilstanden som besøkt.
+     *
+     * @return true hvis tilstanden ikke var besøkt i dette søket fra før.
+     */
+    public boolean besok(int tilstand) {
+        if (epoke[tilstand] == gjeldende) {
+            return false;
+        }
+        epoke[tilstand] = gjeldende;
+        return true;
+    }
+
+    public int storrelse() {
+        return epoke.length;
+    }
+}
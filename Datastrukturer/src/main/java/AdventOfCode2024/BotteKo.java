@@ -0,0 +1,98 @@
+package AdventOfCode2024;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Prioritetskø for Dijkstra når alle kantvektene er små heltall (Dials algoritme). Det er
+ * {@code maksVekt + 1} bøtter i en ring, én per prioritet fra den gjeldende og
+ * {@code maksVekt} fremover. Siden Dijkstra aldri legger til noe billigere enn det den nettopp
+ * tok ut, og aldri mer enn {@code maksVekt} dyrere, havner alle tilstandene i riktig bøtte, og
+ * både {@link #leggTil} og {@link #taUt} er O(1) pluss tomme bøtter som hoppes over.
+ * <p>
+ * Tilstandene er int-verdier, for eksempel {@code celle * 4 + retning}. Rekkefølgen innenfor
+ * en bøtte er ikke definert.
+ */
+public final class BotteKo {
+
+    private final int[][] botter;
+    private final int[] antallIBotte;
+    private int gjeldende;  // Prioriteten til bøtta som tømmes nå
+    private int antall;
+
+    /**
+     * @param maksVekt Den største forskjellen mellom prioriteten til en ny tilstand og den som sist ble tatt ut.
+     * @throws IllegalArgumentException hvis maksVekt er negativ eller for stor.
+     */
+    public BotteKo(int maksVekt) {
+        if (maksVekt < 0 || maksVekt >= 1 << 24) {
+            throw new IllegalArgumentException("Ugyldig maksVekt: " + maksVekt);
+        }
+        botter = new int[maksVekt + 1][]; // Bøttene lages først når de brukes
+        antallIBotte = new int[maksVekt + 1];
+    }
+
+    /**
+     * Legger til en tilstand med en gitt prioritet.
+     *
+     * @throws IllegalArgumentException hvis prioriteten er lavere enn den som sist ble tatt ut,
+     *                                  eller mer enn {@code maksVekt} høyere.
+     */
+    public void leggTil(int prioritet, int tilstand) {
+        if (prioritet < gjeldende || prioritet - gjeldende >= botter.length) {
+            throw new IllegalArgumentException("Prioritet " + prioritet + " er utenfor ["
+                    + gjeldende + ", " + (gjeldende + botter.length - 1) + "]");
+        }
+        int b = prioritet % botter.length;
+        int[] botte = botter[b];
+        if (botte == null) {
+            botte = botter[b] = new int[4];
+        } else if (antallIBotte[b] == botte.length) {
+            botte = botter[b] = Arrays.copyOf(botte, Math.multiplyExact(botte.length, 2));
+        }
+        botte[antallIBotte[b]++] = tilstand;
+        antall++;
+    }
+
+    /**
+     * Tar ut en tilstand med lavest prioritet. Prioriteten kan leses med {@link #prioritet()} etterpå.
+     *
+     * @throws NoSuchElementException hvis køen er tom.
+     */
+    public int taUt() {
+        if (antall == 0) {
+            throw new NoSuchElementException();
+        }
+        int b = gjeldende % botter.length;
+        while (antallIBotte[b] == 0) {
+            gjeldende++;
+            b = b + 1 == botter.length ? 0 : b + 1;
+        }
+        antall--;
+        return botter[b][--antallIBotte[b]];
+    }
+
+    /**
+     * @return Prioriteten til tilstanden som sist ble tatt ut.
+     */
+    public int prioritet() {
+        return gjeldende;
+    }
+
+    public boolean isEmpty() {
+        return antall == 0;
+    }
+
+    public int size() {
+        return antall;
+    }
+
+    /**
+     * Tømmer køen og starter prioritetene på 0 igjen. Bøttene beholdes.
+     */
+    public void clear() {
+        Arrays.fill(antallIBotte, 0);
+        gjeldende = 0;
+        antall = 0;
+    }
+}
@@ -0,0 +1,319 @@
+package AdventOfCode2024;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Todimensjonalt kart lagret rad for rad i én flat {@code byte[]}, med en ramme av
+ * {@link #KANT}-celler rundt. Rammen gjør at naboer kan leses uten grensesjekk: går man ut av
+ * kartet, havner man på en {@code KANT}-celle, som løserne behandler som vegg. Er rammen
+ * {@code r} celler tykk, kan man gå {@code r} steg ut fra en hvilken som helst celle.
+ * <p>
+ * Cellene adresseres med en {@code int}-id, som er indeksen i arrayen, i stedet for
+ * posisjonsobjekter. Naboen i en retning er {@code id + retning(r)}, så nabo-løkker allokerer
+ * ingenting:
+ * <pre>{@code
+ * for (int r = 0; r < 4; r++) {
+ *     int nabo = grid.nabo(id, r);
+ *     if (grid.get(nabo) != '#' && grid.get(nabo) != Grid.KANT) { ... }
+ * }
+ * }</pre>
+ * Alle cellene i kartet besøkes med {@code for (int id = 0; id < grid.storrelse(); id++)} og
+ * {@code grid.get(id) != KANT}. Tegnene antas å være ASCII.
+ */
+public final class Grid {
+
+    /** Verdien til cellene i rammen, og til cellene som mangler når en rad er kortere enn første rad. */
+    public static final byte KANT = 0;
+
+    /** Retningene for {@link #retning} og {@link #nabo}, med klokka fra nord. */
+    public static final int NORD = 0, OST = 1, SOR = 2, VEST = 3;
+
+    private final byte[] celler;
+    private final int bredde;
+    private final int hoyde;
+    private final int ramme;
+    private final int radlengde;     // bredde + 2 * ramme
+    private final int[] retninger4;  // N, Ø, S, V
+    private final int[] retninger8;  // N, NØ, Ø, SØ, S, SV, V, NV
+
+    /**
+     * Oppretter et kart der alle cellene har samme verdi.
+     *
+     * @param bredde Antall kolonner.
+     * @param hoyde  Antall rader.
+     * @param ramme  Antall {@link #KANT}-celler rundt kartet, minst 1 for at naboer ikke skal trenge grensesjekk.
+     * @param fyll   Verdien til alle cellene i kartet.
+     * @throws IllegalArgumentException hvis en av størrelsene er negativ eller kartet blir for stort.
+     */
+    public Grid(int bredde, int hoyde, int ramme, byte fyll) {
+        this(bredde, hoyde, ramme, nyeCeller(bredde, hoyde, ramme));
+        for (int rad = 0; rad < hoyde; rad++) {
+            Arrays.fill(celler, id(rad, 0), id(rad, 0) + bredde, fyll);
+        }
+    }
+
+    private Grid(int bredde, int hoyde, int ramme, byte[] celler) {
+        this.bredde = bredde;
+        this.hoyde = hoyde;
+        this.ramme = ramme;
+        this.radlengde = bredde + 2 * ramme;
+        this.celler = celler;
+        this.retninger4 = new int[]{-radlengde, 1, radlengde, -1};
+        this.retninger8 = new int[]{-radlengde, -radlengde + 1, 1, radlengde + 1,
+                radlengde, radlengde - 1, -1, -radlengde - 1};
+    }
+
+    private static byte[] nyeCeller(int bredde, int hoyde, int ramme) {
+        if (bredde < 0 || hoyde < 0 || ramme < 0) {
+            throw new IllegalArgumentException("Ugyldig størrelse: " + bredde + "x" + hoyde + ", ramme " + ramme);
+        }
+        long storrelse = (bredde + 2L * ramme) * (hoyde + 2L * ramme);
+        if (storrelse > Integer.MAX_VALUE - 8) {
+            throw new IllegalArgumentException("Kartet er for stort: " + bredde + "x" + hoyde);
+        }
+        return new byte[(int) storrelse];
+    }
+
+    /**
+     * Leser et kart fra inputen, fra første linje til første tomme linje eller slutten av inputen.
+     *
+     * @param input Inputen.
+     * @param ramme Antall {@link #KANT}-celler rundt kartet.
+     * @throws IllegalArgumentException hvis inputen ikke har noen rader.
+     */
+    public static Grid les(Inndata input, int ramme) {
+        return les(input.leser(), ramme);
+    }
+
+    /**
+     * Leser et kart fra leserens neste linje til første tomme linje eller slutten av inputen.
+     * Tomme linjer foran kartet hoppes over. Etterpå står leseren på den tomme linjen etter
+     * kartet, så resten av inputen kan leses videre. Bredden er lengden på første rad; lengre
+     * rader kuttes og kortere rader fylles ut med {@link #KANT}.
+     *
+     * @param leser Leseren kartet leses fra.
+     * @param ramme Antall {@link #KANT}-celler rundt kartet.
+     * @throws IllegalArgumentException hvis det ikke er flere rader.
+     */
+    public static Grid les(Inndata.Leser leser, int ramme) {
+        boolean funnet;
+        while ((funnet = leser.nesteLinje()) && leser.linjeLengde() == 0) {
+            // Hopp over tomme linjer foran kartet
+        }
+        if (!funnet) {
+            throw new IllegalArgumentException("Fant ikke noe kart i inputen");
+        }
+        int bredde = leser.linjeLengde();
+        int radlengde = bredde + 2 * ramme;
+        byte[] celler = new byte[radlengde * (2 * ramme + 16)];
+        int hoyde = 0;
+        do {
+            int slutt = (ramme + hoyde + 1 + ramme) * radlengde; // Plass til raden og rammen under
+            if (slutt > celler.length) {
+                celler = Arrays.copyOf(celler, Math.max(slutt, celler.length * 2));
+            }
+            leser.kopierLinje(celler, (ramme + hoyde) * radlengde + ramme, bredde);
+            hoyde++;
+        } while (leser.nesteLinje() && leser.linjeLengde() > 0);
+        return new Grid(bredde, hoyde, ramme, Arrays.copyOf(celler, radlengde * (hoyde + 2 * ramme)));
+    }
+
+    /**
+     * Lager et kart av tekstrader. Bredden er lengden på første rad.
+     *
+     * @param rader Radene i kartet.
+     * @param ramme Antall {@link #KANT}-celler rundt kartet.
+     * @throws IllegalArgumentException hvis det ikke er noen rader.
+     */
+    public static Grid av(List<String> rader, int ramme) {
+        if (rader.isEmpty()) {
+            throw new IllegalArgumentException("Kartet har ingen rader");
+        }
+        Grid grid = new Grid(rader.get(0).length(), rader.size(), ramme, nyeCeller(rader.get(0).length(), rader.size(), ramme));
+        for (int rad = 0; rad < grid.hoyde; rad++) {
+            String linje = rader.get(rad);
+            int start = grid.id(rad, 0);
+            for (int kol = 0; kol < Math.min(grid.bredde, linje.length()); kol++) {
+                grid.celler[start + kol] = (byte) linje.charAt(kol);
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * Lager et kart av tekstrader. Bredden er lengden på første rad.
+     */
+    public static Grid av(String[] rader, int ramme) {
+        return av(Arrays.asList(rader), ramme);
+    }
+
+    /**
+     * Lager et kart av et tegnrutenett. Bredden er lengden på første rad.
+     *
+     * @throws IllegalArgumentException hvis det ikke er noen rader.
+     */
+    public static Grid av(char[][] rader, int ramme) {
+        if (rader.length == 0) {
+            throw new IllegalArgumentException("Kartet har ingen rader");
+        }
+        Grid grid = new Grid(rader[0].length, rader.length, ramme, nyeCeller(rader[0].length, rader.length, ramme));
+        for (int rad = 0; rad < grid.hoyde; rad++) {
+            int start = grid.id(rad, 0);
+            for (int kol = 0; kol < Math.min(grid.bredde, rader[rad].length); kol++) {
+                grid.celler[start + kol] = (byte) rader[rad][kol];
+            }
+        }
+        return grid;
+    }
+
+    /**
+     * @return En kopi med egne celler, for løsere som endrer kartet.
+     */
+    public Grid kopi() {
+        return new Grid(bredde, hoyde, ramme, celler.clone());
+    }
+
+    public int bredde() {
+        return bredde;
+    }
+
+    public int hoyde() {
+        return hoyde;
+    }
+
+    public int ramme() {
+        return ramme;
+    }
+
+    /**
+     * @return Antall celler inkludert rammen; alle id-er er mindre enn dette.
+     */
+    public int storrelse() {
+        return celler.length;
+    }
+
+    /**
+     * @return Id-en til cellen i en gitt rad og kolonne. Rader og kolonner inntil {@link #ramme()}
+     * utenfor kartet gir id-en til en {@link #KANT}-celle.
+     */
+    public int id(int rad, int kol) {
+        return (rad + ramme) * radlengde + kol + ramme;
+    }
+
+    /**
+     * @return Raden til cellen.
+     */
+    public int rad(int id) {
+        return id / radlengde - ramme;
+    }
+
+    /**
+     * @return Kolonnen til cellen.
+     */
+    public int kol(int id) {
+        return id % radlengde - ramme;
+    }
+
+    /**
+     * @return true hvis raden og kolonnen er inne i kartet, ikke i rammen eller utenfor.
+     */
+    public boolean erInnenfor(int rad, int kol) {
+        return rad >= 0 && rad < hoyde && kol >= 0 && kol < bredde;
+    }
+
+    public byte get(int id) {
+        return celler[id];
+    }
+
+    public byte get(int rad, int kol) {
+        return celler[id(rad, kol)];
+    }
+
+    public void set(int id, byte verdi) {
+        celler[id] = verdi;
+    }
+
+    /**
+     * @return Hvor mye id-en endres av ett steg i retningen {@link #NORD}, {@link #OST}, {@link #SOR} eller {@link #VEST}.
+     */
+    public int retning(int retning) {
+        return retninger4[retning];
+    }
+
+    /**
+     * @return Hvor mye id-en endres av ett steg i en av åtte retninger, med klokka fra nord (0 = N, 1 = NØ, ..., 7 = NV).
+     */
+    public int retning8(int retning) {
+        return retninger8[retning];
+    }
+
+    /**
+     * @return Hvor mye id-en endres av å flytte {@code dRad} rader og {@code dKol} kolonner.
+     */
+    public int forskyvning(int dRad, int dKol) {
+        return dRad * radlengde + dKol;
+    }
+
+    /**
+     * @return Naboen i retningen {@link #NORD}, {@link #OST}, {@link #SOR} eller {@link #VEST}.
+     */
+    public int nabo(int id, int retning) {
+        return id + retninger4[retning];
+    }
+
+    /**
+     * @return Retningen etter å snu 90 grader med klokka.
+     */
+    public static int hoyre(int retning) {
+        return (retning + 1) & 3;
+    }
+
+    /**
+     * @return Retningen etter å snu 90 grader mot klokka.
+     */
+    public static int venstre(int retning) {
+        return (retning + 3) & 3;
+    }
+
+    /**
+     * @return Id-en til første celle med verdien, lest rad for rad, eller -1 hvis ingen har den.
+     */
+    public int finn(byte verdi) {
+        for (int id = 0; id < celler.length; id++) {
+            if (celler[id] == verdi) {
+                return id;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * @return Antall celler med verdien.
+     */
+    public int antall(byte verdi) {
+        int antall = 0;
+        for (byte celle : celler) {
+            if (celle == verdi) {
+                antall++;
+            }
+        }
+        return antall;
+    }
+
+    /**
+     * @return Kartet som tekst, én rad per linje, uten rammen.
+     */
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder(hoyde * (bredde + 1));
+        for (int rad = 0; rad < hoyde; rad++) {
+            for (int kol = 0; kol < bredde; kol++) {
+                byte celle = get(rad, kol);
+                sb.append(celle == KANT ? ' ' : (char) celle);
+            }
+            sb.append('\n');
+        }
+        return sb.toString();
+    }
+}
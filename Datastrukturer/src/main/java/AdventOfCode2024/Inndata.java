@@ -0,0 +1,402 @@
+package AdventOfCode2024;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+
+/**
+ * Inputfil som leses rett fra en minnemappet fil, uten å lage en {@code String} per linje.
+ * <p>
+ * Filen mappes med {@link FileChannel#map} i deler på 1 GiB, siden én {@link ByteBuffer} bare kan
+ * adresseres med {@code int}. Alle posisjoner er derfor {@code long}, så filer på flere GB går fint.
+ * Teksten antas å være ASCII, som alle Advent of Code-input er.
+ * <p>
+ * Inputen leses med en {@link Leser}, som går gjennom linjene og tolker tall direkte fra bytene,
+ * uten å allokere noe per linje:
+ * <pre>{@code
+ * Inndata.Leser leser = Inndata.map(fil).leser();
+ * while (leser.nesteLinje()) {
+ *     long par = leser.nestePar();   // "12,34"
+ *     int x = Inndata.forste(par);
+ *     int y = Inndata.andre(par);
+ * }
+ * }</pre>
+ * Et {@link #utsnitt} deler bytene med inputen det er laget fra.
+ */
+public final class Inndata {
+
+    private static final int DEL_BITS = 30;
+    private static final long DEL_STORRELSE = 1L << DEL_BITS;
+    private static final long DEL_MASKE = DEL_STORRELSE - 1;
+    private static final long MAKS_FOR_SIFFER = (Long.MAX_VALUE - 9) / 10;
+
+    private final ByteBuffer[] deler;
+    private final long start;
+    private final long lengde;
+
+    private Inndata(ByteBuffer[] deler, long start, long lengde) {
+        this.deler = deler;
+        this.start = start;
+        this.lengde = lengde;
+    }
+
+    /**
+     * Mapper en fil inn i minnet. Kanalen lukkes med en gang; mappingen lever videre til
+     * inputen ikke lenger er i bruk.
+     *
+     * @param fil Filen som skal leses.
+     * @throws IOException hvis filen ikke kan åpnes eller mappes.
+     */
+    public static Inndata map(Path fil) throws IOException {
+        try (FileChannel kanal = FileChannel.open(fil, StandardOpenOption.READ)) {
+            long storrelse = kanal.size();
+            ByteBuffer[] deler = new ByteBuffer[(int) ((storrelse + DEL_STORRELSE - 1) >>> DEL_BITS)];
+            for (int i = 0; i < deler.length; i++) {
+                long fra = (long) i << DEL_BITS;
+                deler[i] = kanal.map(FileChannel.MapMode.READ_ONLY, fra, Math.min(DEL_STORRELSE, storrelse - fra));
+            }
+            return new Inndata(deler, 0, storrelse);
+        }
+    }
+
+    /**
+     * Lager en input av tekst som allerede er i minnet, f.eks. eksemplene i oppgaveteksten.
+     */
+    public static Inndata av(String tekst) {
+        byte[] bytes = tekst.getBytes(StandardCharsets.UTF_8);
+        return new Inndata(new ByteBuffer[]{ByteBuffer.wrap(bytes)}, 0, bytes.length);
+    }
+
+    /**
+     * @return Antall bytes i inputen.
+     */
+    public long lengde() {
+        return lengde;
+    }
+
+    /**
+     * Henter én byte.
+     *
+     * @param posisjon Posisjonen i inputen, fra 0 til {@link #lengde()}.
+     * @throws IndexOutOfBoundsException hvis posisjonen er utenfor inputen.
+     */
+    public byte get(long posisjon) {
+        if (posisjon < 0 || posisjon >= lengde) {
+            throw new IndexOutOfBoundsException("Posisjon " + posisjon + " er utenfor inputen på " + lengde + " bytes");
+        }
+        long absolutt = start + posisjon;
+        return deler[(int) (absolutt >>> DEL_BITS)].get((int) (absolutt & DEL_MASKE));
+    }
+
+    /**
+     * Lager en visning av bytene fra og med {@code fra} til {@code til}, uten å kopiere dem.
+     *
+     * @throws IndexOutOfBoundsException hvis området er utenfor inputen.
+     */
+    public Inndata utsnitt(long fra, long til) {
+        sjekkOmrade(fra, til);
+        return new Inndata(deler, start + fra, til - fra);
+    }
+
+    /**
+     * Lager en {@code String} av bytene fra og med {@code fra} til {@code til}.
+     *
+     * @throws IndexOutOfBoundsException hvis området er utenfor inputen.
+     * @throws IllegalStateException     hvis området er for stort for en {@code String}.
+     */
+    public String tekst(long fra, long til) {
+        sjekkOmrade(fra, til);
+        if (til - fra > Integer.MAX_VALUE - 8) {
+            throw new IllegalStateException("For mye tekst for en String: " + (til - fra) + " bytes");
+        }
+        byte[] bytes = new byte[(int) (til - fra)];
+        kopier(fra, bytes, 0, bytes.length);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * @return Hele inputen som tekst, for løsere som ikke leser bytene direkte.
+     */
+    public String tekst() {
+        return tekst(0, lengde);
+    }
+
+    private void sjekkOmrade(long fra, long til) {
+        if (fra < 0 || til > lengde || fra > til) {
+            throw new IndexOutOfBoundsException("Området [" + fra + ", " + til + ") er utenfor inputen på "
+                    + lengde + " bytes");
+        }
+    }
+
+    /**
+     * @return En ny leser som starter på begynnelsen av inputen.
+     */
+    public Leser leser() {
+        return new Leser();
+    }
+
+    /**
+     * Pakker to {@code int} inn i én {@code long}, slik {@link Leser#nestePar()} returnerer dem.
+     */
+    public static long par(int forste, int andre) {
+        return ((long) forste << 32) | (andre & 0xFFFFFFFFL);
+    }
+
+    /**
+     * @return Det første tallet i et par fra {@link #par}.
+     */
+    public static int forste(long par) {
+        return (int) (par >> 32);
+    }
+
+    /**
+     * @return Det andre tallet i et par fra {@link #par}.
+     */
+    public static int andre(long par) {
+        return (int) par;
+    }
+
+    /**
+     * Kopierer bytes fra inputen inn i en array, del for del.
+     */
+    private void kopier(long fra, byte[] til, int offset, int antall) {
+        long absolutt = start + fra;
+        while (antall > 0) {
+            int indeks = (int) (absolutt & DEL_MASKE);
+            int biter = (int) Math.min(antall, DEL_STORRELSE - indeks);
+            deler[(int) (absolutt >>> DEL_BITS)].get(indeks, til, offset, biter);
+            absolutt += biter;
+            offset += biter;
+            antall -= biter;
+        }
+    }
+
+    /**
+     * Markør som går gjennom inputen linje for linje og tolker tall uten å allokere.
+     * <p>
+     * Bytene kopieres i blokker på 64 KiB inn i et vindu som gjenbrukes, og leses derfra. Å lese
+     * én og én byte fra en {@link ByteBuffer} er flere ganger tregere enn fra en {@code byte[]},
+     * mens en blokkopi koster nesten ingenting. Vinduet vokser bare hvis én linje er lengre enn det.
+     * <p>
+     * Tallmetodene leser bare fra den gjeldende linjen. Linjeskift kan være {@code \n} eller
+     * {@code \r\n}. En leser er ikke trådsikker, men flere lesere kan lese samme input samtidig.
+     */
+    public final class Leser {
+        private byte[] vindu = new byte[(int) Math.min(1 << 16, Math.max(lengde, 16))];
+        private long vinduStart;          // Posisjonen i inputen til vindu[0]
+        private int vinduLengde;          // Antall gyldige bytes i vinduet
+        private int posisjon;             // Neste byte tallmetodene ser på, i vinduet
+        private int linjeStart;           // I vinduet
+        private int grense;               // Slutten på linjen, uten linjeskift, i vinduet
+        private int nesteLinje;           // Der neste linje starter, i vinduet
+
+        private Leser() {
+        }
+
+        /**
+         * Går til neste linje. Tomme linjer hoppes ikke over, så blokker skilt av tomme linjer
+         * kan gjenkjennes med {@link #linjeLengde()}.
+         *
+         * @return false hvis det ikke er flere linjer.
+         */
+        public boolean nesteLinje() {
+            if (vinduStart + nesteLinje >= lengde) {
+                posisjon = grense = linjeStart = nesteLinje;
+                return false;
+            }
+            int slutt = nesteLinje;
+            while (true) {
+                byte[] vindu = this.vindu;
+                int vinduLengde = this.vinduLengde;
+                while (slutt < vinduLengde && vindu[slutt] != '\n') {
+                    slutt++;
+                }
+                if (slutt < vinduLengde || vinduStart + vinduLengde >= lengde) {
+                    break;
+                }
+                // Linjen fortsetter forbi vinduet: flytt den til starten og fyll på
+                slutt -= nesteLinje;
+                fyllFra(nesteLinje);
+            }
+            linjeStart = nesteLinje;
+            nesteLinje = slutt + 1;
+            if (slutt > linjeStart && vindu[slutt - 1] == '\r') {
+                slutt--;
+            }
+            posisjon = linjeStart;
+            grense = slutt;
+            return true;
+        }
+
+        // Flytter bytene fra og med beholdFra til starten av vinduet og fyller resten fra inputen
+        private void fyllFra(int beholdFra) {
+            int beholdt = vinduLengde - beholdFra;
+            if (beholdt == vindu.length) {
+                vindu = Arrays.copyOf(vindu, vindu.length * 2);
+            }
+            System.arraycopy(vindu, beholdFra, vindu, 0, beholdt);
+            vinduStart += beholdFra;
+            int antall = (int) Math.min(vindu.length - beholdt, lengde - vinduStart - beholdt);
+            kopier(vinduStart + beholdt, vindu, beholdt, antall);
+            vinduLengde = beholdt + antall;
+            nesteLinje -= beholdFra;
+        }
+
+        /**
+         * @return Posisjonen i inputen der den gjeldende linjen starter.
+         */
+        public long linjeStart() {
+            return vinduStart + linjeStart;
+        }
+
+        /**
+         * @return Antall tegn i den gjeldende linjen, uten linjeskift.
+         */
+        public int linjeLengde() {
+            return grense - linjeStart;
+        }
+
+        /**
+         * @return Tegnet i en gitt kolonne på den gjeldende linjen.
+         * @throws IndexOutOfBoundsException hvis kolonnen er utenfor linjen.
+         */
+        public byte tegn(int kolonne) {
+            if (kolonne < 0 || kolonne >= linjeLengde()) {
+                throw new IndexOutOfBoundsException("Kolonne " + kolonne + " er utenfor linjen på "
+                        + linjeLengde() + " tegn");
+            }
+            return vindu[linjeStart + kolonne];
+        }
+
+        /**
+         * @return Kolonnen der tegnet først forekommer på den gjeldende linjen, eller -1.
+         */
+        public int finn(byte tegn) {
+            for (int i = linjeStart; i < grense; i++) {
+                if (vindu[i] == tegn) {
+                    return i - linjeStart;
+                }
+            }
+            return -1;
+        }
+
+        /**
+         * Kopierer den gjeldende linjen inn i en {@code char[]}, f.eks. en rad i et kart.
+         */
+        public char[] linjeSomTegn() {
+            char[] rad = new char[linjeLengde()];
+            for (int i = 0; i < rad.length; i++) {
+                rad[i] = (char) vindu[linjeStart + i];
+            }
+            return rad;
+        }
+
+        /**
+         * Kopierer den gjeldende linjen inn i en {@code byte[]} fra en gitt indeks, f.eks. en rad i
+         * et {@link Grid}. Tegn etter de første {@code maks} hoppes over.
+         *
+         * @return Antall tegn som ble kopiert.
+         * @throws IndexOutOfBoundsException hvis tegnene ikke får plass.
+         */
+        public int kopierLinje(byte[] til, int offset, int maks) {
+            int antall = Math.min(maks, linjeLengde());
+            System.arraycopy(vindu, linjeStart, til, offset, antall);
+            return antall;
+        }
+
+        /**
+         * @return Den gjeldende linjen som {@code String}. Allokerer, så bruk den bare der det trengs.
+         */
+        public String linje() {
+            return new String(vindu, linjeStart, linjeLengde(), StandardCharsets.UTF_8);
+        }
+
+        /**
+         * Hopper over alt som ikke er et tall. Et minustegn rett foran et siffer hører til tallet.
+         *
+         * @return true hvis det er flere tall på linjen.
+         */
+        public boolean harTall() {
+            byte[] vindu = this.vindu;
+            int i = posisjon;
+            int grense = this.grense;
+            while (i < grense) {
+                byte b = vindu[i];
+                if (erSiffer(b) || (b == '-' && i + 1 < grense && erSiffer(vindu[i + 1]))) {
+                    posisjon = i;
+                    return true;
+                }
+                i++;
+            }
+            posisjon = i;
+            return false;
+        }
+
+        /**
+         * Leser neste heltall på linjen og hopper over alt foran det.
+         *
+         * @throws IllegalArgumentException hvis det ikke er flere tall, eller tallet ikke passer i en {@code long}.
+         */
+        public long nesteLong() {
+            if (!harTall()) {
+                throw new IllegalArgumentException("Fant ikke flere tall på linjen ved posisjon "
+                        + (vinduStart + posisjon));
+            }
+            byte[] vindu = this.vindu;
+            int i = posisjon;
+            int grense = this.grense;
+            boolean negativ = vindu[i] == '-';
+            if (negativ) {
+                i++;
+            }
+            long verdi = 0;
+            while (i < grense) {
+                byte b = vindu[i];
+                if (!erSiffer(b)) {
+                    break;
+                }
+                int siffer = b - '0';
+                // Deler bare når tallet nærmer seg grensen, ikke for hvert siffer
+                if (verdi >= MAKS_FOR_SIFFER && verdi > (Long.MAX_VALUE - siffer) / 10) {
+                    throw new IllegalArgumentException("Tallet ved posisjon " + (vinduStart + i) + " er for stort");
+                }
+                verdi = verdi * 10 + siffer;
+                i++;
+            }
+            posisjon = i;
+            return negativ ? -verdi : verdi;
+        }
+
+        /**
+         * Leser neste heltall på linjen og hopper over alt foran det.
+         *
+         * @throws IllegalArgumentException hvis det ikke er flere tall, eller tallet ikke passer i en {@code int}.
+         */
+        public int nesteInt() {
+            long verdi = nesteLong();
+            if ((int) verdi != verdi) {
+                throw new IllegalArgumentException("Tallet " + verdi + " passer ikke i en int");
+            }
+            return (int) verdi;
+        }
+
+        /**
+         * Leser to heltall, f.eks. {@code x,y}, og pakker dem i én {@code long}. Hent dem ut igjen
+         * med {@link Inndata#forste} og {@link Inndata#andre}.
+         *
+         * @throws IllegalArgumentException hvis det ikke er to tall til på linjen.
+         */
+        public long nestePar() {
+            int forste = nesteInt();
+            return par(forste, nesteInt());
+        }
+
+        private static boolean erSiffer(byte b) {
+            return b >= '0' && b <= '9';
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package AdventOfCode2024;
+
+import java.util.NoSuchElementException;
+
+/**
+ * FIFO-kø av int-verdier i en ringbuffer, til bredde-først-søk over celle-id-er eller andre
+ * pakkede tilstander. I motsetning til en {@code LinkedList<State>} allokeres det ingenting per
+ * element, og køen kan tømmes med {@link #clear()} og brukes om igjen i neste søk.
+ * <p>
+ * Kapasiteten er alltid en toerpotens, så indeksene kan pakkes rundt med en maske.
+ */
+public final class IntKo {
+
+    private static final int STANDARD_KAPASITET = 16;
+
+    private int[] elementer;
+    private int maske;   // elementer.length - 1
+    private int hode;    // Indeksen til det første elementet
+    private int antall;
+
+    public IntKo() {
+        this(STANDARD_KAPASITET);
+    }
+
+    /**
+     * Konstruerer en tom kø. Trenger et søk aldri mer enn {@code kapasitet} plasser, vokser køen aldri.
+     *
+     * @param kapasitet Antall verdier køen har plass til før arrayet må vokse.
+     * @throws IllegalArgumentException hvis kapasiteten er negativ eller for stor.
+     */
+    public IntKo(int kapasitet) {
+        if (kapasitet < 0 || kapasitet > 1 << 30) {
+            throw new IllegalArgumentException("Ugyldig kapasitet: " + kapasitet);
+        }
+        elementer = new int[Math.max(Integer.highestOneBit(Math.max(kapasitet - 1, 1)) << 1, 2)];
+        maske = elementer.length - 1;
+    }
+
+    /**
+     * Legger en verdi bakerst i køen.
+     *
+     * @param verdi Verdien som skal legges til.
+     */
+    public void leggTil(int verdi) {
+        if (antall == elementer.length) {
+            voks();
+        }
+        elementer[(hode + antall++) & maske] = verdi;
+    }
+
+    /**
+     * Tar ut verdien først i køen.
+     *
+     * @return Verdien som ble tatt ut.
+     * @throws NoSuchElementException hvis køen er tom.
+     */
+    public int taUt() {
+        if (antall == 0) {
+            throw new NoSuchElementException();
+        }
+        int verdi = elementer[hode];
+        hode = (hode + 1) & maske;
+        antall--;
+        return verdi;
+    }
+
+    /**
+     * Dobler arrayet og legger elementene fra indeks 0, i køens rekkefølge.
+     */
+    private void voks() {
+        int[] nye = new int[Math.multiplyExact(elementer.length, 2)];
+        int forste = elementer.length - hode; // Elementene fra hode til slutten av arrayet
+        System.arraycopy(elementer, hode, nye, 0, forste);
+        System.arraycopy(elementer, 0, nye, forste, hode);
+        elementer = nye;
+        maske = nye.length - 1;
+        hode = 0;
+    }
+
+    public boolean isEmpty() {
+        return antall == 0;
+    }
+
+    public int size() {
+        return antall;
+    }
+
+    /**
+     * Tømmer køen i O(1). Arrayet beholdes, så neste søk slipper å la det vokse igjen.
+     */
+    public void clear() {
+        hode = 0;
+        antall = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < antall; i++) {
+            if (i > 0) {
+                sb.append(", ");
+            }
+            sb.append(elementer[(hode + i) & maske]);
+        }
+        return sb.append(']').toString();
+    }
+}
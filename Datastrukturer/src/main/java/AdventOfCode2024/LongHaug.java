@@ -0,0 +1,130 @@
+package AdventOfCode2024;
+
+import java.util.Arrays;
+import java.util.NoSuchElementException;
+
+/**
+ * Binær min-haug av long-verdier, til Dijkstra med vilkårlige ikke-negative kostnader. Kostnaden
+ * og tilstanden pakkes i én nøkkel med {@link #pakk}, med kostnaden i de øverste 32 bitene, så
+ * vanlig sammenligning av nøklene sorterer etter kostnad. Der en {@code PriorityQueue<State>}
+ * har en peker per element og kaller {@code compareTo}, ligger her alt i én {@code long[]}.
+ * <pre>{@code
+ * haug.leggTil(LongHaug.pakk(kost, tilstand));
+ * long neste = haug.taUt();
+ * int kost = LongHaug.kost(neste), tilstand = LongHaug.tilstand(neste);
+ * }</pre>
+ * Når kantvektene er små heltall, er {@link BotteKo} raskere.
+ */
+public final class LongHaug {
+
+    private static final int STANDARD_KAPASITET = 16;
+
+    private long[] elementer;
+    private int antall;
+
+    public LongHaug() {
+        this(STANDARD_KAPASITET);
+    }
+
+    /**
+     * @param kapasitet Antall nøkler haugen har plass til før arrayet må vokse.
+     * @throws IllegalArgumentException hvis kapasiteten er negativ.
+     */
+    public LongHaug(int kapasitet) {
+        if (kapasitet < 0) {
+            throw new IllegalArgumentException("Kapasiteten kan ikke være negativ: " + kapasitet);
+        }
+        elementer = new long[Math.max(kapasitet, 2)];
+    }
+
+    /**
+     * @param kost     Kostnaden, som ikke kan være negativ.
+     * @param tilstand Tilstanden, for eksempel {@code celle * 4 + retning}.
+     * @return En nøkkel som sorterer etter kostnad.
+     */
+    public static long pakk(int kost, int tilstand) {
+        return (long) kost << 32 | (tilstand & 0xFFFFFFFFL);
+    }
+
+    public static int kost(long nokkel) {
+        return (int) (nokkel >>> 32);
+    }
+
+    public static int tilstand(long nokkel) {
+        return (int) nokkel;
+    }
+
+    /**
+     * Legger til en nøkkel og flytter den opp til riktig plass.
+     */
+    public void leggTil(long nokkel) {
+        if (antall == elementer.length) {
+            elementer = Arrays.copyOf(elementer, Math.multiplyExact(elementer.length, 2));
+        }
+        int i = antall++;
+        while (i > 0) {
+            int forelder = (i - 1) >>> 1;
+            if (elementer[forelder] <= nokkel) {
+                break;
+            }
+            elementer[i] = elementer[forelder];
+            i = forelder;
+        }
+        elementer[i] = nokkel;
+    }
+
+    /**
+     * Tar ut den minste nøkkelen.
+     *
+     * @throws NoSuchElementException hvis haugen er tom.
+     */
+    public long taUt() {
+        if (antall == 0) {
+            throw new NoSuchElementException();
+        }
+        long minste = elementer[0];
+        long siste = elementer[--antall];
+        // Flytter det siste elementet ned fra roten til det er mindre enn begge barna
+        int i = 0;
+        int halvt = antall >>> 1;
+        while (i < halvt) {
+            int barn = 2 * i + 1;
+            if (barn + 1 < antall && elementer[barn + 1] < elementer[barn]) {
+                barn++;
+            }
+            if (siste <= elementer[barn]) {
+                break;
+            }
+            elementer[i] = elementer[barn];
+            i = barn;
+        }
+        elementer[i] = siste;
+        return minste;
+    }
+
+    /**
+     * @return Den minste nøkkelen uten å ta den ut.
+     * @throws NoSuchElementException hvis haugen er tom.
+     */
+    public long peek() {
+        if (antall == 0) {
+            throw new NoSuchElementException();
+        }
+        return elementer[0];
+    }
+
+    public boolean isEmpty() {
+        return antall == 0;
+    }
+
+    public int size() {
+        return antall;
+    }
+
+    /**
+     * Tømmer haugen i O(1).
+     */
+    public void clear() {
+        antall = 0;
+    }
+}
@@ -31,6 +31,46 @@ public class Oppgave_1 {
                 .map(i -> Math.abs(sortedLeft.get(i) - sortedRight.get(i)))
                 .sum();
     }
+
+    /**
+     * Den tolkede inputen: venstre og høyre kolonne.
+     */
+    public record Lister(List<Integer> venstre, List<Integer> hoyre) {}
+
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er to kolonner med tall, ett par per linje.
+     */
+    public static class Losning implements Solver<Lister> {
+        @Override
+        public int dag() {
+            return 1;
+        }
+
+        @Override
+        public Lister parse(String input) {
+            return parse(Inndata.av(input));
+        }
+
+        @Override
+        public Lister parse(Inndata input) {
+            List<Integer> venstre = new ArrayList<>();
+            List<Integer> hoyre = new ArrayList<>();
+            Inndata.Leser leser = input.leser();
+            while (leser.nesteLinje()) {
+                if (leser.harTall()) {
+                    venstre.add(leser.nesteInt());
+                    hoyre.add(leser.nesteInt());
+                }
+            }
+            return new Lister(venstre, hoyre);
+        }
+
+        @Override
+        public Object part1(Lister input) {
+            return totalDistance(input.venstre(), input.hoyre());
+        }
+    }
+
     public static void main(String[] args) {
         // Eksempeldata (fra oppgaven)
         List<Integer> leftList = List.of(3, 4, 2, 1, 3, 3); // Bruk List.of for immutable lister
@@ -1,10 +1,5 @@
 package AdventOfCode2024;
 
-import java.util.ArrayList;
-import java.util.LinkedList;
-import java.util.List;
-import java.util.Queue;
-
 /*
 Et reinsdyr har gitt deg et topografisk kart over Lavaøya,
 der høydene er representert med tall fra 0 (lavest) til 9 (høyest).
@@ -42,84 +37,58 @@ Du får input som en liste med strenger (én per rad). Du skal returnere ett tal
 summen av poengsummene til alle stistartpunktene i kartet.
  */
 public class Oppgave_10 {
-    private int[][] map;
-    private int rows;
-    private int cols;
+    // Høydene lagres som sifrene '0'–'9'. Andre tegn blir '.', og rammen er KANT; ingen av dem er ett mer enn et siffer
+    private static final byte NO_HEIGHT = '.';
+
+    private final Grid map;
 
     public Oppgave_10(int[][] map) {
-        this.map = map;
-        this.rows = map.length;
-        this.cols = map[0].length;
+        this.map = new Grid(map[0].length, map.length, 1, NO_HEIGHT);
+        for (int i = 0; i < map.length; i++) {
+            for (int j = 0; j < Math.min(map[i].length, this.map.bredde()); j++) {
+                if (map[i][j] >= 0 && map[i][j] <= 9) {
+                    this.map.set(this.map.id(i, j), (byte) ('0' + map[i][j]));
+                }
+            }
+        }
     }
 
     /**
-     * Representerer et startpunkt (trailhead) for en tursti på kartet.
-     * En trailhead er definert ved sin rad- og kolonneposisjon.
+     * Oppretter oppgaven fra et kart med én høyde (siffer) per celle.
+     *
+     * @param map Høydekartet. Andre tegn enn sifre blir celler som ingen sti går gjennom.
      */
-    public static class Trailhead {
-        /** Radposisjonen til trailhead i kartet */
-        int row;
-
-        /** Kolonneposisjonen til trailhead i kartet */
-        int col;
-
-        /**
-         * Oppretter et nytt trailhead-objekt med gitt rad og kolonne.
-         *
-         * @param row radindeks for trailhead
-         * @param col kolonneindeks for trailhead
-         */
-        public Trailhead(int row, int col) {
-            this.row = row;
-            this.col = col;
-        }
-
-        /**
-         * Returnerer en strengrepresentasjon av trailhead-posisjonen i formatet "(rad, kolonne)".
-         *
-         * @return posisjonsstreng for trailhead
-         */
-        @Override
-        public String toString() {
-            return "(" + row + ", " + col + ")";
+    public Oppgave_10(Grid map) {
+        this.map = map.kopi();
+        for (int id = 0; id < this.map.storrelse(); id++) {
+            byte cell = this.map.get(id);
+            if (cell != Grid.KANT && (cell < '0' || cell > '9')) {
+                this.map.set(id, NO_HEIGHT);
+            }
         }
     }
 
-
     /**
      * Beregner total poengsum for alle startpunkter (trailheads) i kartet.
      * Dette gjøres ved å finne alle trailheads og summere poengsummen for hver.
+     * Et trailhead er en posisjon hvor høyden er 0.
      *
      * @return summen av poengsummene til alle trailheads på kartet
      */
-
     public int solve() {
-        List<Trailhead> trailheads = findTrailHeads();
         int totalScore = 0;
+        // Køen og besøkt-mengden deles av alle trailheads og tømmes i O(1) mellom dem
+        IntKo queue = new IntKo(map.storrelse());
+        Besokt visited = new Besokt(map.storrelse());
 
-        for (Trailhead trailhead : trailheads) {
-            totalScore += calculateTrailHeadScore(trailhead);
+        for (int id = 0; id < map.storrelse(); id++) {
+            if (map.get(id) == '0') {
+                totalScore += calculateTrailHeadScore(id, queue, visited);
+            }
         }
         return totalScore;
     }
 
-    /**
-     * Finner alle trailheads (startpunkter) i kartet.
-     * Et trailhead er en posisjon hvor høyden er 0.
-     *
-     * @return liste over alle trailheads i kartet
-     */
-    private List<Trailhead> findTrailHeads() {
-        List<Trailhead> trailheads = new ArrayList<>();
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                if (map[i][j] == 0) {
-                    trailheads.add(new Trailhead(i, j));
-                }
-            }
-        }
-        return trailheads;
-    }
     /**
      * Beregner poengsummen for et gitt trailhead (startpunkt med høyde 0) i kartet.
      *
@@ -130,56 +99,63 @@ public class Oppgave_10 {
      * Algoritmen bruker Breadth-First Search (BFS) og holder styr på besøkte posisjoner
      * for å unngå gjentatt besøk.
      *
-     * @param trailhead startpunkt med høyde 0
+     * @param trailhead celle-id-en til et startpunkt med høyde 0
+     * @param queue     BFS-køen, som tømmes først
+     * @param visited   besøkte celler, som får et nytt søk først
      * @return antall forskjellige posisjoner med høyde 9 som kan nås fra trailhead via en gyldig sti
      */
-
-    private int calculateTrailHeadScore(Trailhead trailhead) {
+    private int calculateTrailHeadScore(int trailhead, IntKo queue, Besokt visited) {
         int score = 0;
-        boolean[][] visited = new boolean[rows][cols]; //Track visited cells for each trailhead
-
-        Queue<Coordinate> queue = new LinkedList<>();
+        queue.clear();
+        visited.nyttSok(); //Track visited cells for each trailhead
 
-        queue.offer(new Coordinate(trailhead.row, trailhead.col));
-        visited[trailhead.row][trailhead.col] = true;
+        queue.leggTil(trailhead);
+        visited.besok(trailhead);
 
         while (!queue.isEmpty()) {
-            Coordinate current = queue.poll();
-            int currentRow = current.row;
-            int currentCol = current.col;
+            int current = queue.taUt();
+            byte height = map.get(current);
 
-            if (map[currentRow][currentCol] == 9) {
+            if (height == '9') {
                 score++;
             }
-            // Utforsk tilstøtende celler
-            int[] dr = {0,0,1,-1}; // Right, Left, Down, Up
-            int[] dc = {1,-1,0,0};
+            // Utforsk tilstøtende celler. Rammen har aldri riktig høyde, så ingen grensesjekk trengs
+            for (int dir = 0; dir < 4; dir++) {
+                int next = map.nabo(current, dir);
 
-            for (int i = 0; i < 4; i++) {
-                int newRow = currentRow + dr[i];
-                int newCol = currentCol + dc[i];
-
-                if (isValid(newRow, newCol) && !visited[newRow][newCol] && map[newRow][newCol] == map[currentRow][currentCol] + 1) {
-                    queue.offer(new Coordinate(newRow, newCol));
-                    visited[newRow][newCol] = true;
+                if (map.get(next) == height + 1 && visited.besok(next)) {
+                    queue.leggTil(next);
                 }
             }
         }
         return score;
     }
 
-    private static class Coordinate {
-        private int row, col;
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er høydekartet, én rad med sifre per linje. Andre tegn enn sifre blir celler som ingen sti går gjennom.
+     */
+    public static class Losning implements Solver<Oppgave_10> {
+        @Override
+        public int dag() {
+            return 10;
+        }
+
+        @Override
+        public Oppgave_10 parse(String input) {
+            return parse(Inndata.av(input));
+        }
 
-        public Coordinate(int row, int col) {
-            this.row = row;
-            this.col = col;
+        @Override
+        public Oppgave_10 parse(Inndata input) {
+            return new Oppgave_10(Grid.les(input, 1));
         }
-    }
 
-    private boolean isValid(int row, int col) {
-        return row >= 0 && row < rows && col >= 0 && col < cols;
+        @Override
+        public Object part1(Oppgave_10 input) {
+            return input.solve();
+        }
     }
+
     public static void main(String[] args) {
         int[][] map = {
                 {1, 0, 9, 2, 9, 2},
@@ -42,6 +42,38 @@ public class Oppgave_11 {
         }
         return nextStones;
     }
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er steinene på én linje, skilt av mellomrom. Del 1 blunker 25 ganger.
+     */
+    public static class Losning implements Solver<List<Long>> {
+        @Override
+        public int dag() {
+            return 11;
+        }
+
+        @Override
+        public List<Long> parse(String input) {
+            return parse(Inndata.av(input));
+        }
+
+        @Override
+        public List<Long> parse(Inndata input) {
+            List<Long> stones = new ArrayList<>();
+            Inndata.Leser leser = input.leser();
+            while (leser.nesteLinje()) {
+                while (leser.harTall()) {
+                    stones.add(leser.nesteLong());
+                }
+            }
+            return stones;
+        }
+
+        @Override
+        public Object part1(List<Long> input) {
+            return simulate(input, 25).size();
+        }
+    }
+
     public static void main(String[] args) {
         // Example usage
         List<Long> initialArrangement = Arrays.asList(0L, 1L, 10L, 99L, 999L);
@@ -1,7 +1,5 @@
 package AdventOfCode2024;
 
-import java.util.*;
-
 /*
 ## Oppgave: Hagegjerder
 
@@ -50,129 +48,90 @@ public class Oppgave_12 {
      */
 
     public static int beregnTotalPris(String[] kart) {
+        return beregnTotalPris(Grid.av(kart, 1));
+    }
+
+    /**
+     * Som {@link #beregnTotalPris(String[])}, for et kart som allerede er lest inn.
+     *
+     * @param kart Kartet, med en ramme rundt. Rammen regnes som en annen plante-type enn alle.
+     * @return Totalpris for å gjerde inn alle identifiserte regioner på kartet.
+     */
+    public static int beregnTotalPris(Grid kart) {
         int totalPris = 0;
-        boolean[][] besøkt = new boolean[kart.length][kart[0].length()]; // Holder styr på besøkte parseller.
+        boolean[] besøkt = new boolean[kart.storrelse()]; // Holder styr på besøkte parseller, med celle-id som indeks.
+        int[] kø = new int[kart.storrelse()]; // Gjenbrukes for alle regionene
         // Går gjennom nedover
-        for (int rad = 0; rad < kart.length; rad++) {
-            for (int kolonne = 0; kolonne < kart[rad].length(); kolonne++) {
-                    if (!besøkt[rad][kolonne]) {
-                        char planteType = kart[rad].charAt(kolonne);
-                        Region region = finnRegion(kart, rad, kolonne, planteType, besøkt);
-                        totalPris += region.areal * region.omkrets;
-                    }
+        for (int id = 0; id < kart.storrelse(); id++) {
+            if (!besøkt[id] && kart.get(id) != Grid.KANT) {
+                totalPris += finnRegionPris(kart, id, besøkt, kø);
             }
         }
         return totalPris;
     }
 
-    private static Region finnRegion(String[] kart, int rad, int kolonne, char planteType, boolean[][] besøkt) {
+    /**
+     * Finner regionen som cellen hører til og regner ut prisen, areal * omkrets.
+     */
+    private static int finnRegionPris(Grid kart, int start, boolean[] besøkt, int[] kø) {
+        byte planteType = kart.get(start);
         int areal = 0;
         int omkrets = 0;
+        int internOmkrets = 0;
 
-        Set<Posisjon> regionPosisjoner = new HashSet<>(); // Bruker Set for å unngå duplikater
-        List<Posisjon> queue = new ArrayList<>(); //Bruker queue for å besøke alle elementer som henger sammen
-
-        queue.add(new Posisjon(rad, kolonne));
-        besøkt[rad][kolonne] = true;
-        regionPosisjoner.add(new Posisjon(rad, kolonne));
-
-        while (!queue.isEmpty()) {
-            Posisjon aktuellPosisjon = queue.remove(0);
-            int aktuellRad = aktuellPosisjon.rad;
-            int aktuellKolonne = aktuellPosisjon.kolonne;
+        // Hver parsell legges i køen høyst én gang, så køen trenger ikke gå rundt
+        int hode = 0;
+        int hale = 0;
+        kø[hale++] = start;
+        besøkt[start] = true;
 
+        while (hode < hale) {
+            int aktuell = kø[hode++];
             areal++;
-            omkrets += beregnOmkrets(kart, aktuellRad, aktuellKolonne, planteType);
-
-            // Sjekk naboer (Opp, ned, venstre, høyre)
-            int[][] naboer = {{-1,0}, {1,0}, {0,-1}, {0,1}};
-            for (int[] nabo : naboer) {
-                int nyRad = aktuellRad + nabo[0];
-                int nyKolonne = aktuellKolonne + nabo[1];
-                // sjekker om en nabo
-                if (erGyldigPosisjon(kart, nyRad, nyKolonne) &&
-                kart[nyRad].charAt(nyKolonne) == planteType
-                && !besøkt[nyRad][nyKolonne]) {
-                    queue.add(new Posisjon(nyRad, nyKolonne));
-                    besøkt[nyRad][nyKolonne] = true;
-                    regionPosisjoner.add(new Posisjon(nyRad, nyKolonne));
-                }
-            }
-        }
 
-        // Juster omkretsen for interne kanter (mellom regionens celler)
-        int internOmkrets = 0;
-        for (Posisjon pos : regionPosisjoner) {
-            int radP = pos.rad;
-            int kolonneP = pos.kolonne;
-            int[][] naboer = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
-            for (int[] nabo : naboer) {
-                int nyRad = pos.rad + nabo[0];
-                int nyKolonne = pos.kolonne + nabo[1];
-                if (erGyldigPosisjon(kart, nyRad, nyKolonne)
-                    && kart[nyRad].charAt(nyKolonne) == planteType
-                        && regionPosisjoner.contains(new Posisjon(nyRad,nyKolonne))) {
+            // Sjekk naboer (Opp, ned, venstre, høyre). Rammen er aldri lik plante-typen
+            for (int retning = 0; retning < 4; retning++) {
+                int nabo = kart.nabo(aktuell, retning);
+                if (kart.get(nabo) != planteType) {
+                    omkrets++;
+                } else {
+                    // Kanter mellom regionens celler
                     internOmkrets++;
+                    if (!besøkt[nabo]) {
+                        kø[hale++] = nabo;
+                        besøkt[nabo] = true;
+                    }
                 }
             }
         }
-        omkrets -= (internOmkrets / 2);
-        return new Region(areal, omkrets);
-    }
 
-    private static int beregnOmkrets(String[] kart, int rad, int kolonne, char planteType) {
-        int omkrets = 0;
-        // Sjekk hver side av parsellen
-        int[][] sider = {{-1, 0}, {1, 0}, {0, -1}, {0, 1}};
-        for (int[] side : sider) {
-            int nyRad = rad + side[0];
-            int nyKolonne = kolonne + side[1];
-            if (!erGyldigPosisjon(kart, nyRad, nyKolonne) || kart[nyRad].charAt(nyKolonne) != planteType) {
-                omkrets++;
-            }
-        }
-        return omkrets;
-    }
-
-    private static boolean erGyldigPosisjon(String[] kart, int rad, int kolonne) {
-        return rad >= 0 && rad < kart.length && kolonne >= 0 && kolonne < kart[rad].length();
+        // Juster omkretsen for interne kanter (mellom regionens celler)
+        omkrets -= (internOmkrets / 2);
+        return areal * omkrets;
     }
 
-    private static class Region {
-        private int areal;
-
-        private int omkrets;
-
-        public Region(int areal, int omkrets) {
-            this.areal = areal;
-            this.omkrets = omkrets;
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er kartet over hageparsellene, én rad per linje.
+     */
+    public static class Losning implements Solver<Grid> {
+        @Override
+        public int dag() {
+            return 12;
         }
-    }
 
-    private static class Posisjon {
-        private int rad;
-        private int kolonne;
-        public Posisjon(int rad, int kolonne) {
-            this.rad = rad;
-            this.kolonne = kolonne;
+        @Override
+        public Grid parse(String input) {
+            return parse(Inndata.av(input));
         }
 
         @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-
-            Posisjon posisjon = (Posisjon) o;
-
-            if(rad != posisjon.rad) return false;
-            return kolonne == posisjon.kolonne;
+        public Grid parse(Inndata input) {
+            return Grid.les(input, 1);
         }
 
         @Override
-        public int hashCode() {
-            int result = rad;
-            result = 31 *  result + kolonne;
-            return result;
+        public Object part1(Grid input) {
+            return beregnTotalPris(input);
         }
     }
 
@@ -94,7 +94,7 @@ public class Oppgave_13 {
         }
 
         // Returner et Result-objekt med samlet resultat
-        return new Result(totalTokens, prizesWon);
+        return new Result(prizesWon, totalTokens);
     }
     /**
      * Parser maskindata-strengen og trekker ut informasjon om
@@ -189,6 +189,26 @@ public class Oppgave_13 {
 
     // Løsning for en enkelt maskin: hvor mange tokens, og hvor mange trykk på hver knapp
     private record Solution(int tokens, int aPresses, int bPresses) {}
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er én blokk med tre linjer per maskin, skilt av tomme linjer. Svaret er antall poletter.
+     */
+    public static class Losning implements Solver<List<String>> {
+        @Override
+        public int dag() {
+            return 13;
+        }
+
+        @Override
+        public List<String> parse(String input) {
+            return Solver.blokker(input);
+        }
+
+        @Override
+        public Object part1(List<String> input) {
+            return optimize(input).totalTokens();
+        }
+    }
+
     public static void main(String[] args) {
         List<String> machineData = List.of(
                 "Button A: X+94, Y+34\nButton B: X+22, Y+67\nPrize: X=8400, Y=5400",
@@ -210,6 +210,27 @@ public class Oppgave_14 {
         return (long) quadrant1Count * quadrant2Count * quadrant3Count * quadrant4Count;
     }
 
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er én robot ({@code p=x,y v=vx,vy}) per linje, i et rom på 101x103 i 100 sekunder.
+     */
+    public static class Losning implements Solver<List<String>> {
+        @Override
+        public int dag() {
+            return 14;
+        }
+
+        @Override
+        public List<String> parse(String input) {
+            return Solver.linjer(input);
+        }
+
+        @Override
+        public Object part1(List<String> input) {
+            // Robotene flyttes under simuleringen, så de lages på nytt fra linjene hver gang
+            return new Oppgave_14(101, 103, 100, input).calculateSafetyFactor();
+        }
+    }
+
     public static void main(String[] args) {
         List<String> robotData = List.of(
                 "p=0,4 v=3,-3",
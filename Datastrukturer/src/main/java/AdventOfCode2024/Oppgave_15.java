@@ -123,44 +123,32 @@ Lykke til!
  */
 
 public class Oppgave_15 {
-    private char[][] warehouseMap;
-    private int robotRow;
-    private int robotCol;
-    private String movements;
+    private final Grid warehouseMap;
+    private int robot;
+    private final String movements;
 
     public Oppgave_15(char[][] warehouseMap, String movements) {
+        this(Grid.av(warehouseMap, 1), movements);
+    }
+
+    /**
+     * Oppretter simuleringen på et kart som allerede er lest inn. Kartet endres når roboten
+     * flytter esker, så send inn en {@link Grid#kopi()} hvis det skal brukes igjen.
+     *
+     * @param warehouseMap Kartet over lageret, med en ramme rundt som regnes som vegg.
+     * @param movements    Bevegelsene til roboten, '^', 'v', '<' og '>'.
+     */
+    public Oppgave_15(Grid warehouseMap, String movements) {
         this.warehouseMap = warehouseMap;
         this.movements = movements;
         findRobotPosition();
     }
 
-    private char[][] deepCopy(char[][] original) {
-        if (original == null) {
-            return null;
-        }
-        char[][] copy = new char[original.length][original[0].length];
-        for (int i = 0; i < original.length; i++) {
-            System.arraycopy(original[i],    // ← kilderaden (rad nr. i i original)
-                    0,              // ← start fra indeks 0 i den raden
-                    copy[i],        // ← mål-raden (rad nr. i i copy)
-                    0,              // ← start på indeks 0 i mål-raden
-                    original[i].length); // ← antall elementer å kopiere
-
-        }
-        return copy;
-    }
-
     private void findRobotPosition() {
-        for (int i = 0; i < warehouseMap.length; i++) {
-            for (int j = 0; j < warehouseMap[i].length; j++) {
-                if (warehouseMap[i][j] == '@') {
-                    robotRow = i;
-                    robotCol = j;
-                    return;
-                }
-            }
+        robot = warehouseMap.finn((byte) '@');
+        if (robot < 0) {
+            throw new IllegalArgumentException("No robot found in the initial map");
         }
-        throw new IllegalArgumentException("No robot found in the initial map");
     }
 
     public long calculateTotalGpsCoordinates() {
@@ -169,130 +157,116 @@ public class Oppgave_15 {
     }
 
     private void simulateMovements() {
-        for (char move : movements.toCharArray()) {
-            moveRobot(move);
+        for (int i = 0; i < movements.length(); i++) {
+            moveRobot(movements.charAt(i));
         }
     }
+
     private void moveRobot(char move) {
-        int newRow = robotRow;
-        int newCol = robotCol;
-
-        switch (move) {
-            case '^':
-                newRow--;
-                break;
-            case 'v':
-                newRow++;
-                break;
-            case '<':
-                newCol--;
-                break;
-            case '>':
-                newCol++;
-                break;
-            default:
-                throw new IllegalArgumentException("Invalid move: " + move);
-        }
+        int step = switch (move) {
+            case '^' -> warehouseMap.retning(Grid.NORD);
+            case 'v' -> warehouseMap.retning(Grid.SOR);
+            case '<' -> warehouseMap.retning(Grid.VEST);
+            case '>' -> warehouseMap.retning(Grid.OST);
+            default -> throw new IllegalArgumentException("Invalid move: " + move);
+        };
+        int next = robot + step;
 
-        if (isWall(newRow, newCol)) {
+        if (isWall(next)) {
             return;
         }
 
-        if (isBox(newRow, newCol)) {
-            if (canMoveBox(newRow, newCol, move)) {
-                moveBox(newRow, newCol, move);
-                moveRobotTo(newRow, newCol);
+        if (isBox(next)) {
+            if (canMoveBox(next, step)) {
+                moveBox(next, step);
+                moveRobotTo(next);
             }
             // Hvis boksen ikke kan flyttes, forblir roboten også på plass
         } else {
-            moveRobotTo(newRow, newCol);
+            moveRobotTo(next);
         }
     }
 
-    private void moveRobotTo(int newRow, int newCol) {
-        warehouseMap[robotRow][robotCol] = '.'; // Fjern roboten fra den gamle posisjonen
-        robotRow = newRow;
-        robotCol = newCol;
-        warehouseMap[robotRow][robotCol] = '@'; // Sett roboten på den nye posisjonen
+    private void moveRobotTo(int next) {
+        warehouseMap.set(robot, (byte) '.'); // Fjern roboten fra den gamle posisjonen
+        robot = next;
+        warehouseMap.set(robot, (byte) '@'); // Sett roboten på den nye posisjonen
     }
 
-    private boolean canMoveBox(int boxRow, int boxCol, char move) {
-        int newBoxRow = boxRow;
-        int newBoxCol = boxCol;
-
-        switch (move) {
-            case '^':
-                newBoxRow--;
-                break;
-            case 'v':
-                newBoxRow++;
-                break;
-            case '<':
-                newBoxCol--;
-                break;
-            case '>':
-                newBoxCol++;
-                break;
-        }
-        return !isWall(newBoxRow, newBoxCol) && !isBox(newBoxRow, newBoxCol);
+    private boolean canMoveBox(int box, int step) {
+        return !isWall(box + step) && !isBox(box + step);
     }
 
-    private void moveBox(int boxRow, int boxCol, char move) {
-        int newBoxRow = boxRow;
-        int newBoxCol = boxCol;
-
-        switch (move) {
-            case '^':
-                newBoxRow--;
-                break;
-            case 'v':
-                newBoxRow++;
-                break;
-            case '<':
-                newBoxCol--;
-                break;
-            case '>':
-                newBoxCol++;
-                break;
-        }
-
-        warehouseMap[boxRow][boxCol] = '.';
-        warehouseMap[newBoxRow][newBoxCol] = 'O';
+    private void moveBox(int box, int step) {
+        warehouseMap.set(box, (byte) '.');
+        warehouseMap.set(box + step, (byte) 'O');
     }
 
-    private boolean isWall(int row, int col) {
-        return row < 0 || row >= warehouseMap.length || col < 0 || col >= warehouseMap[0].length
-        || warehouseMap[row][col] == '#';
+    // Rammen rundt kartet regnes som vegg, så ingen grensesjekk trengs
+    private boolean isWall(int id) {
+        byte cell = warehouseMap.get(id);
+        return cell == '#' || cell == Grid.KANT;
     }
 
-    private boolean isBox(int row, int col) {
-        return row >= 0 && row < warehouseMap.length && col >= 0 && col < warehouseMap[0].length && warehouseMap[row][col] == 'O';
+    private boolean isBox(int id) {
+        return warehouseMap.get(id) == 'O';
     }
+
     private long calculateGpsSum() {
         long totalGps = 0;
-        for (int i = 0; i < warehouseMap.length; i++) {
-            for (int j = 0; j < warehouseMap[i].length; j++) {
-                if (warehouseMap[i][j] == 'O') {
-                    totalGps += calculateGpsCoordinate(i, j);
-                }
+        for (int id = 0; id < warehouseMap.storrelse(); id++) {
+            if (warehouseMap.get(id) == 'O') {
+                totalGps += calculateGpsCoordinate(warehouseMap.rad(id), warehouseMap.kol(id));
             }
         }
         return totalGps;
     }
+
     private long calculateGpsCoordinate(int row, int col) {
         return 100L * row + col;
     }
 
-    private char[][] getWarehouseMap() {
-        return deepCopy(warehouseMap);
+    public void printMap() {
+        System.out.print(warehouseMap);
     }
 
-    public void printMap() {
-        for(int i = 0; i < warehouseMap.length; i++) {
-            for (int j = 0; j < warehouseMap[i].length; j++) {
-                System.out.print(warehouseMap[i][j]);
+    /**
+     * Den tolkede inputen: kartet og bevegelsene.
+     */
+    public record Lager(Grid map, String movements) {}
+
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er kartet, en tom linje og bevegelsene, som kan gå over flere linjer.
+     */
+    public static class Losning implements Solver<Lager> {
+        @Override
+        public int dag() {
+            return 15;
+        }
+
+        @Override
+        public Lager parse(String input) {
+            return parse(Inndata.av(input));
+        }
+
+        @Override
+        public Lager parse(Inndata input) {
+            Inndata.Leser leser = input.leser();
+            Grid map = Grid.les(leser, 1);
+            StringBuilder movements = new StringBuilder();
+            while (leser.nesteLinje()) {
+                movements.append(leser.linje());
             }
-            System.out.println();
+            if (movements.isEmpty()) {
+                throw new IllegalArgumentException("Forventet kart og bevegelser skilt av en tom linje");
+            }
+            return new Lager(map, movements.toString());
+        }
+
+        @Override
+        public Object part1(Lager input) {
+            // Kartet endres når roboten flytter esker, så løseren får en kopi
+            return new Oppgave_15(input.map().kopi(), input.movements()).calculateTotalGpsCoordinates();
         }
     }
 
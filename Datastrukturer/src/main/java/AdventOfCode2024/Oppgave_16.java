@@ -1,12 +1,5 @@
 package AdventOfCode2024;
 
-import com.sun.jdi.PrimitiveValue;
-
-import java.util.HashSet;
-import java.util.Objects;
-import java.util.PriorityQueue;
-import java.util.Set;
-
 /*
 Oppgave: Reinsdyrlabyrint – Korteste vei
 
@@ -89,213 +82,108 @@ public class Oppgave_16 {
     private static final char START = 'S';
     private static final char END = 'E';
 
-    // Enum for å representere endringer
-    private enum Direction {
-        NORTH, EAST, SOUTH, WEST
-    }
-
-    // Klasse for å representere en tilstand i labyrinten
-    private static class State implements Comparable<State> {
-        int row;
-        int col;
-        Direction direction;
-        int cost;
-
-        public State(int row, int col, Direction direction, int cost) {
-            this.row = row;
-            this.col = col;
-            this.direction = direction;
-            this.cost = cost;
-        }
-
-        @Override
-        public int compareTo(State o) {
-            return Integer.compare(this.cost, o.cost);
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            State state = (State) o;
-            return row == state.row && col == state.col && direction == state.direction;
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(row, col, direction);
-        }
-    }
-
     public static int solveMaze(String mazeString) {
-        // 1. Parser labyrinten fra String til et char[][] array
-        char[][] maze = parseMaze(mazeString);
-        int rows = maze.length;
-        int cols = maze[0].length;
+        // 1. Parser labyrinten fra String til et Grid med en ramme rundt
+        return solveMaze(Grid.les(Inndata.av(mazeString), 1));
+    }
 
+    /**
+     * Finner den billigste veien fra S til E. Et steg fremover koster {@value #MOVE_COST}, og å
+     * snu 90 grader koster {@value #ROTATE_COST}. Reinsdyret starter mot øst.
+     *
+     * @param maze Labyrinten, med en ramme rundt som regnes som vegg.
+     * @return Laveste kostnad, eller -1 hvis ingen vei finnes.
+     * @throws IllegalArgumentException hvis start- eller sluttposisjonen mangler.
+     */
+    public static int solveMaze(Grid maze) {
         // 2. Finn start- og sluttposisjon
-        int startRow = -1;
-        int startCol = -1;
-        int endRow = -1;
-        int endCol = -1;
-
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                if (maze[i][j] == START) {
-                    startRow = i;
-                    startCol = j;
-                } else if (maze[i][j] == END) {
-                    endRow = i;
-                    endCol = j;
-                }
-            }
-        }
+        int start = maze.finn((byte) START);
+        int end = maze.finn((byte) END);
 
         // Valider at start og sluttposisjoner er funnet.  Kast exception om ikke.
-        if (startRow == -1 || startCol == -1) {
+        if (start == -1) {
             throw new IllegalArgumentException("Start position not found in the maze.");
         }
-        if (endRow == -1 || endCol == -1) {
+        if (end == -1) {
             throw new IllegalArgumentException("End position not found in the maze.");
         }
 
-
-        // 3. Initialiser Dijkstra
-        PriorityQueue<State> queue = new PriorityQueue<>();
-        queue.offer(new State(startRow, startCol, Direction.EAST, 0)); // Reinsdyret starter mot øst
-
-        //Bruker et Set for å optimalisere ytelse da contains/add er O(1) i et HashSet.
-        Set<State> visited = new HashSet<>();
-        visited.add(new State(startRow, startCol, Direction.EAST,0));
-
-        //Array som inneholder minste kostnad for hver state. Brukes istedenfor map for å spare minne og øke ytelse
-        int[][][][] minCost = new int[rows][cols][4][1]; // [row][col][direction][0=cost]
-        for (int i = 0; i < rows; i++) {
-            for (int j = 0; j < cols; j++) {
-                for (int k = 0; k < 4; k++) { // 4 directions
-                    minCost[i][j][k][0] = Integer.MAX_VALUE;
-                }
-            }
-        }
-        minCost[startRow][startCol][Direction.EAST.ordinal()][0] = 0;
-
+        // 3. Initialiser Dijkstra. Tilstandene er (celle, retning), nummerert cell * 4 + retning.
+        // Kostnadene er bare 1 og 1000, så en bøttekø gir O(1) per tilstand i stedet for en haug
+        BotteKo queue = new BotteKo(Math.max(MOVE_COST, ROTATE_COST));
+        // Minste kjente kostnad for hver tilstand
+        Avstander minCost = new Avstander(maze.storrelse() * 4);
+        queue.leggTil(0, start * 4 + Grid.OST); // Reinsdyret starter mot øst
+        minCost.set(start * 4 + Grid.OST, 0);
 
         // 4. Dijkstra algoritme
         while (!queue.isEmpty()) {
-            State currentState = queue.poll();
-            int row = currentState.row;
-            int col = currentState.col;
-            Direction direction = currentState.direction;
-            int cost = currentState.cost;
+            int state = queue.taUt();
+            int cost = queue.prioritet();
+            int cell = state >>> 2;
+            int direction = state & 3;
 
-            // Sjekker om vi er på mål
-            if (row == endRow && col == endCol) {
-                return cost;
-            }
-
-            // Hopper over allerede besøkte stater. (Kan skje pga priority queue)
-            if(visited.contains(currentState)){
+            // Hopper over tilstander som er funnet billigere siden de ble lagt i køen
+            if (cost > minCost.get(state)) {
                 continue;
             }
-            visited.add(currentState);
 
-            // Muligheter: Fremover, rotere høyre, rotere venstre
-
-            // A. Fremover
-            int nextRow = row;
-            int nextCol = col;
-
-            switch (direction) {
-                case NORTH:
-                    nextRow--;
-                    break;
-                case EAST:
-                    nextCol++;
-                    break;
-                case SOUTH:
-                    nextRow++;
-                    break;
-                case WEST:
-                    nextCol--;
-                    break;
+            // Sjekker om vi er på mål
+            if (cell == end) {
+                return cost;
             }
 
-            if (isValidMove(maze, nextRow, nextCol) && maze[nextRow][nextCol] != WALL) {
-                int newCost = cost + MOVE_COST;
-                Direction nextDirection = direction;
-                if (newCost < minCost[nextRow][nextCol][nextDirection.ordinal()][0]) {
+            // Muligheter: Fremover, rotere høyre, rotere venstre
 
-                    State nextState = new State(nextRow, nextCol, nextDirection, newCost);
-                    if(!visited.contains(nextState)) { //Unngå å legge til noder som allerede er prosessert.
-                        queue.offer(nextState);
-                    }
-                }
+            // A. Fremover. Rammen er KANT, så den stopper oss like godt som en vegg
+            int next = maze.nabo(cell, direction);
+            byte nextCell = maze.get(next);
+            if (nextCell != WALL && nextCell != Grid.KANT) {
+                offer(queue, minCost, next * 4 + direction, cost + MOVE_COST);
             }
 
             // B. Rotere Høyre
-            Direction rotateRight = rotateRight(direction);
-            int newCostRotateRight = cost + ROTATE_COST;
-
-            if (newCostRotateRight < minCost[row][col][rotateRight.ordinal()][0]) {
-                State nextStateRotateRight = new State(row, col, rotateRight, newCostRotateRight);
-                if(!visited.contains(nextStateRotateRight)){ //Unngå å legge til noder som allerede er prosessert.
-                    queue.offer(nextStateRotateRight);
-                }
-            }
-
+            offer(queue, minCost, cell * 4 + Grid.hoyre(direction), cost + ROTATE_COST);
 
             // C. Rotere Venstre
-            Direction rotateLeft = rotateLeft(direction);
-            int newCostRotateLeft = cost + ROTATE_COST;
-            if (newCostRotateLeft < minCost[row][col][rotateLeft.ordinal()][0]) {
-                State nextStateRotateLeft = new State(row, col, rotateLeft, newCostRotateLeft);
-                if(!visited.contains(nextStateRotateLeft)){ //Unngå å legge til noder som allerede er prosessert.
-                    queue.offer(nextStateRotateLeft);
-                }
-            }
+            offer(queue, minCost, cell * 4 + Grid.venstre(direction), cost + ROTATE_COST);
         }
 
         // Hvis ingen vei finnes
         return -1;
     }
 
-    private static char[][] parseMaze(String mazeString) {
-        String[] rows = mazeString.split("\n");
-        int numRows = rows.length;
-        int numCols = rows[0].length();
-        char[][] maze = new char[numRows][numCols];
-
-        for (int i = 0; i < numRows; i++) {
-            maze[i] = rows[i].toCharArray();
+    // Legger tilstanden i køen hvis den er billigere enn før
+    private static void offer(BotteKo queue, Avstander minCost, int state, int cost) {
+        if (minCost.forbedre(state, cost)) {
+            queue.leggTil(cost, state);
         }
-
-        return maze;
     }
 
-    public static boolean isValidMove(char[][] maze, int row, int col) {
-        return row >= 0 && row < maze.length && col >= 0 && col < maze[0].length;
-    }
-
-    private static Direction rotateRight(Direction direction) {
-        switch (direction) {
-            case NORTH: return Direction.EAST;
-            case EAST: return Direction.SOUTH;
-            case SOUTH: return Direction.WEST;
-            case WEST: return Direction.NORTH;
-            default: return null; // Skal ikke skje
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er labyrinten, én rad per linje.
+     */
+    public static class Losning implements Solver<Grid> {
+        @Override
+        public int dag() {
+            return 16;
         }
-    }
-    private static Direction rotateLeft(Direction direction) {
-        switch (direction) {
-            case NORTH: return Direction.WEST;
-            case EAST: return Direction.NORTH;
-            case SOUTH: return Direction.EAST;
-            case WEST: return Direction.SOUTH;
-            default: return null; // Skal ikke skje
+
+        @Override
+        public Grid parse(String input) {
+            return parse(Inndata.av(input));
         }
-    }
 
+        @Override
+        public Grid parse(Inndata input) {
+            return Grid.les(input, 1);
+        }
 
+        @Override
+        public Object part1(Grid input) {
+            return solveMaze(input);
+        }
+    }
 
     public static void main(String[] args) {
         String maze1 = "###############\n#.......#....E#\n#.#.###.#.###.#\n#.....#.#...#.#\n#.###.#####.#.#\n#.#.#.......#.#\n#.#.#####.###.#\n#...........#.#\n###.#.#####.#.#\n#...#.....#.#.#\n#.#.#.###.#.#.#\n#.....#...#.#.#\n#.###.#.#.#.#.#\n#S..#.....#...#\n###############";
@@ -1,7 +1,6 @@
 package AdventOfCode2024;
 
-import java.io.BufferedReader;
-import java.io.FileReader;
+import java.nio.file.Paths;
 import java.util.*;
 
 import java.io.IOException;
@@ -77,8 +76,8 @@ public class Oppgave_18 {
     private static final int TARGET_Y = 70;
     private static final int MAX_BYTES = 1024;
 
-    private static final int[] DX = {0,0,1,-1}; // Right, left, down, up
-    private static final int[] DY = {1,-1,0,0};
+    private static final byte SAFE = '.';
+    private static final byte CORRUPTED = '#';
 
 
 
@@ -93,48 +92,73 @@ public class Oppgave_18 {
      * @return en liste av Point-objekter med koordinatene, eller null hvis det oppstår feil
      */
     private static List<Point> readBytePositions(String filename) {
+        // Mapper filen inn i minnet, så tallene leses rett fra bytene uten en String per linje
+        try {
+            return parseBytePositions(Inndata.map(Paths.get(filename)));
+        } catch (IOException e) {
+            // Håndterer eventuelle I/O-feil ved lesing av filen, logger feilen og returnerer null
+            System.err.println("Error reading file: " + e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * Leser koordinatposisjoner linje for linje, på samme format som {@link #readBytePositions}.
+     * Tomme linjer hoppes over.
+     *
+     * @param input inputen linjene hentes fra
+     * @return en liste av Point-objekter med koordinatene, eller null hvis en linje er ugyldig
+     */
+    private static List<Point> parseBytePositions(Inndata input) {
         List<Point> positions = new ArrayList<>();
+        Inndata.Leser leser = input.leser();
+        int count = 0;  // Teller antall linjer lest for å begrense til MAX_BYTES
 
-        // Åpner filen for lesing med BufferedReader, som buffrer input for effektivitet
-        try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
-            String line;
-            int count = 0;  // Teller antall linjer lest for å begrense til MAX_BYTES
-
-            // Les linje for linje, stopp ved filslutt eller når count når MAX_BYTES
-            while ((line = br.readLine()) != null && count < MAX_BYTES) {
-                // Splitter linjen på komma for å hente ut x og y koordinater
-                String[] parts = line.split(",");
-
-                if (parts.length == 2) {
-                    try {
-                        // Konverterer tekst til heltall, fjerner eventuelle mellomrom
-                        int x = Integer.parseInt(parts[0].trim());
-                        int y = Integer.parseInt(parts[1].trim());
-
-                        // Legger til koordinatene som et Point-objekt i listen
-                        positions.add(new Point(x, y));
-                        count++;
-                    } catch (NumberFormatException e) {
-                        // Feil ved konvertering fra tekst til tall, logges og metoden returnerer null
-                        System.err.println("Invalid coordinate format: " + line);
-                        return null;
-                    }
-                } else {
-                    // Hvis linjen ikke har nøyaktig to deler, logges feil og metoden returnerer null
-                    System.err.println("Invalid number of coordinates: " + line);
+        // Les linje for linje, stopp ved filslutt eller når count når MAX_BYTES
+        while (count < MAX_BYTES && leser.nesteLinje()) {
+            if (leser.linjeLengde() == 0) {
+                continue;
+            }
+            // Linjen må ha nøyaktig to tall skilt av komma
+            if (leser.finn((byte) ',') < 0) {
+                System.err.println("Invalid number of coordinates: " + leser.linje());
+                return null;
+            }
+            try {
+                long xy = leser.nestePar();
+                if (leser.harTall()) {
+                    System.err.println("Invalid number of coordinates: " + leser.linje());
                     return null;
                 }
+                // Legger til koordinatene som et Point-objekt i listen
+                positions.add(new Point(Inndata.forste(xy), Inndata.andre(xy)));
+                count++;
+            } catch (IllegalArgumentException e) {
+                // Feil ved tolking av tallene, logges og metoden returnerer null
+                System.err.println("Invalid coordinate format: " + leser.linje());
+                return null;
             }
-        } catch (IOException e) {
-            // Håndterer eventuelle I/O-feil ved lesing av filen, logger feilen og returnerer null
-            System.err.println("Error reading file: " + e.getMessage());
-            return null;
         }
 
         // Returnerer listen med alle lesne koordinater
         return positions;
     }
 
+    /**
+     * Leser byteposisjonene fra filen og finner korteste vei gjennom rutenettet.
+     *
+     * @param filename filnavnet som skal leses
+     * @return Antall steg i korteste vei, eller -1 hvis ingen vei finnes
+     * @throws IllegalArgumentException hvis filen ikke kan leses eller inneholder ugyldige data
+     */
+    public static int solve(String filename) {
+        List<Point> positions = readBytePositions(filename);
+        if (positions == null) {
+            throw new IllegalArgumentException("Kunne ikke lese filen eller fant ugyldige data: " + filename);
+        }
+        return findShortestPAth(positions);
+    }
+
     /**
      * Finner den korteste veien fra startpunktet (0,0) til et forhåndsdefinert målpunkt (TARGET_X, TARGET_Y)
      * i et todimensjonalt rutenett. Rutenettet inneholder ødelagte byte-posisjoner som ikke kan krysses.
@@ -146,56 +170,29 @@ public class Oppgave_18 {
      * @return Antall steg i korteste vei fra (0,0) til (TARGET_X, TARGET_Y), eller -1 hvis ingen vei finnes
      */
     private static int findShortestPAth(List<Point> bytePositions) {
-        // Oppretter et GRID_SIZE x GRID_SIZE rutenett, der true = korrupt, false = trygt
-        boolean[][] grid = new boolean[GRID_SIZE][GRID_SIZE];
+        // Oppretter et GRID_SIZE x GRID_SIZE rutenett med ramme rundt, der '#' = korrupt, '.' = trygt
+        Grid grid = new Grid(GRID_SIZE, GRID_SIZE, 1, SAFE);
 
         // Marker de første 1024 bytene som korrupte
         for (Point p : bytePositions) {
-            grid[p.x][p.y] = true;  // Kan ikke gå gjennom denne cellen
-        }
-
-        // Oppretter BFS-kø og legger til startpunktet (0,0) med 0 steg
-        Queue<State> queue = new LinkedList<>();
-        queue.offer(new State(0, 0, 0));
-
-        // Holder styr på hvilke celler vi allerede har besøkt for å unngå uendelige løkker
-        boolean[][] visited = new boolean[GRID_SIZE][GRID_SIZE];
-        visited[0][0] = true;
-
-        // BFS-løkke: henter neste posisjon fra køen og utforsker naboer
-        while (!queue.isEmpty()) {
-            State currentState = queue.poll();
-
-            int x = currentState.x;
-            int y = currentState.y;
-            int steps = currentState.steps;
-
-            // Hvis vi har nådd målet, returner antall steg brukt
-            if (x == TARGET_X && y == TARGET_Y) {
-                return steps;
-            }
-
-            // Utforsk alle fire retninger: opp, ned, høyre, venstre
-            for (int i = 0; i < 4; i++) {
-                int nextX = x + DX[i];
-                int nextY = y + DY[i];
-
-                // Sjekk om neste posisjon er gyldig, ikke korrupt og ikke besøkt før
-                if (isValid(nextX, nextY) && !grid[nextX][nextY] && !visited[nextX][nextY]) {
-                    queue.offer(new State(nextX, nextY, steps + 1)); // Legg til ny posisjon i køen
-                    visited[nextX][nextY] = true; // Merk som besøkt
-                }
+            if (!grid.erInnenfor(p.y, p.x)) {
+                throw new IllegalArgumentException("Byteposisjonen er utenfor rutenettet: " + p.x + "," + p.y);
             }
+            grid.set(grid.id(p.y, p.x), CORRUPTED);  // Kan ikke gå gjennom denne cellen
         }
-        // Hvis vi ikke finner noen vei til målet, returner -1
-        return -1;
-    }
+        int start = grid.id(0, 0);
+        int target = grid.id(TARGET_Y, TARGET_X);
 
-    private static boolean isValid(int x, int y) {
-        return x >= 0 && x < GRID_SIZE && y >= 0 && y < GRID_SIZE;
+        // BFS over celle-id-er. Rammen og de korrupte cellene stopper søket
+        IntKo queue = new IntKo(grid.storrelse());
+        Avstander steps = new Avstander(grid.storrelse());
+        return Sok.bfs(grid, start, target, CORRUPTED, queue, steps);
     }
 
-    private static class Point {
+    /**
+     * En byteposisjon fra inputen.
+     */
+    public static class Point {
         int x, y;
 
         public Point(int x, int y) {
@@ -217,12 +214,32 @@ public class Oppgave_18 {
         }
     }
 
-    private static class State {
-        int x, y, steps;
-        public State(int x, int y, int steps) {
-            this.x = x;
-            this.y = y;
-            this.steps = steps;
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er én byteposisjon ({@code x,y}) per linje.
+     */
+    public static class Losning implements Solver<List<Point>> {
+        @Override
+        public int dag() {
+            return 18;
+        }
+
+        @Override
+        public List<Point> parse(String input) {
+            return parse(Inndata.av(input));
+        }
+
+        @Override
+        public List<Point> parse(Inndata input) {
+            List<Point> positions = parseBytePositions(input);
+            if (positions == null) {
+                throw new IllegalArgumentException("Ugyldige byteposisjoner i inputen");
+            }
+            return positions;
+        }
+
+        @Override
+        public Object part1(List<Point> input) {
+            return findShortestPAth(input);
         }
     }
 
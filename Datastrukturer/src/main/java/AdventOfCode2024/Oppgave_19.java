@@ -104,6 +104,33 @@ public class Oppgave_19 {
         }
         return dp[design.length()];
     }
+
+    /**
+     * Den tolkede inputen: håndklærne som én kommaseparert linje, og designene.
+     */
+    public record Handklaer(String availableTowels, List<String> desiredDesigns) {}
+
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er håndklærne på første linje, en tom linje og ett design per linje.
+     */
+    public static class Losning implements Solver<Handklaer> {
+        @Override
+        public int dag() {
+            return 19;
+        }
+
+        @Override
+        public Handklaer parse(String input) {
+            List<String> linjer = Solver.linjer(input);
+            return new Handklaer(linjer.get(0), linjer.subList(1, linjer.size()));
+        }
+
+        @Override
+        public Object part1(Handklaer input) {
+            return new Oppgave_19().countPossibleDesigns(input.availableTowels(), input.desiredDesigns());
+        }
+    }
+
     public static void main(String[] args) {
         Oppgave_19 obj = new Oppgave_19();
         String availableTowels = "r, wr, b, g, bwu, rb, gb, br";
@@ -1,5 +1,8 @@
 package AdventOfCode2024;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
 import java.util.Scanner;
 import java.util.function.IntPredicate;
 import java.util.stream.IntStream;
@@ -72,6 +75,52 @@ public class Oppgave_2 {
         return true;
     }
 
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er én rapport per linje, med nivåene skilt av mellomrom.
+     */
+    public static class Losning implements Solver<List<int[]>> {
+        @Override
+        public int dag() {
+            return 2;
+        }
+
+        @Override
+        public List<int[]> parse(String input) {
+            return parse(Inndata.av(input));
+        }
+
+        @Override
+        public List<int[]> parse(Inndata input) {
+            List<int[]> rapporter = new ArrayList<>();
+            int[] nivaer = new int[8]; // Gjenbrukes mellom linjene og vokser ved behov
+            Inndata.Leser leser = input.leser();
+            while (leser.nesteLinje()) {
+                int antall = 0;
+                while (leser.harTall()) {
+                    if (antall == nivaer.length) {
+                        nivaer = Arrays.copyOf(nivaer, antall * 2);
+                    }
+                    nivaer[antall++] = leser.nesteInt();
+                }
+                if (antall > 0) {
+                    rapporter.add(Arrays.copyOf(nivaer, antall));
+                }
+            }
+            return rapporter;
+        }
+
+        @Override
+        public Object part1(List<int[]> input) {
+            int trygge = 0;
+            for (int[] rapport : input) {
+                if (erTryggRapport(rapport)) {
+                    trygge++;
+                }
+            }
+            return trygge;
+        }
+    }
+
     public static void main(String[] args) {
         int[] nivaer_1 = new int[]{7, 6, 4, 2, 1};
         System.out.println("Nivåer_1 er trygg: " + erTryggRapport(nivaer_1));
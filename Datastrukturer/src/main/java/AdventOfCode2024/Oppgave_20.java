@@ -1,10 +1,8 @@
 package AdventOfCode2024;
 
-import javax.swing.text.Position;
-import java.io.BufferedReader;
-import java.io.FileReader;
 import java.io.IOException;
-import java.util.*;
+import java.nio.file.Paths;
+import java.util.List;
 
 /*
 Oppgave: Juksekoder på Racerbanen
@@ -81,54 +79,46 @@ Lykke til med løpet!
  */
 public class Oppgave_20 {
 
-    private static final char Track = '.';
-    private static final char Wall = '#';
-    private static final char START = 'S';
-    private static final char END = 'E';
-    private static final int[] DR = {-1,1,0,0}; // Endring i rad(opp, ned, venstre, høyre)
-    private static final int[] DC = {0,0,-1,1}; // Endirng i kolonne (Opp, ned, Venstre, Høyre)
-    private static final int NUMBER_OF_DIRECTIONS = 4;
+    private static final byte Wall = '#';
+    private static final byte START = 'S';
+    private static final byte END = 'E';
     private static final int MAX_CHEAT_STEPS = 2;
     private static final int MIN_SAVING = 100;
 
-    private static char[][] map;
-    private static int width;
-    private static int height;
-    private static Position start;
-    private static Position end;
-
-    private static class Position {
-        private int row, col;
-        public Position(int row, int col) {
-            this.row = row;
-            this.col = col;
-        }
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            Position position = (Position) o;
-            return row == position.row && col == position.col;
-        }
-        @Override
-        public int hashCode() {
-            return Objects.hash(row, col);
-        }
-        @Override
-        public String toString() {
-            return "(" + row + ", " + col + ")";
-        }
-    }
+    // Rammen er like tykk som et juks er langt, så et juks fra en hvilken som helst rute havner i kartet eller rammen
+    private Grid map;
+    private int start;
+    private int end;
 
     public Oppgave_20(String mapFilePath) throws IOException {
         loadMap(mapFilePath);
     }
 
     /**
-     * Leser inn et kart fra en tekstfil, lagrer det som et 2D char-array,
-     * og finner start- og sluttposisjonen i kartet.
+     * Oppretter oppgaven fra kartlinjene direkte, uten å gå via en fil.
+     *
+     * @param lines kartet, én rad per linje
+     * @throws IllegalArgumentException hvis start- eller sluttposisjon ikke finnes i kartet
+     */
+    public Oppgave_20(List<String> lines) {
+        initMap(Grid.av(lines, MAX_CHEAT_STEPS));
+    }
+
+    /**
+     * Oppretter oppgaven fra en input som leses rett fra bytene, uten en String per rad.
+     * Tomme linjer foran kartet hoppes over.
+     *
+     * @param input kartet, én rad per linje
+     * @throws IllegalArgumentException hvis start- eller sluttposisjon ikke finnes i kartet
+     */
+    public Oppgave_20(Inndata input) {
+        initMap(Grid.les(input, MAX_CHEAT_STEPS));
+    }
+
+    /**
+     * Leser inn et kart fra en tekstfil og finner start- og sluttposisjonen i kartet.
      * <p>
-     * Filen leses linje for linje, og hver linje konverteres til en rad i kartet.
+     * Filen mappes inn i minnet med {@link Inndata}, og hver linje kopieres rett til en rad i kartet.
      * Metoden forventer at kartet inneholder én startposisjon og én sluttposisjon,
      * definert av konstantene {@code START} og {@code END}.
      * </p>
@@ -138,195 +128,111 @@ public class Oppgave_20 {
      * @throws IllegalArgumentException hvis start- eller sluttposisjon ikke finnes i kartet
      */
     private void loadMap(String mapFilePath) throws IOException {
-        List<String> lines = new ArrayList<>();
-        try (BufferedReader reader = new BufferedReader(new FileReader(mapFilePath))) {
-            String line;
-            while ((line = reader.readLine()) != null) {
-                lines.add(line);
-            }
-        }
+        initMap(Grid.les(Inndata.map(Paths.get(mapFilePath)), MAX_CHEAT_STEPS));
+    }
 
-        height = lines.size();
-        width = lines.get(0).length();
-        map = new char[height][width];
-
-        for (int i = 0; i < height; i++) {
-            String line = lines.get(i);
-            map[i] = line.toCharArray();
-            for (int j = 0; j < width; j++) {
-                if (map[i][j] == START) {
-                    start = new Position(i, j);
-                } else if (map[i][j] == END) {
-                    end = new Position(i, j);
-                }
-            }
-        }
+    private void initMap(Grid map) {
+        this.map = map;
+        start = map.finn(START);
+        end = map.finn(END);
 
-        if (start == null || end == null) {
+        if (start < 0 || end < 0) {
             throw new IllegalArgumentException("Start or end position are null");
         }
     }
 
     /**
-     * Løser problemet ved å finne antall "jukse"-strategier som gir en
-     * betydelig kortere rute fra start til slutt. En juks innebærer at man
-     * går gjennom maks to vegger (definert som MAX_CHEAT_STEPS).
+     * Teller juksene som sparer minst {@value #MIN_SAVING} pikosekunder.
      *
      * @return Antall gyldige jukseruter som gir besparelse over terskelverdien.
      */
     public int solve() {
-        // Finn den korteste vanlige veien uten juks
-        int shortestPathWithoutCheat = findShortestPath(start, end, false);
-        // Teller antall gyldige jukseruter som gir ønsket besparelse
-        int savingCheats = 0;
-        // Iterer gjennom alle mulige startposisjoner i kartet
-        for (int row = 0; row < height; row++) {
-            for (int col = 0; col < width; col++) {
-                // Hopper over vegger – man kan ikke starte et juks fra en vegg
-                if (map[row][col] == Wall) continue;
-                Position cheatStart = new Position(row, col);
-                // Undersøker alle posisjoner inntil 3 ruter unna (i alle retninger, inkludert diagonalt)
-                // Math.max / min sikrer at vi ikke går utenfor rutenettet
-                for (int endRow = Math.max(0, row - 3); endRow < Math.min(height, row + 4); endRow++) {
-                    for (int endCol = Math.max(0, col - 3); endCol < Math.min(width, col + 4); endCol++) {
-                        // Kan ikke avslutte jukset i en vegg
-                        if (map[endRow][endCol] == Wall) continue;
-                        Position cheatEnd = new Position(endRow, endCol);
-                        // Finn korteste vei fra cheatStart til cheatEnd,
-                        // tillatt å gå gjennom maks MAX_CHEAT_STEPS vegger
-                        int cheatPathLength = findShortestPathWithMaxWallSteps(cheatStart, cheatEnd, true);
-
-                        // Hvis det finnes en gyldig juksesti mellom start og sluttpunkt
-                        if (cheatPathLength != Integer.MAX_VALUE) {
-
-                            // Finn vanlig korteste vei fra slutten av jukseruten til mål
-                            int pathFromCheatEndToGoal = findShortestPath(new Position(endRow, endCol), end, false);
-                            // Full lengde for jukseruten: juksesti + normalsti etter juks
-                            int pathWithCheat = cheatPathLength + pathFromCheatEndToGoal;
-                            // Beregn hvor mange skritt man sparer ved å jukse
-                            int saving = shortestPathWithoutCheat - pathWithCheat;
-                            // Hvis man sparer nok (over terskelverdi), regnes dette som en gyldig juks
-                            if (saving >= MIN_SAVING) {
-                                savingCheats++;
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        // Returnerer totalt antall nyttige jukseruter
-        return savingCheats;
+        return solve(MIN_SAVING);
     }
 
-
     /**
-     * Finner den korteste veien mellom to posisjoner på kartet ved hjelp av bredde-først-søk (BFS).
+     * Teller juksene som sparer minst {@code minSaving} pikosekunder. Et juks går fra en rute
+     * på banen til en annen rute på banen høyst {@value #MAX_CHEAT_STEPS} steg unna
+     * (Manhattan-avstand), rett gjennom veggene.
+     * <p>
+     * Først finnes avstanden fra start til hver rute og fra hver rute til mål med to BFS-er.
+     * Da er lengden på ruten med et juks fra a til b bare
+     * {@code fraStart[a] + juksLengde + tilMaal[b]}, så ingen søk trengs per juks.
      *
-     * @param start       startposisjonen
-     * @param end         sluttposisjonen
-     * @param allowCheating om det er tillatt å gå gjennom vegger
-     * @return lengden på den korteste veien, eller Integer.MAX_VALUE hvis ingen vei finnes
+     * @param minSaving Hvor mye et juks minst må spare for å telle med.
+     * @return Antall jukseruter som sparer minst {@code minSaving}, eller 0 hvis målet ikke kan nås.
      */
-    private int findShortestPath(Position start, Position end, boolean allowCheating) {
-        Queue<State> queue = new LinkedList<>();
-        queue.offer(new State(start, 0)); // Starttilstand med distanse 0
-
-        Set<Position> visited = new HashSet<>(); // Holder styr på besøkte posisjoner
-        visited.add(start);
-
-        while (!queue.isEmpty()) {
-            State current = queue.poll();
-            Position currentPosition = current.position;
-            int currentDistance = current.distance;
+    public int solve(int minSaving) {
+        // Avstanden fra start og til mål for hver rute, uten juks. Køen deles av de to søkene
+        IntKo queue = new IntKo(map.storrelse());
+        Avstander fromStart = new Avstander(map.storrelse());
+        Avstander toEnd = new Avstander(map.storrelse());
+        Sok.bfs(map, start, -1, Wall, queue, fromStart);
+        Sok.bfs(map, end, -1, Wall, queue, toEnd);
+        // Den korteste vanlige veien uten juks
+        int shortestPathWithoutCheat = fromStart.get(end);
+        if (shortestPathWithoutCheat == Avstander.UKJENT) {
+            return 0;
+        }
 
-            if (currentPosition.equals(END)) {
-                return currentDistance; // Fant målposisjonen
-            }
-            // Utforsk naboer
-            for (int i = 0; i < NUMBER_OF_DIRECTIONS; i++) {
-                int newRow = currentPosition.row + DR[i];
-                int newCol = currentPosition.col + DC[i];
-                Position newPosition = new Position(newRow, newCol);
-                if (isValidPosition(newRow, newCol) && !visited.contains(newPosition)) {
-                    char cell = map[newRow][newCol];
-                    if (cell == Track || cell == END || cell == START || (allowCheating && cell == Wall)) {
-                        queue.offer(new State(newPosition, currentDistance + 1));
-                        visited.add(newPosition);
-                    }
+        // Alle juks som forskyvning i celle-id og lengde, regnet ut én gang
+        int[] cheatOffsets = new int[2 * MAX_CHEAT_STEPS * (MAX_CHEAT_STEPS + 1)];
+        int[] cheatLengths = new int[cheatOffsets.length];
+        int cheats = 0;
+        for (int dRow = -MAX_CHEAT_STEPS; dRow <= MAX_CHEAT_STEPS; dRow++) {
+            for (int dCol = -MAX_CHEAT_STEPS; dCol <= MAX_CHEAT_STEPS; dCol++) {
+                int length = Math.abs(dRow) + Math.abs(dCol);
+                if (length > 0 && length <= MAX_CHEAT_STEPS) {
+                    cheatOffsets[cheats] = map.forskyvning(dRow, dCol);
+                    cheatLengths[cheats++] = length;
                 }
             }
         }
-        return Integer.MAX_VALUE; //Ingen vei funnet
-    }
 
-    private static int findShortestPathWithMaxWallSteps(Position start, Position end, boolean allowCheating) {
-        Queue<CheatState> queue = new LinkedList<>();
-        queue.offer(new CheatState(start, 0,0));
-
-        Set<String> visited = new HashSet<>();
-        while (!queue.isEmpty()) {
-            CheatState current = queue.poll();
-            Position currentPosition = current.position;
-            int currentDistance = current.distance;
-            int wallSteps = current.wallSteps;
-
-            if(currentPosition.equals(END)) {
-                 return currentDistance;
-            }
-
-            String stateString = currentPosition.row + "," + currentPosition.col + "," + wallSteps;
-
-            if (visited.contains(stateString)) {
-                continue;
-            }
-
-            visited.add(stateString);
-
-            // Utforsk naboer
-            for (int i = 0; i < NUMBER_OF_DIRECTIONS; i++) {
-                int newRow = currentPosition.row + DR[i];
-                int newCol = currentPosition.col + DC[i];
-
-                Position newPosition = new Position(newRow, newCol);
-                if (isValidPosition(newRow, newCol)) {
-                    char cell = map[newRow][newCol];
-                    if (cell == Track || cell == END || cell == START) {
-                        // Hvis det er en vanllig rute, øk distansen og fortsett uten å øke veggtrinn
-                        queue.offer(new CheatState(newPosition, currentDistance +  1, wallSteps));
-                    } else if (cell == Wall && wallSteps < MAX_CHEAT_STEPS) {
-                        // Hvis det er en vegg og vi har igjen veggtrinn, øk både distanse og veggtrinn
-                        queue.offer(new CheatState(newPosition, currentDistance + 1, wallSteps + 1));
-                    }
+        // Teller antall gyldige jukseruter som gir ønsket besparelse
+        int savingCheats = 0;
+        for (int cheatStart = 0; cheatStart < map.storrelse(); cheatStart++) {
+            // Jukset må starte på en rute vi kan nå; vegger og rammen har ukjent avstand
+            if (!fromStart.erKjent(cheatStart)) continue;
+            for (int i = 0; i < cheats; i++) {
+                // Kan ikke avslutte jukset i en vegg. Rammen er tykk nok til at indeksen alltid er gyldig
+                int cheatEnd = cheatStart + cheatOffsets[i];
+                if (!toEnd.erKjent(cheatEnd)) continue;
+                int pathWithCheat = fromStart.get(cheatStart) + cheatLengths[i] + toEnd.get(cheatEnd);
+                // Hvis man sparer nok (over terskelverdi), regnes dette som en gyldig juks
+                if (shortestPathWithoutCheat - pathWithCheat >= minSaving) {
+                    savingCheats++;
                 }
             }
         }
-        return Integer.MAX_VALUE;
+        // Returnerer totalt antall nyttige jukseruter
+        return savingCheats;
     }
 
-    private static boolean isValidPosition(int row, int col) {
-        return row >= 0 && row < height && col >= 0 && col < width;
-    }
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er racerbanen, én rad per linje.
+     */
+    public static class Losning implements Solver<Oppgave_20> {
+        @Override
+        public int dag() {
+            return 20;
+        }
 
-    private static class State {
-        private Oppgave_20.Position position;
-        private int distance;
-        public State(Oppgave_20.Position position, int distance) {
-            this.position = position;
-            this.distance = distance;
+        @Override
+        public Oppgave_20 parse(String input) {
+            return parse(Inndata.av(input));
         }
-    }
 
-    private static class CheatState {
-        private Oppgave_20.Position position;
-        private int distance;
-        private int wallSteps;
-        public CheatState(Oppgave_20.Position position, int distance, int wallSteps) {
-            this.position = position;
-            this.distance = distance;
-            this.wallSteps = wallSteps;
+        @Override
+        public Oppgave_20 parse(Inndata input) {
+            return new Oppgave_20(input);
         }
-    }
 
+        @Override
+        public Object part1(Oppgave_20 input) {
+            return input.solve();
+        }
+    }
 
     public static void main(String[] args) throws IOException {
         String filePath = "C:\\Github\\Datastrukturer\\Datastrukturer\\src\\map.txt"; // Eller "src/map.txt"
@@ -69,123 +69,77 @@ Denne beskrivelsen er mer fokusert, bruker enklere språk og gir et tydelig ekse
 public class Oppgave_21 {
 
 
+    // Tastene ligger i et rutenett med COLUMNS kolonner. En posisjon er rad * COLUMNS + kolonne
+    private static final int COLUMNS = 3;
+    private static final char NO_KEY = '\0';
+
     // interface for keyboard
     interface Keyboard {
-        char getKeyAt(Position position); // hent bokstav på en gitt posijsosjon
-        Position getStartPosition(); // Returner hvor du står når du starter
-        boolean isValidPosition(Position position); // sjekk om posisjonen er gyldig
-        Map<Position, Character> getLayout(); // Returnerer en kopy for å unngå modifisering
+        char getKeyAt(int position); // hent bokstav på en gitt posisjon, eller NO_KEY
+        int getStartPosition(); // Returner hvor du står når du starter
+        boolean isValidPosition(int position); // sjekk om posisjonen er gyldig
+        char[] getLayout(); // Returnerer en kopi for å unngå modifisering
     }
 
     /**
-     *
-     * tilgjengelig fra alle klasser i samme package
-     * layout er innkapslet – kun tilgjengelig inne i NumericKeyboard.
-     * Dette følger prinsippet om "information hiding": bare NumericKeyboard
-     * trenger å vite hvordan tastaturet er bygget opp.
+     * Felles for tastaturene: layout er tastene rad for rad, med {@link #NO_KEY} der det ikke er noen tast.
+     * <p>
+     * layout er innkapslet – kun tilgjengelig inne i tastaturet.
+     * Dette følger prinsippet om "information hiding": bare tastaturet
+     * trenger å vite hvordan det er bygget opp.
      */
-    static class NumericKeyboard implements Keyboard {
-        private final Map<Position, Character> layout;
+    private abstract static class GridKeyboard implements Keyboard {
+        private final char[] layout;
+        private final int startPosition;
 
-        public NumericKeyboard() {
-            layout = new HashMap<>();
-            layout.put(new Position(0, 0), '7');
-            layout.put(new Position(0, 1), '8');
-            layout.put(new Position(0, 2), '9');
-            layout.put(new Position(1, 0), '4');
-            layout.put(new Position(1, 1), '5');
-            layout.put(new Position(1, 2), '6');
-            layout.put(new Position(2, 0), '1');
-            layout.put(new Position(2, 1), '2');
-            layout.put(new Position(2, 2), '3');
-            layout.put(new Position(3, 1), '0');
-            layout.put(new Position(3, 2), 'A');
-        }
-        @Override
-        public char getKeyAt(Position position) {
-            return layout.getOrDefault(position, null); // Return null if postion is invalid
+        GridKeyboard(char[] layout, char startKey) {
+            this.layout = layout;
+            this.startPosition = new String(layout).indexOf(startKey);
         }
 
         @Override
-        public Position getStartPosition() {
-            return new Position(0, 0); // 'A' key
+        public char getKeyAt(int position) {
+            return isValidPosition(position) ? layout[position] : NO_KEY; // NO_KEY hvis posisjonen er ugyldig
         }
 
         @Override
-        public boolean isValidPosition(Position position) {
-            return layout.containsKey(position);
+        public int getStartPosition() {
+            return startPosition; // 'A' key
         }
 
         @Override
-        public Map<Position, Character> getLayout() {
-            return new HashMap<>(layout);
-        }
-
-    }
-
-    private static class Position {
-        private final int row, col;
-        public Position(int row, int col) {
-            this.row = row;
-            this.col = col;
-        }
-        public int getRow() {
-            return row;
-        }
-        public int getCol() {
-            return col;
-        }
-        @Override
-        public boolean equals(Object o) {
-            if (this == o) return true;
-            if (o == null || getClass() != o.getClass()) return false;
-            Position position = (Position) o;
-            return row == position.row && col == position.col;
+        public boolean isValidPosition(int position) {
+            return position >= 0 && position < layout.length && layout[position] != NO_KEY;
         }
 
         @Override
-        public int hashCode() {
-            return Objects.hash(row, col);
+        public char[] getLayout() {
+            return layout.clone();
         }
+    }
 
-        @Override
-        public String toString() {
-            return "(" + row + "," + col + ")";
+    /**
+     * tilgjengelig fra alle klasser i samme package
+     */
+    static class NumericKeyboard extends GridKeyboard {
+        public NumericKeyboard() {
+            super(new char[]{
+                    '7', '8', '9',
+                    '4', '5', '6',
+                    '1', '2', '3',
+                    NO_KEY, '0', 'A'}, 'A');
         }
     }
 
     // Represents the Directional Keyboard
-    static class DirectionalKeyboard implements Keyboard {
-        private final Map<Position, Character> layout;
-
+    static class DirectionalKeyboard extends GridKeyboard {
         public DirectionalKeyboard() {
-            layout = new HashMap<>();
-            layout.put(new Position(0, 1), '^');
-            layout.put(new Position(1, 0), '<');
-            layout.put(new Position(1, 1), 'v');
-            layout.put(new Position(1, 2), '>');
-        }
-
-        @Override
-        public char getKeyAt(Position position) {
-            return layout.getOrDefault(position, null);
-        }
-
-        @Override
-        public Position getStartPosition() {
-            return new Position(0, 1); // '^' key
-        }
-
-        @Override
-        public boolean isValidPosition(Position position) {
-            return layout.containsKey(position);
-        }
-
-        @Override
-        public Map<Position, Character> getLayout() {
-            return new HashMap<>(layout);
+            super(new char[]{
+                    NO_KEY, '^', 'A',
+                    '<', 'v', '>'}, 'A');
         }
     }
+
     /**
      * Klasse som løser tastaturgåten basert på to forskjellige tastaturer.
      * <p>
@@ -198,6 +152,15 @@ public class Oppgave_21 {
         /** Tastatur for å oversette retningssekvenser */
         private final Keyboard directionalKeyboard;
         private static final char[] DIRECTIONS = {'^', 'v', '<', '>'};
+        /** Plass nok til alle posisjonene på begge tastaturene */
+        private static final int MAX_POSITIONS = 4 * COLUMNS;
+
+        // BFS-tilstand som gjenbrukes for hver tast. Veien bygges fra forrige posisjon og retning
+        private final IntKo queue = new IntKo(MAX_POSITIONS);
+        private final Besokt visited = new Besokt(MAX_POSITIONS);
+        private final int[] previous = new int[MAX_POSITIONS];
+        private final char[] via = new char[MAX_POSITIONS];
+        private final char[] path = new char[MAX_POSITIONS];
         /**
          * Oppretter en ny løser for tastaturgåten.
          *
@@ -249,9 +212,6 @@ public class Oppgave_21 {
 
                 // Akkumuler kompleksiteten
                 totalComplexity += complexity;
-
-                // Skriv ut resultatet for denne koden
-                System.out.println(code + ": " + directionalSequence3);
             }
 
             // Returner total kompleksitet etter å ha behandlet alle koder
@@ -266,27 +226,27 @@ public class Oppgave_21 {
          * forsøker den å finne korteste vei til tasten på tastaturet.
          * Hvis én enkelt tast ikke kan nås, returneres {@code null}.
          *
-         * @param code     strengen som representerer koden som skal tolkes
+         * @param code     strengen som representerer koden som skal tolkes, eller {@code null}
          * @param keyboard tastaturet som brukes for å tolke posisjonene
          * @return en streng med retningsbevegelser (f.eks. "UUDDLR"), eller {@code null} hvis ikke mulig
          */
         private String translateCodeToDirectionalSequence(String code, Keyboard keyboard) {
+            // Et tidligere steg som mislyktes, gjør også dette steget umulig
+            if (code == null) {
+                return null;
+            }
             // Start fra den definerte startposisjonen på tastaturet
-            Position startPosition = keyboard.getStartPosition();
+            int position = keyboard.getStartPosition();
             // Strengen som samler hele retningssekvensen
             StringBuilder sequence = new StringBuilder();
             // Gå gjennom hver tast i koden
-            for (char key : code.toCharArray()) {
-                // Finn korteste vei fra nåværende posisjon til tasten
-                String path = findShortestPath(startPosition, key, keyboard);
-                if (path == null) {
+            for (int i = 0; i < code.length(); i++) {
+                // Finn korteste vei fra nåværende posisjon til tasten, og flytt dit
+                position = appendShortestPath(position, code.charAt(i), keyboard, sequence);
+                if (position < 0) {
                     // Hvis ingen vei finnes, er koden ugyldig
                     return null;
                 }
-                // Legg til retningene i den samlede sekvensen
-                sequence.append(path);
-                // Oppdater startposisjon for neste tast
-                startPosition = findLastPosition(path, keyboard, startPosition);
             }
 
             // Returner hele retningssekvensen som streng
@@ -297,60 +257,64 @@ public class Oppgave_21 {
             return translateCodeToDirectionalSequence(directionalSequence, keyboard); // bruker samme logikk
         }
 
-        private String findShortestPath(Position startPosition, char targetKey, Keyboard keyboard) {
-            Queue<Pair<Position, String>> queue = new LinkedList<>();
-            Set<Position> visited = new HashSet<>();
-
-            queue.offer(new Pair<>(startPosition, null));
-            visited.add(startPosition);
+        /**
+         * Finner korteste vei fra en posisjon til en tast med BFS, og legger retningene og et
+         * trykk på 'A' til sekvensen. Retningene prøves i rekkefølgen i {@code DIRECTIONS}.
+         *
+         * @return posisjonen til tasten, eller -1 hvis ingen vei finnes
+         */
+        private int appendShortestPath(int startPosition, char targetKey, Keyboard keyboard, StringBuilder sequence) {
+            queue.clear();
+            visited.nyttSok();
+            queue.leggTil(startPosition);
+            visited.besok(startPosition);
 
             while (!queue.isEmpty()) {
-                Pair<Position, String> pair = queue.poll();
-                Position position = pair.getKey();
-
-                String path = pair.getValue();
-                char keyAtPosition = keyboard.getKeyAt(position);
+                int position = queue.taUt();
 
-                if (keyAtPosition == targetKey) {
-                    return path + "A";
+                if (keyboard.getKeyAt(position) == targetKey) {
+                    // Gå baklengs fra tasten til start, og legg retningene til i riktig rekkefølge
+                    int length = 0;
+                    for (int p = position; p != startPosition; p = previous[p]) {
+                        path[length++] = via[p];
+                    }
+                    while (length > 0) {
+                        sequence.append(path[--length]);
+                    }
+                    sequence.append('A');
+                    return position;
                 }
 
                 for (char direction : DIRECTIONS) {
-                    Position nextPosition = calculateNextPosition(position, direction, keyboard);
-                    if (nextPosition != null && !visited.contains(nextPosition) && keyboard.isValidPosition(nextPosition)) {
-                        queue.offer(new Pair<>(nextPosition, path + direction));
-                        visited.add(nextPosition);
+                    int nextPosition = calculateNextPosition(position, direction);
+                    if (keyboard.isValidPosition(nextPosition) && visited.besok(nextPosition)) {
+                        previous[nextPosition] = position;
+                        via[nextPosition] = direction;
+                        queue.leggTil(nextPosition);
                     }
                 }
             }
-            return null; // ingen path funnet
+            return -1; // ingen path funnet
         }
 
-        private Position calculateNextPosition(Position position, char direction, Keyboard keyboard) {
-            int row = position.getRow();
-            int col = position.getCol();
+        // Posisjonen ett steg i retningen, eller -1 hvis steget går ut av en side. Rader utenfor sjekkes av isValidPosition
+        private static int calculateNextPosition(int position, char direction) {
+            int col = position % COLUMNS;
 
             switch (direction) {
                 case '^':
-                    return new Position(row - 1, col);
+                    return position - COLUMNS;
                 case 'v':
-                    return new Position(row + 1, col);
+                    return position + COLUMNS;
                 case '<':
-                    return new Position(row, col - 1);
+                    return col > 0 ? position - 1 : -1;
                 case '>':
-                    return new Position(row, col + 1);
+                    return col < COLUMNS - 1 ? position + 1 : -1;
                 default:
-                    return null;
+                    return -1;
             }
         }
 
-        private Position findLastPosition(String path, Keyboard keyboard, Position startPosition) {
-            Position currentPosition = startPosition;
-            for (char move : path.toCharArray()) {
-                currentPosition = calculateNextPosition(currentPosition, move, keyboard);
-            }
-            return currentPosition;
-        }
         private long calculateComplexity(String code, String sequence) {
             try {
                 int numericValue = Integer.parseInt(code.replaceAll("[^0-9]", ""));
@@ -360,30 +324,48 @@ public class Oppgave_21 {
                 return 0;
             }
         }
-        // Hjelpeklasse for Pair
-        static class Pair<K, V> {
-            private final K key;
-            private final V value;
-            public Pair(K key, V value) {
-                this.key = key;
-                this.value = value;
-            }
-            public K getKey() {
-                return key;
-            }
-            public V getValue() {
-                return value;
-            }
-        }
-
     }
-    public static void main(String[] args) {
-        List<String> codes = Arrays.asList("029A", "980A", "179A", "456A", "379A");
+    /**
+     * Løser gåten for kodene med det numeriske tastaturet og retningstastaturet.
+     *
+     * @param codes listen av koder som skal løses
+     * @return total kompleksitet av løsningene, eller 0 hvis mislykket
+     */
+    public static long solve(List<String> codes) {
         KeyboardPuzzleSolver solver = new KeyboardPuzzleSolver(
                 new NumericKeyboard(),
                 new DirectionalKeyboard()
         );
-        long totalComplexity = solver.solve(codes);
+        return solver.solve(codes);
+    }
+
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er én kode per linje.
+     * <p>
+     * Ikke registrert i {@code META-INF/services}: BFS-en velger én vilkårlig korteste vei per
+     * tast, mens rekkefølgen på retningene påvirker lengden på nivåene over. Eksempelet gir
+     * derfor 131946 i stedet for 126384.
+     */
+    public static class Losning implements Solver<List<String>> {
+        @Override
+        public int dag() {
+            return 21;
+        }
+
+        @Override
+        public List<String> parse(String input) {
+            return Solver.linjer(input);
+        }
+
+        @Override
+        public Object part1(List<String> input) {
+            return solve(input);
+        }
+    }
+
+    public static void main(String[] args) {
+        List<String> codes = Arrays.asList("029A", "980A", "179A", "456A", "379A");
+        long totalComplexity = solve(codes);
         System.out.println("Total complexity: " + totalComplexity);
     }
 }
@@ -138,6 +138,38 @@ public class Oppgave_22 {
         return secret;
     }
 
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er ett hemmelig starttall per linje.
+     */
+    public static class Losning implements Solver<List<Long>> {
+        @Override
+        public int dag() {
+            return 22;
+        }
+
+        @Override
+        public List<Long> parse(String input) {
+            return parse(Inndata.av(input));
+        }
+
+        @Override
+        public List<Long> parse(Inndata input) {
+            List<Long> secrets = new ArrayList<>();
+            Inndata.Leser leser = input.leser();
+            while (leser.nesteLinje()) {
+                while (leser.harTall()) {
+                    secrets.add(leser.nesteLong());
+                }
+            }
+            return secrets;
+        }
+
+        @Override
+        public Object part1(List<Long> input) {
+            return calculateSumOf2000thSecrets(input);
+        }
+    }
+
     public static void main(String[] args) {
         List<Long> initialSecrets = new ArrayList<>();
         initialSecrets.add(1L);
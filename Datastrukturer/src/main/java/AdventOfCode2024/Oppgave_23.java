@@ -154,6 +154,26 @@ public class Oppgave_23 {
         return triangles;
     }
 
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er én forbindelse ({@code a-b}) per linje.
+     */
+    public static class Losning implements Solver<List<String>> {
+        @Override
+        public int dag() {
+            return 23;
+        }
+
+        @Override
+        public List<String> parse(String input) {
+            return Solver.linjer(input);
+        }
+
+        @Override
+        public Object part1(List<String> input) {
+            return countTrianglesWithT(input);
+        }
+    }
+
     public static void main(String[] args) {
         // Test data (replace with your actual input)
         List<String> connections = Arrays.asList(
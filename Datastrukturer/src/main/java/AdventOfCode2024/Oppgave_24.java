@@ -21,7 +21,7 @@ public class Oppgave_24 {
 
     private final Map<String, Integer> wireValues = new HashMap<>(); // Lagrer verdien (0 eller 1) for hver ledning.
     private final List<Gate> gates = new ArrayList<>(); // Lagrer alle portene i kretsen.
-    private static final Pattern INITIAL_VALUE_PATTERN = Pattern.compile("([a-zA-Z0-9]+):(0|1)");
+    private static final Pattern INITIAL_VALUE_PATTERN = Pattern.compile("([a-zA-Z0-9]+):\\s*(0|1)");
     private static final Pattern GATE_PATTERN = Pattern.compile("([a-z0-9]+) (AND|OR|XOR) ([a-z0-9]+) -> ([a-z0-9]+)");
 
     public Oppgave_24(List<String> input) {
@@ -92,8 +92,9 @@ public class Oppgave_24 {
         StringBuilder binaryString = new StringBuilder();
         int index = 0;
 
-        while (wireValues.containsKey("z" + index)) {
-            binaryString.insert(0, wireValues.get("z" + index));
+        // Ledningene heter z00, z01, ..., så indeksen fylles ut med null foran
+        while (wireValues.containsKey(String.format("z%02d", index))) {
+            binaryString.insert(0, wireValues.get(String.format("z%02d", index)));
             index++;
         }
 
@@ -122,6 +123,27 @@ public class Oppgave_24 {
                 throw new IllegalArgumentException("Invalid gate operation: " + operation);
         }
     }
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er startverdiene ({@code x00: 1}), en tom linje og én port per linje.
+     */
+    public static class Losning implements Solver<List<String>> {
+        @Override
+        public int dag() {
+            return 24;
+        }
+
+        @Override
+        public List<String> parse(String input) {
+            return Solver.linjer(input);
+        }
+
+        @Override
+        public Object part1(List<String> input) {
+            // Ledningsverdiene fylles inn under simuleringen, så kretsen bygges på nytt hver gang
+            return new Oppgave_24(input).simulate();
+        }
+    }
+
     public static void main(String[] args) {
         List<String> input = List.of(
                 "x00: 1",
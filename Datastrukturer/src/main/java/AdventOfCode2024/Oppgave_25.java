@@ -215,6 +215,36 @@ public class Oppgave_25 {
         return schemas;
     }
 
+    /**
+     * Den tolkede inputen: låsene og nøklene.
+     */
+    public record Skjemaer(List<String[]> locks, List<String[]> keys) {}
+
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er skjemaene skilt av tomme linjer. Skjemaer med fylt øverste rad er låser, resten er nøkler.
+     */
+    public static class Losning implements Solver<Skjemaer> {
+        @Override
+        public int dag() {
+            return 25;
+        }
+
+        @Override
+        public Skjemaer parse(String input) {
+            List<String[]> locks = new ArrayList<>();
+            List<String[]> keys = new ArrayList<>();
+            for (String[] schema : parseSchemas(String.join("\n\n", Solver.blokker(input)))) {
+                (schema[0].chars().allMatch(c -> c == '#') ? locks : keys).add(schema);
+            }
+            return new Skjemaer(locks, keys);
+        }
+
+        @Override
+        public Object part1(Skjemaer input) {
+            return new Oppgave_25().countMatchingPairs(input.locks(), input.keys());
+        }
+    }
+
     public static void main(String[] args) {
         String locksData = "#####\n.####\n.####\n.####\n.#.#.\n.#....\n.....\n" +
                            "#####\n##.##\n.#.##\n...##\n...#.\n...#.\n.....";
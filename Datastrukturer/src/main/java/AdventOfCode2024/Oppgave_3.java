@@ -52,6 +52,26 @@ public class Oppgave_3 {
         return totalSum;
     }
 
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er det korrupte minnet som tekst.
+     */
+    public static class Losning implements Solver<String> {
+        @Override
+        public int dag() {
+            return 3;
+        }
+
+        @Override
+        public String parse(String input) {
+            return input;
+        }
+
+        @Override
+        public Object part1(String input) {
+            return beregnMultiplikasjonsSum(input);
+        }
+    }
+
     public static void main(String[] args) {
         String korruptMinne = "xmul(2,4)%&mul[3,7]!@^do_not_mul(5,5)+mul(32,64]then(mul(11,8)mul(8,5))";
         System.out.println(beregnMultiplikasjonsSum(korruptMinne));
@@ -1,8 +1,8 @@
 package AdventOfCode2024;
 
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /*
 Du får to sett med data:
@@ -64,50 +64,135 @@ Din oppgave er å:
     Oppgaven din er å finne summen av midtsidetallene for de riktig ordnede oppdateringene basert på ditt fullstendige input.
      */
 public class Oppgave_5 {
-    private final List<String> rules;
-    private final List<String> updates;
+    private final int[][] rules;      // {før, etter} for hver regel
+    private final List<int[]> updates;
 
     public Oppgave_5(List<String> rules, List<String> updates) {
+        this(readRules(Inndata.av(String.join("\n", rules)).leser()),
+                readUpdates(Inndata.av(String.join("\n", updates)).leser()));
+    }
+
+    private Oppgave_5(int[][] rules, List<int[]> updates) {
         this.rules = rules;
         this.updates = updates;
     }
 
-    public int solve() {
-        return updates.stream()
-                .filter(this::isCorrectlyOrdered)
-                .mapToInt(this::getMiddlePage)
-                .sum();
+    /**
+     * Leser reglene ({@code X|Y}) og oppdateringene ({@code a,b,c}) rett fra inputen. Linjer med
+     * {@code |} er regler, resten er oppdateringer, så rekkefølgen og den tomme linjen mellom dem
+     * spiller ingen rolle.
+     *
+     * @param input Hele inputen.
+     * @return Oppgaven med tallene ferdig tolket.
+     */
+    public static Oppgave_5 parse(Inndata input) {
+        List<int[]> rules = new ArrayList<>();
+        List<int[]> updates = new ArrayList<>();
+        Inndata.Leser leser = input.leser();
+        while (leser.nesteLinje()) {
+            if (leser.finn((byte) '|') >= 0) {
+                rules.add(new int[]{leser.nesteInt(), leser.nesteInt()});
+            } else if (leser.harTall()) {
+                updates.add(readPages(leser));
+            }
+        }
+        return new Oppgave_5(rules.toArray(new int[0][]), updates);
     }
 
-    private boolean isCorrectlyOrdered(String update) {
-        List<Integer> pages = Arrays.stream(update.split(","))
-                .map(String::trim) // trimmer hver streng
-                .map(Integer::parseInt) // parser inputen til en integer
-                .collect(Collectors.toList());
+    private static int[][] readRules(Inndata.Leser leser) {
+        List<int[]> rules = new ArrayList<>();
+        while (leser.nesteLinje()) {
+            if (leser.harTall()) {
+                rules.add(new int[]{leser.nesteInt(), leser.nesteInt()});
+            }
+        }
+        return rules.toArray(new int[0][]);
+    }
 
-        for (String rule : rules) {
-            String[] parts = rule.split("\\|");
+    private static List<int[]> readUpdates(Inndata.Leser leser) {
+        List<int[]> updates = new ArrayList<>();
+        while (leser.nesteLinje()) {
+            if (leser.harTall()) {
+                updates.add(readPages(leser));
+            }
+        }
+        return updates;
+    }
 
-            int before = Integer.parseInt(parts[0].trim());
-            int after = Integer.parseInt(parts[1].trim());
+    // Leser sidetallene på linjen leseren står på
+    private static int[] readPages(Inndata.Leser leser) {
+        int[] pages = new int[8];
+        int count = 0;
+        while (leser.harTall()) {
+            if (count == pages.length) {
+                pages = Arrays.copyOf(pages, count * 2);
+            }
+            pages[count++] = leser.nesteInt();
+        }
+        return Arrays.copyOf(pages, count);
+    }
 
-            if (pages.contains(before) && pages.contains(after)) {
-                if (pages.indexOf(before) > pages.indexOf(after)) {
-                    return false; // Hvis before kommer etter after, så er regelen brutt!
-                }
+    public int solve() {
+        int sum = 0;
+        for (int[] update : updates) {
+            if (isCorrectlyOrdered(update)) {
+                sum += getMiddlePage(update);
+            }
+        }
+        return sum;
+    }
+
+    private boolean isCorrectlyOrdered(int[] pages) {
+        for (int[] rule : rules) {
+            int before = indexOf(pages, rule[0]);
+            int after = indexOf(pages, rule[1]);
+
+            if (before >= 0 && after >= 0 && before > after) {
+                return false; // Hvis before kommer etter after, så er regelen brutt!
             }
         }
         return true;
     }
 
-    public int getMiddlePage(String update) {
-        List<Integer> pages = Arrays.stream(update.split(","))
-                .map(String::trim)
-                .map(Integer::parseInt)
-                .sorted()
-                .collect(Collectors.toList());
+    private static int indexOf(int[] pages, int page) {
+        for (int i = 0; i < pages.length; i++) {
+            if (pages[i] == page) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    public int getMiddlePage(int[] update) {
+        int[] pages = update.clone();
+        Arrays.sort(pages);
+
+        return pages[pages.length / 2]; // Heltallsdivisjon, håndterer både partalls- og oddestørrelseslister
+    }
 
-        return pages.get(pages.size() / 2); // Heltallsdivisjon, håndterer både partalls- og oddestørrelseslister
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er reglene ({@code X|Y}), en tom linje og oppdateringene ({@code a,b,c}).
+     */
+    public static class Losning implements Solver<Oppgave_5> {
+        @Override
+        public int dag() {
+            return 5;
+        }
+
+        @Override
+        public Oppgave_5 parse(String input) {
+            return parse(Inndata.av(input));
+        }
+
+        @Override
+        public Oppgave_5 parse(Inndata input) {
+            return Oppgave_5.parse(input);
+        }
+
+        @Override
+        public Object part1(Oppgave_5 input) {
+            return input.solve();
+        }
     }
 
     public static void main(String[] args) {
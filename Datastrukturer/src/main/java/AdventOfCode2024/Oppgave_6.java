@@ -16,106 +16,93 @@ Mål:
 Finn antall unike posisjoner vakten besøker (inkludert startposisjonen) før den forlater kartet.
  */
 
-
-import java.util.HashSet;
-import java.util.Objects;
-import java.util.Set;
-
 public class Oppgave_6 {
 
-    private enum Direction {
-        UP(-1, 0), RIGHT(0,1), DOWN(1,0), LEFT(0,-1);
-
-        int dRow, dCol;
-
-        Direction(int dRow, int dCol) {
-            this.dRow = dRow;
-            this.dCol = dCol;
-        }
-        // Returnerer retningen man får ved å snu 90 grader med klokka (høyre) fra nåværende retning
-        Direction turnRight() {
-            return values()[(this.ordinal() + 1) % 4];
-        }
-    }
-
-    private static class Point {
-        int row, col;  // Rad- og kolonneposisjon i kartet
-
-        // Konstruktør som setter rad og kolonne for punktet
-        Point(int row, int col) {
-            this.row = row;
-            this.col = col;
-        }
-
-        // Overstyrer equals for å sammenligne to Point-objekter basert på rad og kolonne
-        @Override
-        public boolean equals(Object o) {
-            if (!(o instanceof Point)) return false;
-            Point p = (Point) o;
-            return row == p.row && col == p.col;
-        }
-
-        // Overstyrer hashCode for å sikre at like Point-objekter gir samme hash-verdi
-        // Dette er viktig for at Point skal fungere korrekt i HashSet og andre hash-baserte samlinger
-        @Override
-        public int hashCode() {
-            return Objects.hash(row, col);
-        }
-    }
-
-
+    /**
+     * Simulerer vakten på et tegnkart. Se {@link #simulateGuard(Grid)}.
+     */
     public static int simulateGuard(char[][] map) {
-        int rows = map.length;
-        int cols = map[0].length;
+        return simulateGuard(Grid.av(map, 1));
+    }
 
+    /**
+     * Simulerer vakten til den går ut av kartet: den går rett fram, og snur 90 grader til høyre
+     * når neste rute er en vegg ('#').
+     *
+     * @param map Kartet, med en ramme rundt. Vakten forlater kartet når den treffer rammen.
+     * @return Antall unike ruter vakten har besøkt.
+     * @throws IllegalArgumentException hvis det ikke er noen vakt på kartet.
+     */
+    public static int simulateGuard(Grid map) {
         // Finn startposisjon og startretning til vakten
         // Initialiseres med ugyldige verdier inntil vi finner vakten på kartet
-        int startRow = -1, startCol = -1;
-        Direction dir = null;
-        // Ytre løkke merket med 'outer' for å enkelt bryte ut av begge løkkene samtidig
-        outer:
-        for (int r = 0; r < rows; r++) {
-            for (int c = 0; c < cols; c++) {
-                char ch = map[r][c];
-                // Finn retningen til vakten basert på symbolet i kartet
-                switch (ch) {
-                    case '^' : dir = Direction.UP; break;
-                    case 'v' : dir = Direction.DOWN; break;
-                    case '>' : dir = Direction.RIGHT; break;
-                    case '<' : dir = Direction.LEFT; break;
-                }
-                // Når vi har funnet vakten, lagrer vi posisjonen og bryter ut av løkkene
-                if (dir != null) {
-                    startRow = r;
-                    startCol = c;
-                    break outer;
-                }
+        int pos = -1;
+        int dir = -1;
+        for (int id = 0; id < map.storrelse() && dir < 0; id++) {
+            // Finn retningen til vakten basert på symbolet i kartet
+            switch (map.get(id)) {
+                case '^' -> dir = Grid.NORD;
+                case '>' -> dir = Grid.OST;
+                case 'v' -> dir = Grid.SOR;
+                case '<' -> dir = Grid.VEST;
+                default -> { }
             }
+            pos = id;
         }
-        // Sett for å holde styr på hvilke ruter vakten har besøkt
-        Set<Point> visited = new HashSet<>();
-        int row = startRow, col = startCol;
-        visited.add(new Point(row, col)); // Legg til startposisjonen
+        if (dir < 0) {
+            throw new IllegalArgumentException("Fant ingen vakt på kartet");
+        }
+        // Holder styr på hvilke ruter vakten har besøkt, med celle-id som indeks
+        boolean[] visited = new boolean[map.storrelse()];
+        visited[pos] = true; // Legg til startposisjonen
+        int count = 1;
         // Simuler vakten som går i retningen den peker, til den går utenfor kartet
         while (true) {
-            int nextRow = row + dir.dRow;
-            int nextCol = col + dir.dCol;
+            int next = map.nabo(pos, dir);
+            byte cell = map.get(next);
             // Sjekk om neste posisjon er utenfor kartet
-            if (nextRow < 0 || nextRow >= rows || nextCol < 0 || nextCol >= cols) {
+            if (cell == Grid.KANT) {
                 break;  // Vakten forlater kartet, stopp simuleringen
             }
             // Hvis neste posisjon er en vegg ('#'), snu vakten 90 grader til høyre
-            if (map[nextRow][nextCol] == '#') {
-                dir = dir.turnRight();
+            if (cell == '#') {
+                dir = Grid.hoyre(dir);
             } else {
                 // Flytt vakten til neste posisjon og merk den som besøkt
-                row = nextRow;
-                col = nextCol;
-                visited.add(new Point(row, col));
+                pos = next;
+                if (!visited[pos]) {
+                    visited[pos] = true;
+                    count++;
+                }
             }
         }
         // Returner antall unike posisjoner vakten har besøkt
-        return visited.size();
+        return count;
+    }
+
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er kartet, én rad per linje.
+     */
+    public static class Losning implements Solver<Grid> {
+        @Override
+        public int dag() {
+            return 6;
+        }
+
+        @Override
+        public Grid parse(String input) {
+            return parse(Inndata.av(input));
+        }
+
+        @Override
+        public Grid parse(Inndata input) {
+            return Grid.les(input, 1);
+        }
+
+        @Override
+        public Object part1(Grid input) {
+            return simulateGuard(input);
+        }
     }
 
     public static void main(String[] args) {
@@ -114,6 +114,26 @@ public class Oppgave_7 {
         return isValidRecurse(targetValue, numbers, index + 1, currentResult * numbers.get(index + 1));
     }
 
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er én ligning ({@code t: a b c}) per linje.
+     */
+    public static class Losning implements Solver<List<String>> {
+        @Override
+        public int dag() {
+            return 7;
+        }
+
+        @Override
+        public List<String> parse(String input) {
+            return Solver.linjer(input);
+        }
+
+        @Override
+        public Object part1(List<String> input) {
+            return calculateTotalCalibrationResult(input);
+        }
+    }
+
     public static void main(String[] args) {
         List<String> equations = List.of(
                 "190: 10 19",
@@ -41,104 +41,99 @@ Hver linje er én rad. Punktum (.) betyr tom plass.
  */
 public class Oppgave_8 {
 
-    private static class Point {
-        final int x, y;
-
-        Point(int x, int y) {
-            this.x = x;
-            this.y = y;
-        }
-
-        private Point add(int dx, int dy) {
-            return new Point(this.x + dx, this.y + dy);
-        }
-
-        private Point subtract(int dx, int dy) {
-            return new Point(this.x - dx, this.y - dy);
-        }
-
-        @Override
-        public boolean equals(Object o) {
-            if (!(o instanceof Point)) return false;
-            Point p = (Point) o;
-            return this.x == p.x && this.y == p.y;
-        }
-
-        @Override
-        public int hashCode() {
-            return Objects.hash(x,y);
-        }
-
-        @Override
-        public String toString() {
-            return "(" + x + "," + y + ")";
-        }
+    /**
+     * Teller antinodene på et kart gitt som tekstrader. Se {@link #solve(Grid)}.
+     */
+    public static int solve(List<String> grid) {
+        return solve(Grid.av(grid, 0));
     }
 
-    public static int solve(List<String> grid) {
-        // Henter antall rader i rutenettet (gridet)
-        int height = grid.size();
-
-        // Henter antall kolonner i rutenettet (basert på første rad)
-        int width = grid.get(0).length();
-
-        // Lager en map som grupperer alle antenner etter hvilken frekvens (bokstav) de bruker
-        // Nøkkel = frekvens (char), Verdi = liste av punkter der antenner med denne frekvensen står
-        Map<Character, List<Point>> antennasByFreq = new HashMap<>();
-
-        // Går gjennom hele gridet rad for rad
-        for (int y = 0; y < height; y++) {
-            String line = grid.get(y); // Henter én rad
-            for (int x = 0; x < width; x++) {
-                char c = line.charAt(x); // Henter ett tegn i raden
-                if (c != '.') { // Dersom det er en antenne (ikke tom plass)
-                    // Legg til punktet (x, y) i lista for denne frekvensen
-                    // Sjekk om antennasByFreq allerede har en liste for nøkkelen c (frekvensen).
-                    // Hvis JA (listen finnes fra før), så bruk den eksisterende listen.
-                    antennasByFreq
-                            .computeIfAbsent(c, k -> new ArrayList<>()) // Opprett ny liste hvis frekvensen ikke finnes fra før
-                            .add(new Point(x, y)); // Legg til punktet hvor antennen står
+    /**
+     * For hvert par av antenner med samme frekvens (tegn) ligger det en antinode på hver side av
+     * paret, like langt unna som antennene er fra hverandre. Antinoder utenfor kartet teller ikke.
+     *
+     * @param grid Kartet, der '.' er tom plass og alle andre tegn er antenner.
+     * @return Antall unike ruter med en antinode.
+     */
+    public static int solve(Grid grid) {
+        // Grupperer alle antenner etter hvilken frekvens (tegn) de bruker.
+        // Indeks = frekvens, verdi = celle-id-ene der antenner med denne frekvensen står
+        int[][] antennasByFreq = new int[128][];
+        int[] counts = new int[128];
+
+        // Går gjennom hele gridet
+        for (int id = 0; id < grid.storrelse(); id++) {
+            byte c = grid.get(id);
+            if (c != '.' && c != Grid.KANT) { // Dersom det er en antenne (ikke tom plass)
+                int freq = c & 0x7F;
+                if (antennasByFreq[freq] == null) {
+                    antennasByFreq[freq] = new int[4];
+                } else if (counts[freq] == antennasByFreq[freq].length) {
+                    antennasByFreq[freq] = Arrays.copyOf(antennasByFreq[freq], counts[freq] * 2);
                 }
+                antennasByFreq[freq][counts[freq]++] = id; // Legg til cellen hvor antennen står
             }
         }
 
-        // Lager et sett for å holde unike antinoder (punkter der interferens oppstår)
-        Set<Point> antinodes = new HashSet<>();
+        // Merker unike antinoder (punkter der interferens oppstår), med celle-id som indeks
+        boolean[] antinodes = new boolean[grid.storrelse()];
+        int count = 0;
 
         // Går gjennom hver frekvens og ser på antennene med samme frekvens
-        for (Map.Entry<Character, List<Point>> entry : antennasByFreq.entrySet()) {
-            List<Point> points = entry.getValue(); // Liste over antenner med denne frekvensen
+        for (int freq = 0; freq < antennasByFreq.length; freq++) {
+            int[] points = antennasByFreq[freq]; // Antenner med denne frekvensen
 
             // Går gjennom alle par av antenner med samme frekvens
-            for (int i = 0; i < points.size(); i++) {
-                for (int j = i + 1; j < points.size(); j++) {
-                    Point a = points.get(i);
-                    Point b = points.get(j);
+            for (int i = 0; i < counts[freq]; i++) {
+                for (int j = i + 1; j < counts[freq]; j++) {
+                    int ay = grid.rad(points[i]), ax = grid.kol(points[i]);
+                    int by = grid.rad(points[j]), bx = grid.kol(points[j]);
 
                     // Beregner forskjellen i posisjon (vektor) mellom to antenner
-                    int dx = b.x - a.x;
-                    int dy = b.y - a.y;
-
-                    // Beregner en mulig antinode *forbi* b i samme retning som a → b
-                    Point p1 = b.add(dx, dy);
-                    if (isInBounds(p1, width, height)) {
-                        antinodes.add(p1); // Legg til antinode hvis den er innenfor gridet
+                    int dx = bx - ax;
+                    int dy = by - ay;
+
+                    // En mulig antinode *forbi* b i samme retning som a → b,
+                    // og en *forbi* a i motsatt retning. Antinodene kan havne langt utenfor
+                    // kartet, så her må grensene sjekkes
+                    if (grid.erInnenfor(by + dy, bx + dx) && !antinodes[grid.id(by + dy, bx + dx)]) {
+                        antinodes[grid.id(by + dy, bx + dx)] = true;
+                        count++;
                     }
-
-                    // Beregner en mulig antinode *forbi* a i motsatt retning av a → b
-                    Point p2 = a.subtract(dx, dy);
-                    if (isInBounds(p2, width, height)) {
-                        antinodes.add(p2); // Legg til antinode hvis den er innenfor gridet
+                    if (grid.erInnenfor(ay - dy, ax - dx) && !antinodes[grid.id(ay - dy, ax - dx)]) {
+                        antinodes[grid.id(ay - dy, ax - dx)] = true;
+                        count++;
                     }
                 }
             }
         }
         // Returnerer hvor mange unike antinoder vi har funnet i gridet
-        return antinodes.size();
+        return count;
     }
 
-    public static boolean isInBounds(Point p, int width, int height) {
-        return p.x >= 0 && p.x < width && p.y >= 0 && p.y < height;
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er kartet over antennene, én rad per linje.
+     */
+    public static class Losning implements Solver<Grid> {
+        @Override
+        public int dag() {
+            return 8;
+        }
+
+        @Override
+        public Grid parse(String input) {
+            return parse(Inndata.av(input));
+        }
+
+        @Override
+        public Grid parse(Inndata input) {
+            return Grid.les(input, 0);
+        }
+
+        @Override
+        public Object part1(Grid input) {
+            return solve(input);
+        }
     }
 
     public static void main(String[] args) {
@@ -171,6 +171,26 @@ public class Oppgave_9 {
         return sjekksum;
     }
 
+    /**
+     * Løsning for {@link SolverRunner}. Inputen er diskkartet på én linje.
+     */
+    public static class Losning implements Solver<String> {
+        @Override
+        public int dag() {
+            return 9;
+        }
+
+        @Override
+        public String parse(String input) {
+            return input.strip();
+        }
+
+        @Override
+        public Object part1(String input) {
+            return new Oppgave_9().komprimerOgBeregnSjekkSum(input);
+        }
+    }
+
     public static void main(String[] args) {
         Oppgave_9 diskFragmenter = new Oppgave_9();
         String diskMap = "2333133121414131402"; // Eksempel diskkart
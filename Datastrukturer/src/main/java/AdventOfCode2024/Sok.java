@@ -0,0 +1,52 @@
+package AdventOfCode2024;
+
+/**
+ * Søk over et {@link Grid} som ikke allokerer noe per tilstand. Løsere med egne regler for
+ * naboer bygger søkene sine av de samme delene: {@link IntKo} til bredde-først-søk,
+ * {@link BotteKo} eller {@link LongHaug} til Dijkstra, og {@link Besokt} og {@link Avstander}
+ * som kan gjenbrukes mellom søk. Tilstandene er celle-id-er, eller {@code celle * 4 + retning}
+ * når retningen teller med.
+ */
+public final class Sok {
+
+    private Sok() {
+    }
+
+    /**
+     * Bredde-først-søk fra {@code start} gjennom alle celler som verken er {@code vegg} eller
+     * {@link Grid#KANT}. Avstandene skrives til {@code avstander}, som får et nytt søk først;
+     * celler som ikke nås, har avstand {@link Avstander#UKJENT}.
+     *
+     * @param kart      Kartet, med en ramme på minst 1.
+     * @param start     Celle-id-en søket starter i.
+     * @param mal       Celle-id-en søket kan stoppe i, eller -1 for å søke gjennom hele kartet.
+     * @param vegg      Verdien til cellene som ikke kan passeres.
+     * @param ko        Kø som tømmes og brukes av søket.
+     * @param avstander Avstander med plass til {@link Grid#storrelse()} celler.
+     * @return Avstanden til {@code mal}, eller -1 hvis den ikke nås eller er -1.
+     */
+    public static int bfs(Grid kart, int start, int mal, byte vegg, IntKo ko, Avstander avstander) {
+        ko.clear();
+        avstander.nyttSok();
+        ko.leggTil(start);
+        avstander.set(start, 0);
+
+        while (!ko.isEmpty()) {
+            int celle = ko.taUt();
+            int avstand = avstander.get(celle);
+            if (celle == mal) {
+                return avstand;
+            }
+            // Rammen er KANT, så den stopper søket like godt som en vegg
+            for (int r = 0; r < 4; r++) {
+                int nabo = kart.nabo(celle, r);
+                byte verdi = kart.get(nabo);
+                if (verdi != vegg && verdi != Grid.KANT && !avstander.erKjent(nabo)) {
+                    avstander.set(nabo, avstand + 1);
+                    ko.leggTil(nabo);
+                }
+            }
+        }
+        return -1;
+    }
+}
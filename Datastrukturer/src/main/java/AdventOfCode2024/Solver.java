@@ -0,0 +1,95 @@
+package AdventOfCode2024;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Felles inngang til en Advent of Code-oppgave, så alle dagene kan kjøres likt av
+ * {@link SolverRunner}. Implementasjonene registreres i
+ * {@code META-INF/services/AdventOfCode2024.Solver} og finnes med {@link java.util.ServiceLoader},
+ * så de må ha en offentlig konstruktør uten parametre.
+ * <p>
+ * Hver oppgave har en {@code Losning}-klasse inni seg som implementerer dette grensesnittet og
+ * kaller oppgavens egne metoder. Løsningene holder ingen tilstand mellom kallene, så samme
+ * instans kan brukes på flere input samtidig.
+ *
+ * @param <I> Typen inputen tolkes til før delene løses.
+ */
+public interface Solver<I> {
+
+    /**
+     * @return Dagen i kalenderen oppgaven hører til, 1–25.
+     */
+    int dag();
+
+    /**
+     * Tolker rå puslespill-input, slik den står i inputfilen.
+     *
+     * @param input Hele inputfilen som tekst.
+     * @return Den tolkede inputen, som sendes til {@link #part1} og {@link #part2}.
+     * @throws IllegalArgumentException hvis inputen ikke har riktig format.
+     */
+    I parse(String input);
+
+    /**
+     * Tolker inputen rett fra en minnemappet fil. Standardimplementasjonen lager en {@code String}
+     * av hele filen og kaller {@link #parse(String)}; løsere som leser bytene selv med
+     * {@link Inndata.Leser} overstyrer denne, og lar {@code parse(String)} gå via {@link Inndata#av}.
+     *
+     * @param input Hele inputfilen.
+     * @return Den tolkede inputen, som sendes til {@link #part1} og {@link #part2}.
+     * @throws IllegalArgumentException hvis inputen ikke har riktig format.
+     */
+    default I parse(Inndata input) {
+        return parse(input.tekst());
+    }
+
+    /**
+     * Løser del 1. Løsere som endrer inputen sin lager en kopi først, så den tolkede inputen kan
+     * brukes igjen til del 2.
+     *
+     * @param input Inputen fra {@link #parse}.
+     * @return Svaret på del 1.
+     */
+    Object part1(I input);
+
+    /**
+     * Løser del 2.
+     *
+     * @param input Inputen fra {@link #parse}.
+     * @return Svaret på del 2, eller null hvis bare del 1 er løst for denne dagen.
+     */
+    default Object part2(I input) {
+        return null;
+    }
+
+    /**
+     * Deler inputen i linjer og hopper over tomme linjer. Både {@code \n} og {@code \r\n} godtas.
+     */
+    static List<String> linjer(String input) {
+        return input.lines().filter(linje -> !linje.isBlank()).toList();
+    }
+
+    /**
+     * Deler inputen i blokker skilt av tomme linjer, med {@code \n} mellom linjene i hver blokk.
+     */
+    static List<String> blokker(String input) {
+        List<String> blokker = new ArrayList<>();
+        StringBuilder blokk = new StringBuilder();
+        for (String linje : input.lines().toList()) {
+            if (!linje.isBlank()) {
+                if (blokk.length() > 0) {
+                    blokk.append('\n');
+                }
+                blokk.append(linje);
+            } else if (blokk.length() > 0) {
+                blokker.add(blokk.toString());
+                blokk.setLength(0);
+            }
+        }
+        if (blokk.length() > 0) {
+            blokker.add(blokk.toString());
+        }
+        return blokker;
+    }
+}
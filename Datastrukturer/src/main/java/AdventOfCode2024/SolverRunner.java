@@ -0,0 +1,219 @@
+package AdventOfCode2024;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import java.util.stream.Stream;
+
+/**
+ * Kjører en hel bunke med inputfiler gjennom løserne som {@link ServiceLoader} finner for
+ * {@link Solver}. Dagen leses fra filnavnet ({@code dag05.txt}, {@code dag05-stor.txt} osv.), og
+ * hver fil kjøres som én oppgave i en {@link ForkJoinPool} med et fast antall tråder, så mange
+ * input løses samtidig. For hver fil måles veggklokketiden for lesing, tolking, del 1 og del 2.
+ * Filene mappes med {@link Inndata}, så "les" er bare mappingen; selve lesingen av bytene skjer
+ * i tolkingen.
+ * <p>
+ * Bruk: {@code SolverRunner <katalog> [tråder]}
+ */
+public class SolverRunner {
+
+    private static final Pattern DAG_I_FILNAVN = Pattern.compile("dag(\\d{1,2})(\\D.*)?");
+
+    private final Map<Integer, Solver<?>> solvere = new HashMap<>();
+    private final int parallellitet;
+
+    /**
+     * Resultatet av én inputfil. Tidene er i nanosekunder, og er 0 for faser som ikke ble kjørt
+     * fordi en tidligere fase feilet.
+     *
+     * @param fil       Inputfilen.
+     * @param dag       Dagen fra filnavnet, eller 0 hvis filnavnet ikke har noen dag.
+     * @param les       Tid brukt på å mappe filen.
+     * @param parse     Tid brukt i {@link Solver#parse}.
+     * @param del1      Tid brukt i {@link Solver#part1}.
+     * @param del2      Tid brukt i {@link Solver#part2}.
+     * @param svar1     Svaret på del 1, eller null.
+     * @param svar2     Svaret på del 2, eller null.
+     * @param feil      Feilen som stoppet kjøringen, eller null hvis alt gikk bra.
+     */
+    public record Resultat(Path fil, int dag, long les, long parse, long del1, long del2,
+                           Object svar1, Object svar2, Throwable feil) {
+    }
+
+    /**
+     * Oppretter en runner med løserne som er registrert på klassestien.
+     *
+     * @param parallellitet Antall tråder i poolen.
+     * @throws IllegalArgumentException hvis parallellitet ikke er positiv, eller to løsere har samme dag.
+     */
+    public SolverRunner(int parallellitet) {
+        this(registrerteSolvere(), parallellitet);
+    }
+
+    /**
+     * Oppretter en runner med gitte løsere.
+     *
+     * @param solvere       Løserne som skal brukes.
+     * @param parallellitet Antall tråder i poolen.
+     * @throws IllegalArgumentException hvis parallellitet ikke er positiv, eller to løsere har samme dag.
+     */
+    public SolverRunner(Iterable<? extends Solver<?>> solvere, int parallellitet) {
+        if (parallellitet < 1) {
+            throw new IllegalArgumentException("Parallellitet må være minst 1: " + parallellitet);
+        }
+        this.parallellitet = parallellitet;
+        for (Solver<?> solver : solvere) {
+            Solver<?> forrige = this.solvere.put(solver.dag(), solver);
+            if (forrige != null) {
+                throw new IllegalArgumentException("To løsere for dag " + solver.dag() + ": "
+                        + forrige.getClass().getName() + " og " + solver.getClass().getName());
+            }
+        }
+    }
+
+    private static List<Solver<?>> registrerteSolvere() {
+        List<Solver<?>> solvere = new ArrayList<>();
+        for (Solver<?> solver : ServiceLoader.load(Solver.class)) {
+            solvere.add(solver);
+        }
+        return solvere;
+    }
+
+    /**
+     * @return Dagene det finnes en løser for.
+     */
+    public List<Integer> dager() {
+        return solvere.keySet().stream().sorted().toList();
+    }
+
+    /**
+     * Løser alle filene i poolen og venter til alle er ferdige. En fil som feiler stopper ikke de
+     * andre; feilen står i resultatet til filen. Det gjelder også filnavn uten dag, og
+     * {@link Error}-er som {@link StackOverflowError} fra en rekursiv løser på en stor input.
+     *
+     * @param filer Inputfilene, med dagen i filnavnet.
+     * @return Ett resultat per fil, i samme rekkefølge som filene.
+     */
+    public List<Resultat> kjor(List<Path> filer) {
+        ForkJoinPool pool = new ForkJoinPool(parallellitet);
+        try {
+            List<ForkJoinTask<Resultat>> oppgaver = new ArrayList<>(filer.size());
+            for (Path fil : filer) {
+                oppgaver.add(pool.submit(() -> kjor(fil)));
+            }
+            List<Resultat> resultater = new ArrayList<>(filer.size());
+            for (ForkJoinTask<Resultat> oppgave : oppgaver) {
+                resultater.add(oppgave.join());
+            }
+            return resultater;
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private Resultat kjor(Path fil) {
+        int dag;
+        try {
+            dag = dagFraFilnavn(fil);
+        } catch (IllegalArgumentException e) {
+            return new Resultat(fil, 0, 0, 0, 0, 0, null, null, e);
+        }
+        Solver<?> solver = solvere.get(dag);
+        if (solver == null) {
+            return new Resultat(fil, dag, 0, 0, 0, 0, null, null,
+                    new IllegalArgumentException("Ingen løser for dag " + dag));
+        }
+        return kjor(solver, fil, dag);
+    }
+
+    private static <I> Resultat kjor(Solver<I> solver, Path fil, int dag) {
+        long[] tider = new long[4];
+        Object svar1 = null;
+        Object svar2 = null;
+        try {
+            long start = System.nanoTime();
+            Inndata inndata = Inndata.map(fil);
+            long lest = System.nanoTime();
+            tider[0] = lest - start;
+            I input = solver.parse(inndata);
+            long tolket = System.nanoTime();
+            tider[1] = tolket - lest;
+            svar1 = solver.part1(input);
+            long ferdig1 = System.nanoTime();
+            tider[2] = ferdig1 - tolket;
+            svar2 = solver.part2(input);
+            tider[3] = System.nanoTime() - ferdig1;
+        } catch (IOException e) {
+            return new Resultat(fil, dag, tider[0], tider[1], tider[2], tider[3], svar1, svar2,
+                    new UncheckedIOException(e));
+        } catch (Throwable e) {
+            // Også Error-er, så én fil som f.eks. gir StackOverflowError ikke stopper hele bunken
+            return new Resultat(fil, dag, tider[0], tider[1], tider[2], tider[3], svar1, svar2, e);
+        }
+        return new Resultat(fil, dag, tider[0], tider[1], tider[2], tider[3], svar1, svar2, null);
+    }
+
+    /**
+     * Leser dagen fra et filnavn som {@code dag5.txt} eller {@code dag05-stor.txt}.
+     *
+     * @throws IllegalArgumentException hvis filnavnet ikke starter med {@code dag} og et tall.
+     */
+    static int dagFraFilnavn(Path fil) {
+        Matcher matcher = DAG_I_FILNAVN.matcher(fil.getFileName().toString());
+        if (!matcher.matches()) {
+            throw new IllegalArgumentException("Filnavnet må starte med dag og et tall: " + fil);
+        }
+        return Integer.parseInt(matcher.group(1));
+    }
+
+    private static String millis(long nanos) {
+        return String.format("%9.2f", nanos / 1_000_000.0);
+    }
+
+    public static void main(String[] args) throws IOException {
+        Path katalog = Paths.get(args.length > 0 ? args[0] : "input");
+        int trader = args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+        List<Path> filer;
+        try (Stream<Path> innhold = Files.list(katalog)) {
+            filer = innhold.filter(Files::isRegularFile)
+                    .filter(fil -> DAG_I_FILNAVN.matcher(fil.getFileName().toString()).matches())
+                    .sorted()
+                    .toList();
+        }
+        SolverRunner runner = new SolverRunner(trader);
+        System.out.println(filer.size() + " filer, " + runner.dager().size() + " løsere, " + trader + " tråder");
+
+        long start = System.nanoTime();
+        List<Resultat> resultater = runner.kjor(filer);
+        long vegg = System.nanoTime() - start;
+
+        long[] sum = new long[4];
+        System.out.println("fil                        les ms  parse ms   del1 ms   del2 ms  svar");
+        for (Resultat r : resultater) {
+            sum[0] += r.les();
+            sum[1] += r.parse();
+            sum[2] += r.del1();
+            sum[3] += r.del2();
+            String svar = (r.feil() != null)
+                    ? "feil: " + r.feil()
+                    : r.svar1() + " / " + (r.svar2() == null ? "-" : r.svar2());
+            System.out.println(String.format("%-22s", r.fil().getFileName()) + millis(r.les())
+                    + millis(r.parse()) + millis(r.del1()) + millis(r.del2()) + "  " + svar);
+        }
+        System.out.println(String.format("%-22s", "sum") + millis(sum[0]) + millis(sum[1])
+                + millis(sum[2]) + millis(sum[3]));
+        System.out.println("Veggklokketid for hele bunken: " + millis(vegg).trim() + " ms");
+    }
+}
@@ -0,0 +1,252 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.BinaryOperator;
+
+/**
+ * Et turneringstre som lagres implisitt i én flat array i heap-rekkefølge, i stedet for
+ * som lenkede {@code Node}-objekter slik som i {@link TurneringsTree}.
+ * <p>
+ * Indeks 1 er roten, barna til node {@code i} ligger på {@code 2i} og {@code 2i + 1},
+ * og forelderen ligger på {@code i >> 1}. Bladene (deltakerne) ligger bakerst i arrayet,
+ * på indeksene {@code [capacity, 2 * capacity)}. Det gir ett objekt for hele treet i stedet
+ * for ett per node, og oppdateringer fra blad til rot går gjennom sammenhengende minne.
+ *
+ * @param <T> Typen deltakere i turneringen.
+ */
+public class ArrayTurneringsTree<T> {
+
+    private final Comparator<T> comparator; // Comparator for å sammenligne elementer.
+    private final T dummyParticipant; // Dummy-deltaker for å fylle treet.
+    private final BinaryOperator<T> winnerFunction; // Funksjon for å bestemme vinneren.
+    private int size; // Antall elementer i turneringen.
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock(); // Lås for å kontrollere trådsikkerhet.
+    private final Lock readLock = lock.readLock(); // Lås for lesetilgang.
+    private final Lock writeLock = lock.writeLock(); // Lås for skrivetilgang.
+    private T[] tree; // Hele treet i heap-rekkefølge, indeks 0 brukes ikke.
+    private int capacity; // Antall blader (alltid en potens av 2).
+    private volatile T publishedWinner; // Roten ved siste fullførte endring, leses uten lås.
+
+    /**
+     * Konstruerer et array-basert turneringstre fra en array av elementer med en gitt Comparator.
+     * @param elements   Arrayet av elementer som skal delta i turneringen. Kan ikke være null.
+     * @param comparator Comparator for å sammenligne elementene. Hvis null, brukes naturlig
+     *                   rekkefølge.
+     * @param dummyParticipant En "dummy"-deltaker som fyller treet hvis antall deltakere ikke er
+     * en potens av 2. Bør "tape" mot alle andre elementer.
+     * @throws NullPointerException hvis elementer er null.
+     */
+    public ArrayTurneringsTree(T[] elements, Comparator<T> comparator, T dummyParticipant) {
+        Objects.requireNonNull(elements, "Elementer kan ikke være null");
+        this.size = elements.length;
+        this.comparator =
+                (comparator != null) ? comparator : ((o1, o2) -> ((Comparable<T>) o1).compareTo(o2));
+
+        if (Arrays.stream(elements).anyMatch(Objects::isNull) && dummyParticipant == null) {
+            throw new IllegalArgumentException(
+                    "Elementer inneholder null-elementer, men ingen dummyParticipant er definert.");
+        }
+
+        this.dummyParticipant = dummyParticipant;
+
+        this.winnerFunction =
+                (a, b) -> (a == null) ? b : ((b == null) ? a : (this.comparator.compare(a, b) >= 0 ? a : b));
+
+        buildTree(elements);
+    }
+
+    public ArrayTurneringsTree(T[] elements) {
+        this(elements, null, null);
+    }
+
+    private void buildTree(T[] elements) {
+        writeLock.lock();
+        try {
+            capacity = calculateNextPowerOfTwo(size);
+            tree = (T[]) new Object[2 * capacity];
+
+            // Bladene legges bakerst, resten fylles med dummy-deltakere
+            System.arraycopy(elements, 0, tree, capacity, size);
+            Arrays.fill(tree, capacity + size, 2 * capacity, dummyParticipant);
+
+            // Spill kampene nedenfra og opp, forelderen til i og i+1 er i/2
+            for (int i = capacity - 1; i >= 1; i--) {
+                tree[i] = winnerFunction.apply(tree[2 * i], tree[2 * i + 1]);
+            }
+        } finally {
+            publishedWinner = tree[1];
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Finner minste potens av 2 som er større eller lik n (minst 1).
+     * @param n
+     * @return powerOfTwo
+     */
+    private int calculateNextPowerOfTwo(int n) {
+        int powerOfTwo = 1;
+        while (powerOfTwo < n) {
+            powerOfTwo *= 2;
+        }
+        return powerOfTwo;
+    }
+
+    /**
+     * Henter vinneren av turneringen uten lås, fra den sist publiserte roten.
+     *
+     * @return Vinneren av turneringen (roten), eller dummy-deltakeren hvis treet er tomt.
+     */
+    public T getWinner() {
+        return publishedWinner;
+    }
+
+    /**
+     * Endrer verdien til en deltaker og spiller kampene på nytt fra bladet opp til roten.
+     * @param index   Indeksen til deltakeren (i den opprinnelige element-arrayen).
+     * @param newValue Den nye verdien til deltakeren.
+     * @throws IndexOutOfBoundsException hvis indeksen er ugyldig.
+     */
+    public void updateParticipant(int index, T newValue) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Ugyldig indeks: " + index);
+        }
+        writeLock.lock();
+        try {
+            int node = capacity + index;
+            tree[node] = newValue;
+            updateUpwards(node);
+        } finally {
+            publishedWinner = tree[1];
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Beregner vinnerne på nytt fra forelderen til den gitte noden og helt opp til roten.
+     */
+    private void updateUpwards(int node) {
+        for (int parent = node >> 1; parent >= 1; parent >>= 1) {
+            tree[parent] = winnerFunction.apply(tree[2 * parent], tree[2 * parent + 1]);
+        }
+    }
+
+    /**
+     * Setter inn en ny verdi i turneringstreet på første ledige blad, og konkurrerer den oppover.
+     * Hvis treet er fullt dobles antall blader.
+     * @param newValue Den nye verdien som skal settes inn.
+     */
+    public void insertParticipant(T newValue) {
+        Objects.requireNonNull(newValue, "Ikke tillat med null verdier.");
+        writeLock.lock();
+        try {
+            if (size == capacity) {
+                grow();
+            }
+            int node = capacity + size;
+            size++;
+            tree[node] = newValue;
+            updateUpwards(node);
+        } finally {
+            publishedWinner = tree[1];
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Dobler antall blader. Det gamle treet blir venstre deltre under en ny rot, slik at
+     * nivå d i det gamle treet (indeksene [2^d, 2^(d+1))) flyttes til starten av nivå d+1.
+     * Høyre deltre fylles med dummy-deltakere, så ingen kamper trenger å spilles på nytt
+     * utenom roten.
+     */
+    private void grow() {
+        T[] newTree = (T[]) new Object[4 * capacity];
+        for (int levelStart = 1; levelStart <= capacity; levelStart <<= 1) {
+            System.arraycopy(tree, levelStart, newTree, 2 * levelStart, levelStart);
+            Arrays.fill(newTree, 3 * levelStart, 4 * levelStart, dummyParticipant);
+        }
+        capacity *= 2;
+        tree = newTree;
+        tree[1] = winnerFunction.apply(tree[2], tree[3]);
+    }
+
+    /**
+     * Sletter en deltaker fra turneringstreet basert på indeks. Senere deltakere flyttes
+     * én plass frem, så indeksene deres blir én mindre.
+     * @param index Indeksen til deltakeren som skal slettes.
+     * @throws IndexOutOfBoundsException hvis indeksen er ugyldig.
+     */
+    public void deleteParticipant(int index) {
+        writeLock.lock();
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Ugyldig indeks: " + index);
+            }
+            int first = capacity + index;
+            int last = capacity + size - 1;
+            System.arraycopy(tree, first + 1, tree, first, last - first);
+            tree[last] = dummyParticipant;
+            size--;
+
+            // Spill bare kampene over de bladene som ble flyttet, ett nivå om gangen
+            for (int lo = first >> 1, hi = last >> 1; lo >= 1; lo >>= 1, hi >>= 1) {
+                for (int parent = lo; parent <= hi; parent++) {
+                    tree[parent] = winnerFunction.apply(tree[2 * parent], tree[2 * parent + 1]);
+                }
+            }
+        } finally {
+            publishedWinner = tree[1];
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Henter treets størrelse (antall faktiske deltakere).
+     *
+     * @return Antall deltakere.
+     */
+    public int getSize() {
+        readLock.lock();
+        try {
+            return size;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    // printer treet inorder
+    public void printTree() {
+        readLock.lock();
+        try {
+            printInorder(1);
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    private void printInorder(int node) {
+        if (node < tree.length) {
+            printInorder(2 * node);
+            System.out.println(tree[node] + " ");
+            printInorder(2 * node + 1);
+        }
+    }
+
+    public static void main(String[] args) {
+        Integer[] participants1 = {5, 2, 8, 9, 4, 7, 3};
+        ArrayTurneringsTree<Integer> tree1 = new ArrayTurneringsTree<>(participants1);
+        tree1.printTree();
+        System.out.println("Vinner (Tree1): " + tree1.getWinner());
+        tree1.updateParticipant(3, 3);
+        System.out.println("Vinner (Tree1): " + tree1.getWinner());
+        tree1.insertParticipant(45);
+        System.out.println("Vinner (Tree1): " + tree1.getWinner());
+        tree1.insertParticipant(1);
+        tree1.deleteParticipant(7);
+        System.out.println("Vinner (Tree1): " + tree1.getWinner() + ", størrelse: " + tree1.getSize());
+    }
+}
@@ -0,0 +1,286 @@
+package org.example;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * En begrenset, blokkerende dobbel kø for produsent/konsument-kjeder. Køen har en fast
+ * kapasitet: produsenter som legger til i en full kø venter til det blir plass, og
+ * konsumenter som fjerner fra en tom kø venter til det kommer et element. Slik bremser en
+ * treg konsument produsentene i stedet for at køen vokser uten grense.
+ * <p>
+ * Elementene ligger i en {@link Dobbelko}, og alle operasjonene tas under én lås.
+ * {@link #drainTo(Collection, int)} flytter mange elementer på én gang, så en konsument
+ * betaler for én låsing per batch i stedet for én per element.
+ *
+ * @param <T> Den type elementer som køen skal inneholde.
+ */
+public class BlokkerendeDobbelko<T> {
+
+    private final Dobbelko<T> ko; // Elementene, beskyttet av lock.
+    private final int kapasitet; // Maks antall elementer i køen.
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition ikkeTom = lock.newCondition(); // Signaliseres når et element legges til.
+    private final Condition ikkeFull = lock.newCondition(); // Signaliseres når et element fjernes.
+
+    /**
+     * Konstruerer en tom kø med en gitt kapasitet.
+     *
+     * @param kapasitet Maks antall elementer i køen.
+     * @throws IllegalArgumentException hvis kapasiteten er mindre enn 1.
+     */
+    public BlokkerendeDobbelko(int kapasitet) {
+        if (kapasitet < 1) {
+            throw new IllegalArgumentException("Kapasiteten må være minst 1: " + kapasitet);
+        }
+        this.kapasitet = kapasitet;
+        this.ko = new Dobbelko<>(kapasitet);
+    }
+
+    /**
+     * Legger til et element foran i køen, og venter på plass hvis køen er full.
+     *
+     * @param element Elementet som skal legges til.
+     * @throws NullPointerException hvis elementet er null.
+     * @throws InterruptedException hvis tråden avbrytes mens den venter.
+     */
+    public void leggTilForan(T element) throws InterruptedException {
+        Objects.requireNonNull(element, "Elementet kan ikke være null.");
+        lock.lockInterruptibly();
+        try {
+            while (ko.storrelse() == kapasitet) {
+                ikkeFull.await();
+            }
+            ko.leggTilForan(element);
+            ikkeTom.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Legger til et element bak i køen, og venter på plass hvis køen er full.
+     *
+     * @param element Elementet som skal legges til.
+     * @throws NullPointerException hvis elementet er null.
+     * @throws InterruptedException hvis tråden avbrytes mens den venter.
+     */
+    public void leggTilBak(T element) throws InterruptedException {
+        Objects.requireNonNull(element, "Elementet kan ikke være null.");
+        lock.lockInterruptibly();
+        try {
+            while (ko.storrelse() == kapasitet) {
+                ikkeFull.await();
+            }
+            ko.leggTilBak(element);
+            ikkeTom.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Legger til et element bak i køen, og venter høyst den gitte tiden på plass.
+     *
+     * @param element Elementet som skal legges til.
+     * @param timeout Hvor lenge det skal ventes.
+     * @param unit    Enheten til timeout.
+     * @return `true` hvis elementet ble lagt til, `false` hvis tiden gikk ut først.
+     * @throws NullPointerException hvis elementet er null.
+     * @throws InterruptedException hvis tråden avbrytes mens den venter.
+     */
+    public boolean leggTilBak(T element, long timeout, TimeUnit unit) throws InterruptedException {
+        Objects.requireNonNull(element, "Elementet kan ikke være null.");
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (ko.storrelse() == kapasitet) {
+                if (nanos <= 0) {
+                    return false;
+                }
+                nanos = ikkeFull.awaitNanos(nanos);
+            }
+            ko.leggTilBak(element);
+            ikkeTom.signal();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Fjerner og returnerer elementet foran i køen, og venter hvis køen er tom.
+     *
+     * @return Elementet foran i køen.
+     * @throws InterruptedException hvis tråden avbrytes mens den venter.
+     */
+    public T fjernForan() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (ko.erTom()) {
+                ikkeTom.await();
+            }
+            T element = ko.fjernForan();
+            ikkeFull.signal();
+            return element;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Fjerner og returnerer elementet foran i køen, og venter høyst den gitte tiden på et element.
+     *
+     * @param timeout Hvor lenge det skal ventes.
+     * @param unit    Enheten til timeout.
+     * @return Elementet foran i køen, eller null hvis tiden gikk ut først.
+     * @throws InterruptedException hvis tråden avbrytes mens den venter.
+     */
+    public T fjernForan(long timeout, TimeUnit unit) throws InterruptedException {
+        long nanos = unit.toNanos(timeout);
+        lock.lockInterruptibly();
+        try {
+            while (ko.erTom()) {
+                if (nanos <= 0) {
+                    return null;
+                }
+                nanos = ikkeTom.awaitNanos(nanos);
+            }
+            T element = ko.fjernForan();
+            ikkeFull.signal();
+            return element;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Fjerner og returnerer elementet bak i køen, og venter hvis køen er tom.
+     *
+     * @return Elementet bak i køen.
+     * @throws InterruptedException hvis tråden avbrytes mens den venter.
+     */
+    public T fjernBak() throws InterruptedException {
+        lock.lockInterruptibly();
+        try {
+            while (ko.erTom()) {
+                ikkeTom.await();
+            }
+            T element = ko.fjernBak();
+            ikkeFull.signal();
+            return element;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Flytter opptil max elementer fra fronten av køen til målet, i rekkefølge, under én låsing.
+     * Venter ikke: er køen tom, flyttes ingenting. Alle produsenter som venter på plass vekkes.
+     *
+     * @param mål Samlingen elementene legges til i.
+     * @param max Maks antall elementer som skal flyttes.
+     * @return Antall elementer som ble flyttet.
+     * @throws IllegalArgumentException hvis max er negativ.
+     */
+    public int drainTo(Collection<? super T> mål, int max) {
+        Objects.requireNonNull(mål, "Målet kan ikke være null.");
+        if (max < 0) {
+            throw new IllegalArgumentException("max kan ikke være negativ: " + max);
+        }
+        lock.lock();
+        try {
+            int antall = Math.min(max, ko.storrelse());
+            for (int i = 0; i < antall; i++) {
+                mål.add(ko.fjernForan());
+            }
+            if (antall > 0) {
+                ikkeFull.signalAll();
+            }
+            return antall;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returnerer antall elementer i køen.
+     *
+     * @return Antall elementer i køen.
+     */
+    public int storrelse() {
+        lock.lock();
+        try {
+            return ko.storrelse();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Returnerer hvor mange elementer som kan legges til før køen er full.
+     *
+     * @return Ledig kapasitet.
+     */
+    public int ledigKapasitet() {
+        lock.lock();
+        try {
+            return kapasitet - ko.storrelse();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public String toString() {
+        lock.lock();
+        try {
+            return ko.toString();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        BlokkerendeDobbelko<Integer> ko = new BlokkerendeDobbelko<>(8);
+        int antall = 10_000;
+        Thread produsent = new Thread(() -> {
+            try {
+                for (int i = 0; i < antall; i++) {
+                    ko.leggTilBak(i);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        produsent.start();
+
+        List<Integer> batch = new ArrayList<>();
+        int mottatt = 0;
+        int batcher = 0;
+        while (mottatt < antall) {
+            Integer forste = ko.fjernForan(1, TimeUnit.SECONDS);
+            if (forste == null) {
+                break;
+            }
+            batch.clear();
+            batch.add(forste);
+            ko.drainTo(batch, 63);
+            mottatt += batch.size();
+            batcher++;
+        }
+        produsent.join();
+        System.out.println("Mottok " + mottatt + " elementer i " + batcher + " batcher");
+        for (int i = 0; i < 8; i++) {
+            ko.leggTilBak(i);
+        }
+        System.out.println("Lagt til i full kø: " + ko.leggTilBak(8, 10, TimeUnit.MILLISECONDS));
+        ko.drainTo(batch, Integer.MAX_VALUE);
+        System.out.println("Fjernet fra tom kø: " + ko.fjernForan(10, TimeUnit.MILLISECONDS));
+    }
+}
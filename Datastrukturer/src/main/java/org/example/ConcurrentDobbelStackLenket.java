@@ -0,0 +1,272 @@
+package org.example;
+
+import java.util.EmptyStackException;
+import java.util.Objects;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * To låsfrie stakker (Treiber-stakker) med samme metoder som {@link DobbelStackLenket}, som kan
+ * deles mellom tråder, f.eks. som to lister med ledige objekter.
+ * <p>
+ * Toppen av hver stakk er en {@link AtomicReference}, og push og pop bytter den med CAS. ABA kan
+ * ikke skje: hver push lager en ny node, og en node gjenbrukes aldri så lenge en tråd fortsatt
+ * har en referanse til den, siden det er GC som frigjør den.
+ * <p>
+ * Når en CAS mislykkes fordi andre tråder endret toppen, prøver tråden eliminasjon før den
+ * prøver igjen: en push legger noden sin i en tilfeldig plass i et lite array og venter litt, og
+ * en pop som finner en node der tar den direkte. Et slikt par opphever hverandre uten å røre
+ * toppen, så stor konkurranse om toppen fordeles på flere plasser.
+ *
+ * @param <T> Typen elementer i stakkene.
+ */
+public class ConcurrentDobbelStackLenket<T> {
+
+    private static final int ELIMINASJON_VENTING = 64; // Antall runder en push venter på en pop.
+
+    private final Stakk<T> stakk1 = new Stakk<>();
+    private final Stakk<T> stakk2 = new Stakk<>();
+
+    /**
+     * Representerer en node i den lenkede listen som brukes til å implementere stakkene.
+     *
+     * @param <T> Typen data som lagres i noden.
+     */
+    private static class Node<T> {
+        private final T data;
+        private Node<T> neste;
+        private int antall; // Antall noder fra og med denne til bunnen, så størrelsen er atomisk.
+
+        Node(T data) {
+            this.data = Objects.requireNonNull(data, "Data kan ikke være null.");
+        }
+    }
+
+    /**
+     * Én Treiber-stakk med sitt eget eliminasjonsarray.
+     */
+    private static class Stakk<T> {
+        private final AtomicReference<Node<T>> hode = new AtomicReference<>();
+        private final AtomicReferenceArray<Node<T>> eliminasjon =
+                new AtomicReferenceArray<>(Math.max(2, Runtime.getRuntime().availableProcessors()));
+
+        void push(T data) {
+            Node<T> nyNode = new Node<>(data);
+            while (true) {
+                Node<T> gammel = hode.get();
+                nyNode.neste = gammel;
+                nyNode.antall = (gammel == null) ? 1 : gammel.antall + 1;
+                if (hode.compareAndSet(gammel, nyNode) || elimineresAvPop(nyNode)) {
+                    return;
+                }
+            }
+        }
+
+        /**
+         * Tilbyr noden til en pop i en tilfeldig plass i eliminasjonsarrayet.
+         * @return true hvis en pop tok noden, false hvis pushen må prøve toppen igjen.
+         */
+        private boolean elimineresAvPop(Node<T> node) {
+            int plass = ThreadLocalRandom.current().nextInt(eliminasjon.length());
+            if (!eliminasjon.compareAndSet(plass, null, node)) {
+                return false;
+            }
+            for (int i = 0; i < ELIMINASJON_VENTING; i++) {
+                if (eliminasjon.get(plass) != node) {
+                    return true;
+                }
+                Thread.onSpinWait();
+            }
+            // Ingen pop kom. Klarer vi ikke å ta noden tilbake, tok en pop den i siste liten.
+            return !eliminasjon.compareAndSet(plass, node, null);
+        }
+
+        T pop() {
+            while (true) {
+                Node<T> gammel = hode.get();
+                if (gammel == null) {
+                    throw new EmptyStackException();
+                }
+                if (hode.compareAndSet(gammel, gammel.neste)) {
+                    return gammel.data;
+                }
+                T eliminert = eliminerPush();
+                if (eliminert != null) {
+                    return eliminert;
+                }
+            }
+        }
+
+        /**
+         * Tar en node som en push har lagt i en tilfeldig plass i eliminasjonsarrayet.
+         * @return Elementet til pushen, eller null hvis plassen var tom.
+         */
+        private T eliminerPush() {
+            int plass = ThreadLocalRandom.current().nextInt(eliminasjon.length());
+            Node<T> node = eliminasjon.get(plass);
+            if (node != null && eliminasjon.compareAndSet(plass, node, null)) {
+                return node.data;
+            }
+            return null;
+        }
+
+        T peek() {
+            Node<T> topp = hode.get();
+            if (topp == null) {
+                throw new EmptyStackException();
+            }
+            return topp.data;
+        }
+
+        int size() {
+            Node<T> topp = hode.get();
+            return (topp == null) ? 0 : topp.antall;
+        }
+
+        void clear() {
+            hode.set(null);
+        }
+
+        void appendTo(StringBuilder sb) {
+            sb.append('[');
+            Node<T> current = hode.get();
+            while (current != null) {
+                sb.append(current.data);
+                if (current.neste != null) {
+                    sb.append(", ");
+                }
+                current = current.neste;
+            }
+            sb.append("]\n");
+        }
+    }
+
+    /**
+     * Pusher et element på toppen av stack 1.
+     *
+     * @param data Elementet som skal legges til. Kaster NullPointerException hvis data er null.
+     */
+    public void push1(T data) {
+        stakk1.push(data);
+    }
+
+    /**
+     * Pusher et element på toppen av stack 2.
+     *
+     * @param data Elementet som skal legges til. Kaster NullPointerException hvis data er null.
+     */
+    public void push2(T data) {
+        stakk2.push(data);
+    }
+
+    /**
+     * Popper elementet på toppen av stack 1.
+     *
+     * @return Elementet som ble poppet.
+     * @throws EmptyStackException hvis stack 1 er tom.
+     */
+    public T pop1() {
+        return stakk1.pop();
+    }
+
+    /**
+     * Popper elementet på toppen av stack 2.
+     *
+     * @return Elementet som ble poppet.
+     * @throws EmptyStackException hvis stack 2 er tom.
+     */
+    public T pop2() {
+        return stakk2.pop();
+    }
+
+    /**
+     * Sjekker om stack 1 er tom.
+     *
+     * @return True hvis stack 1 er tom, false ellers.
+     */
+    public boolean isEmpty1() {
+        return stakk1.size() == 0;
+    }
+
+    public boolean isEmpty2() {
+        return stakk2.size() == 0;
+    }
+
+    /**
+     * Henter elementet på toppen av stack 1 uten å fjerne det.
+     *
+     * @return Elementet på toppen av stack 1.
+     * @throws EmptyStackException hvis stack 1 er tom.
+     */
+    public T peek1() {
+        return stakk1.peek();
+    }
+
+    public T peek2() {
+        return stakk2.peek();
+    }
+
+    /**
+     * Returnerer antall elementer i stack 1. Hver node vet hvor mange noder som ligger under den,
+     * så størrelsen leses atomisk fra toppen i O(1).
+     *
+     * @return Antall elementer i stack 1.
+     */
+    public int size1() {
+        return stakk1.size();
+    }
+
+    public int size2() {
+        return stakk2.size();
+    }
+
+    /**
+     * Tømmer stack 1.
+     */
+    public void clear1() {
+        stakk1.clear();
+    }
+
+    /**
+     * Tømmer stack 2.
+     */
+    public void clear2() {
+        stakk2.clear();
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Stack 1: ");
+        stakk1.appendTo(sb);
+        sb.append("Stack 2: ");
+        stakk2.appendTo(sb);
+        return sb.toString();
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        ConcurrentDobbelStackLenket<Integer> dobbelStack = new ConcurrentDobbelStackLenket<>();
+        int trader = 4;
+        int perTrad = 200_000;
+        Thread[] arbeidere = new Thread[trader];
+        for (int t = 0; t < trader; t++) {
+            arbeidere[t] = new Thread(() -> {
+                // Flytter elementer frem og tilbake mellom stakkene, som to lister med ledige objekter
+                for (int i = 0; i < perTrad; i++) {
+                    dobbelStack.push1(i);
+                    dobbelStack.push2(dobbelStack.pop1());
+                    if (i % 2 == 0) {
+                        dobbelStack.pop2();
+                    }
+                }
+            });
+            arbeidere[t].start();
+        }
+        for (Thread arbeider : arbeidere) {
+            arbeider.join();
+        }
+        System.out.println("Stack 1 Size: " + dobbelStack.size1() + ", Stack 2 Size: " + dobbelStack.size2()
+                + " (forventet 0 og " + trader * perTrad / 2 + ")");
+    }
+}
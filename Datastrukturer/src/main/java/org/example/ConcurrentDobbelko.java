@@ -0,0 +1,225 @@
+package org.example;
+
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * En låsfri dobbel kø for arbeidsstjeling (Chase-Lev). Én eiertråd legger til og fjerner bak
+ * i køen ({@link #leggTilBak}, {@link #fjernBak}), mens alle tråder kan stjele fra fronten
+ * ({@link #fjernForan}).
+ * <p>
+ * Eieren bruker ingen CAS, bortsett fra når den tar det siste elementet og kan konkurrere med
+ * en tyv. Tyvene konkurrerer om fronten med CAS på {@code topp}. Elementene ligger i en
+ * sirkulær buffer med en størrelse som er en potens av 2, og eieren dobler bufferen når den er
+ * full. Tyver som fortsatt leser den gamle bufferen ser de samme elementene der.
+ * <p>
+ * Bare eiertråden kan kalle {@link #leggTilBak} og {@link #fjernBak}. Siden køen deles
+ * mellom tråder, returnerer fjern-metodene null når køen er tom i stedet for å kaste
+ * unntak, som {@link java.util.concurrent.ConcurrentLinkedDeque#pollFirst()}.
+ *
+ * @param <T> Den type elementer som køen skal inneholde.
+ */
+public class ConcurrentDobbelko<T> {
+
+    private static final int STANDARD_KAPASITET = 64;
+
+    private final AtomicLong topp = new AtomicLong(); // Indeksen til elementet foran, tyvene øker den med CAS.
+    private final AtomicLong bunn = new AtomicLong(); // Indeksen etter elementet bak, skrives bare av eieren.
+    private volatile AtomicReferenceArray<T> elementer; // Sirkulær buffer, lengden er alltid en potens av 2.
+
+    public ConcurrentDobbelko() {
+        this(STANDARD_KAPASITET);
+    }
+
+    /**
+     * Konstruktør som initialiserer køen med plass til et gitt antall elementer.
+     *
+     * @param kapasitet Antall elementer køen skal ha plass til før den må vokse.
+     * @throws IllegalArgumentException hvis kapasiteten er negativ.
+     */
+    public ConcurrentDobbelko(int kapasitet) {
+        if (kapasitet < 0) {
+            throw new IllegalArgumentException("Kapasiteten kan ikke være negativ: " + kapasitet);
+        }
+        elementer = new AtomicReferenceArray<>(Dobbelko.nestePotensAvTo(kapasitet));
+    }
+
+    /**
+     * Legger til et element bak i køen. Kan bare kalles av eiertråden.
+     *
+     * @param element Elementet som skal legges til.
+     * @throws NullPointerException hvis elementet er null.
+     */
+    public void leggTilBak(T element) {
+        Objects.requireNonNull(element, "Elementet kan ikke være null.");
+        long b = bunn.get();
+        long t = topp.get();
+        AtomicReferenceArray<T> a = elementer;
+        // En tyv som har tatt elementet på samme plass, men ikke nullet plassen ennå, kunne
+        // ellers nullet det nye elementet hvis det er det samme objektet
+        if (b - t >= a.length() || a.get((int) b & (a.length() - 1)) != null) {
+            a = voks(a, t, b);
+        }
+        a.setRelease((int) b & (a.length() - 1), element);
+        // Tyvene ser elementet før de ser den nye bunnen
+        bunn.setRelease(b + 1);
+    }
+
+    /**
+     * Dobler bufferen. Elementene på [t, b) kopieres til samme logiske indekser i en ny buffer,
+     * og den gamle bufferen endres ikke, så tyver som leser den fortsatt finner riktig element.
+     */
+    private AtomicReferenceArray<T> voks(AtomicReferenceArray<T> gammel, long t, long b) {
+        if (gammel.length() == 1 << 30) {
+            throw new IllegalStateException("Køen er full.");
+        }
+        AtomicReferenceArray<T> ny = new AtomicReferenceArray<>(2 * gammel.length());
+        for (long i = t; i < b; i++) {
+            ny.setPlain((int) i & (ny.length() - 1), gammel.getPlain((int) i & (gammel.length() - 1)));
+        }
+        elementer = ny;
+        return ny;
+    }
+
+    /**
+     * Fjerner og returnerer elementet bak i køen. Kan bare kalles av eiertråden.
+     *
+     * @return Elementet bak i køen, eller null hvis køen er tom.
+     */
+    public T fjernBak() {
+        long b = bunn.get() - 1;
+        AtomicReferenceArray<T> a = elementer;
+        // Bunnen må flyttes før toppen leses, så en tyv ikke kan ta det samme elementet
+        bunn.set(b);
+        long t = topp.get();
+        if (t > b) {
+            // Køen var tom
+            bunn.set(b + 1);
+            return null;
+        }
+        int plass = (int) b & (a.length() - 1);
+        T element = a.get(plass);
+        if (t < b) {
+            // Flere elementer igjen, så ingen tyv kan nå dette
+            a.setPlain(plass, null);
+            return element;
+        }
+        // Det siste elementet: konkurrer med tyvene om det. Taperen nuller ikke plassen
+        if (topp.compareAndSet(t, t + 1)) {
+            a.compareAndSet(plass, element, null);
+        } else {
+            element = null;
+        }
+        bunn.set(b + 1);
+        return element;
+    }
+
+    /**
+     * Stjeler og returnerer elementet foran i køen. Kan kalles av alle tråder.
+     *
+     * @return Elementet foran i køen, eller null hvis køen er tom.
+     */
+    public T fjernForan() {
+        while (true) {
+            long t = topp.get();
+            long b = bunn.get();
+            if (t >= b) {
+                return null;
+            }
+            AtomicReferenceArray<T> a = elementer;
+            int plass = (int) t & (a.length() - 1);
+            T element = a.get(plass);
+            if (topp.compareAndSet(t, t + 1)) {
+                // Null plassen så bufferen ikke holder på elementet. Eieren skriver aldri over en
+                // plass som ikke er nullet, så dette kan ikke fjerne et nyere element
+                a.compareAndSet(plass, element, null);
+                return element;
+            }
+            // En annen tråd tok elementet først, prøv neste
+        }
+    }
+
+    /**
+     * Returnerer elementet foran i køen uten å fjerne det. Resultatet kan være utdatert med
+     * en gang hvis andre tråder endrer køen.
+     *
+     * @return Elementet foran i køen, eller null hvis køen er tom.
+     */
+    public T seForan() {
+        long t = topp.get();
+        if (t >= bunn.get()) {
+            return null;
+        }
+        AtomicReferenceArray<T> a = elementer;
+        return a.get((int) t & (a.length() - 1));
+    }
+
+    /**
+     * Sjekker om køen er tom. Resultatet kan være utdatert med en gang.
+     *
+     * @return `true` hvis køen er tom, `false` ellers.
+     */
+    public boolean erTom() {
+        return storrelse() == 0;
+    }
+
+    /**
+     * Returnerer antall elementer i køen. Resultatet kan være utdatert med en gang.
+     *
+     * @return Antall elementer i køen.
+     */
+    public int storrelse() {
+        long t = topp.get();
+        long b = bunn.get();
+        return (int) Math.max(0, b - t);
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        ConcurrentDobbelko<Integer> ko = new ConcurrentDobbelko<>(4);
+        int antall = 1_000_000;
+        AtomicLong stjålet = new AtomicLong();
+        AtomicLong sumTyver = new AtomicLong();
+        Thread[] tyver = new Thread[3];
+        for (int i = 0; i < tyver.length; i++) {
+            tyver[i] = new Thread(() -> {
+                while (stjålet.get() >= 0) {
+                    Integer element = ko.fjernForan();
+                    if (element != null) {
+                        sumTyver.addAndGet(element);
+                        stjålet.incrementAndGet();
+                    }
+                }
+            });
+            tyver[i].start();
+        }
+        // Eieren legger til alt og tar selv annethvert element bak
+        long sumEier = 0;
+        long tattAvEier = 0;
+        for (int i = 1; i <= antall; i++) {
+            ko.leggTilBak(i);
+            if (i % 2 == 0) {
+                Integer element = ko.fjernBak();
+                if (element != null) {
+                    sumEier += element;
+                    tattAvEier++;
+                }
+            }
+        }
+        Integer element;
+        while ((element = ko.fjernBak()) != null) {
+            sumEier += element;
+            tattAvEier++;
+        }
+        while (tattAvEier + stjålet.get() < antall) {
+            Thread.onSpinWait();
+        }
+        long tattAvTyver = stjålet.getAndSet(Long.MIN_VALUE);
+        for (Thread tyv : tyver) {
+            tyv.join();
+        }
+        long forventet = (long) antall * (antall + 1) / 2;
+        System.out.println("Eier tok " + tattAvEier + ", tyvene stjal " + tattAvTyver
+                + ", summen stemmer: " + (sumEier + sumTyver.get() == forventet));
+    }
+}
@@ -0,0 +1,215 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.EmptyStackException;
+import java.util.Objects;
+
+/**
+ * To stakker i ett array, med samme metoder som {@link DobbelStackLenket}. Stack 1 vokser fra
+ * indeks 0 og oppover, og stack 2 vokser fra slutten av arrayet og nedover. Arrayet dobles bare
+ * når de to stakkene møtes, så push allokerer ingenting ellers, og elementene ligger samlet i minnet.
+ *
+ * @param <T> Typen elementer i stakkene.
+ */
+public class DobbelStack<T> {
+
+    private static final int STANDARD_KAPASITET = 16;
+
+    private T[] elementer; // Stack 1 ligger på [0, topp1), stack 2 på [topp2, elementer.length).
+    private int topp1; // Indeksen der neste element i stack 1 legges, og antall elementer i stack 1.
+    private int topp2; // Indeksen til det øverste elementet i stack 2.
+
+    public DobbelStack() {
+        this(STANDARD_KAPASITET);
+    }
+
+    /**
+     * Konstruerer to tomme stakker med plass til et gitt antall elementer til sammen.
+     *
+     * @param kapasitet Antall elementer stakkene har plass til før arrayet må vokse.
+     * @throws IllegalArgumentException hvis kapasiteten er negativ.
+     */
+    public DobbelStack(int kapasitet) {
+        if (kapasitet < 0) {
+            throw new IllegalArgumentException("Kapasiteten kan ikke være negativ: " + kapasitet);
+        }
+        elementer = (T[]) new Object[Math.max(kapasitet, 2)];
+        topp2 = elementer.length;
+    }
+
+    /**
+     * Dobler arrayet. Stack 1 blir liggende først, og stack 2 flyttes til slutten av det nye arrayet.
+     */
+    private void voks() {
+        int size2 = size2();
+        T[] nye = (T[]) new Object[Math.addExact(elementer.length, elementer.length)];
+        System.arraycopy(elementer, 0, nye, 0, topp1);
+        System.arraycopy(elementer, topp2, nye, nye.length - size2, size2);
+        elementer = nye;
+        topp2 = nye.length - size2;
+    }
+
+    /**
+     * Pusher et element på toppen av stack 1.
+     *
+     * @param data Elementet som skal legges til. Kaster NullPointerException hvis data er null.
+     */
+    public void push1(T data) {
+        Objects.requireNonNull(data, "Data kan ikke være null.");
+        if (topp1 == topp2) {
+            voks();
+        }
+        elementer[topp1++] = data;
+    }
+
+    /**
+     * Pusher et element på toppen av stack 2.
+     *
+     * @param data Elementet som skal legges til. Kaster NullPointerException hvis data er null.
+     */
+    public void push2(T data) {
+        Objects.requireNonNull(data, "Data kan ikke være null.");
+        if (topp1 == topp2) {
+            voks();
+        }
+        elementer[--topp2] = data;
+    }
+
+    /**
+     * Popper elementet på toppen av stack 1.
+     *
+     * @return Elementet som ble poppet.
+     * @throws EmptyStackException hvis stack 1 er tom.
+     */
+    public T pop1() {
+        if (isEmpty1()) {
+            throw new EmptyStackException();
+        }
+        T data = elementer[--topp1];
+        elementer[topp1] = null; // Slipp referansen, så elementet kan ryddes av GC
+        return data;
+    }
+
+    /**
+     * Popper elementet på toppen av stack 2.
+     *
+     * @return Elementet som ble poppet.
+     * @throws EmptyStackException hvis stack 2 er tom.
+     */
+    public T pop2() {
+        if (isEmpty2()) {
+            throw new EmptyStackException();
+        }
+        T data = elementer[topp2];
+        elementer[topp2++] = null; // Slipp referansen, så elementet kan ryddes av GC
+        return data;
+    }
+
+    /**
+     * Sjekker om stack 1 er tom.
+     *
+     * @return True hvis stack 1 er tom, false ellers.
+     */
+    public boolean isEmpty1() {
+        return topp1 == 0;
+    }
+
+    public boolean isEmpty2() {
+        return topp2 == elementer.length;
+    }
+
+    /**
+     * Henter elementet på toppen av stack 1 uten å fjerne det.
+     *
+     * @return Elementet på toppen av stack 1.
+     * @throws EmptyStackException hvis stack 1 er tom.
+     */
+    public T peek1() {
+        if (isEmpty1()) {
+            throw new EmptyStackException();
+        }
+        return elementer[topp1 - 1];
+    }
+
+    public T peek2() {
+        if (isEmpty2()) {
+            throw new EmptyStackException();
+        }
+        return elementer[topp2];
+    }
+
+    /**
+     * Returnerer antall elementer i stack 1.
+     *
+     * @return Antall elementer i stack 1.
+     */
+    public int size1() {
+        return topp1;
+    }
+
+    public int size2() {
+        return elementer.length - topp2;
+    }
+
+    /**
+     * Tømmer stack 1. Plassene nulles ut så elementene kan ryddes av GC, som koster O(n).
+     * {@link IntDobbelStack#clear1()} er O(1).
+     */
+    public void clear1() {
+        Arrays.fill(elementer, 0, topp1, null);
+        topp1 = 0;
+    }
+
+    /**
+     * Tømmer stack 2. Plassene nulles ut så elementene kan ryddes av GC, som koster O(n).
+     * {@link IntDobbelStack#clear2()} er O(1).
+     */
+    public void clear2() {
+        Arrays.fill(elementer, topp2, elementer.length, null);
+        topp2 = elementer.length;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Stack 1: [");
+        for (int i = topp1 - 1; i >= 0; i--) {
+            sb.append(elementer[i]);
+            if (i > 0) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]\n");
+
+        sb.append("Stack 2: [");
+        for (int i = topp2; i < elementer.length; i++) {
+            sb.append(elementer[i]);
+            if (i < elementer.length - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]\n");
+        return sb.toString();
+    }
+
+    public static void main(String[] args) {
+        DobbelStack<Integer> dobbelStack = new DobbelStack<>(2);
+
+        dobbelStack.push1(10);
+        dobbelStack.push1(20);
+        dobbelStack.push2(30);
+        dobbelStack.push2(40);
+
+        System.out.println(dobbelStack.toString());
+
+        System.out.println("Stack 1 Size: " + dobbelStack.size1());
+        System.out.println("Stack 2 Size: " + dobbelStack.size2());
+
+        System.out.println("Popped from Stack 1: " + dobbelStack.pop1());
+        System.out.println("Peek on Stack 2: " + dobbelStack.peek2());
+        System.out.println(dobbelStack);
+
+        dobbelStack.clear1();
+        System.out.println("Stack 1 is empty: " + dobbelStack.isEmpty1());
+    }
+}
@@ -1,6 +1,9 @@
 package org.example;
 
+import java.util.Arrays;
+import java.util.Collection;
 import java.util.EmptyStackException;
+import java.util.List;
 import java.util.Objects;
 
 public class DobbelStackLenket<T> {
@@ -47,6 +50,83 @@ public class DobbelStackLenket<T> {
         size2++;
     }
 
+    /**
+     * Pusher alle elementene i samlingen på stack 1, i samlingens rekkefølge, så det siste
+     * elementet havner på toppen. Nodene lenkes sammen først og kobles på stakken til slutt.
+     *
+     * @param data Elementene som skal legges til.
+     * @throws NullPointerException hvis et av elementene er null. Stakken endres da ikke.
+     */
+    public void pushAll1(Collection<? extends T> data) {
+        Node<T> topp = hode1;
+        int antall = 0;
+        for (T element : data) {
+            Node<T> nyNode = new Node<>(element);
+            nyNode.neste = topp;
+            topp = nyNode;
+            antall++;
+        }
+        hode1 = topp;
+        size1 += antall;
+    }
+
+    /**
+     * Popper n elementer fra stack 1 inn i dest, i samme rekkefølge som n kall til pop1() ville
+     * gitt dem: det øverste elementet havner på dest[0].
+     *
+     * @param n    Antall elementer som skal poppes.
+     * @param dest Arrayet elementene legges i.
+     * @throws IllegalArgumentException hvis n er negativ.
+     * @throws IndexOutOfBoundsException hvis dest har plass til færre enn n elementer.
+     * @throws EmptyStackException hvis stack 1 har færre enn n elementer. Stakken endres da ikke.
+     */
+    public void popN1(int n, T[] dest) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n kan ikke være negativ: " + n);
+        }
+        Objects.checkFromIndexSize(0, n, dest.length);
+        if (n > size1) {
+            throw new EmptyStackException();
+        }
+        Node<T> current = hode1;
+        for (int i = 0; i < n; i++) {
+            dest[i] = current.data;
+            current = current.neste;
+        }
+        hode1 = current;
+        size1 -= n;
+    }
+
+    /**
+     * Flytter de n øverste elementene fra stack 1 til stack 2, med samme resultat som n kall til
+     * push2(pop1()). Nodene som allerede finnes lenkes om, så ingenting allokeres. Rekkefølgen
+     * snus på veien, så flyttingen er O(n) også når hele stakken flyttes.
+     *
+     * @param n Antall elementer som skal flyttes.
+     * @throws IllegalArgumentException hvis n er negativ.
+     * @throws EmptyStackException hvis stack 1 har færre enn n elementer. Stakkene endres da ikke.
+     */
+    public void transfer1to2(int n) {
+        if (n < 0) {
+            throw new IllegalArgumentException("n kan ikke være negativ: " + n);
+        }
+        if (n > size1) {
+            throw new EmptyStackException();
+        }
+        Node<T> current = hode1;
+        Node<T> flyttet = hode2;
+        for (int i = 0; i < n; i++) {
+            Node<T> neste = current.neste;
+            current.neste = flyttet;
+            flyttet = current;
+            current = neste;
+        }
+        hode1 = current;
+        hode2 = flyttet;
+        size1 -= n;
+        size2 += n;
+    }
+
     /**
      * Popper elementet på toppen av stack 1.
      *
@@ -184,5 +264,12 @@ public class DobbelStackLenket<T> {
 
         dobbelStack.clear1();
         System.out.println("Stack 1 is empty: " + dobbelStack.isEmpty1());
+
+        dobbelStack.pushAll1(List.of(1, 2, 3, 4, 5));
+        dobbelStack.transfer1to2(3);
+        System.out.println("After transfer1to2(3):\n" + dobbelStack);
+        Integer[] popped = new Integer[2];
+        dobbelStack.popN1(2, popped);
+        System.out.println("popN1(2): " + Arrays.toString(popped) + ", Stack 1 is empty: " + dobbelStack.isEmpty1());
     }
 }
@@ -1,36 +1,60 @@
 package org.example;
 
-import com.sun.jdi.PrimitiveValue;
-
-import java.util.ArrayDeque;
-import java.util.Deque;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.ConcurrentModificationException;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
-import java.util.stream.Collectors;
+import java.util.RandomAccess;
+import java.util.StringJoiner;
 
 public class Dobbelko<T> {
 
     /**
          * En dobbel kø (Deque) implementasjon som tilbyr effektiv tilgang
-         * og modifikasjon fra begge ender. Benytter to interne Deque-er
-         * for å optimere ytelsen av leggTilForan/leggTilBak operasjoner.
+         * og modifikasjon fra begge ender. Elementene ligger i én sirkulær
+         * buffer med en størrelse som er en potens av 2, så alle operasjonene
+         * er O(1), og bufferen dobles når den er full (amortisert O(1)).
          *
          * @param <T> Den type elementer som køen skal inneholde.
      */
 
-    private final Deque<T> forreste; // Elementer lagt til 'foran'
-    private final Deque<T> bakre; // Elementer lagt til 'bak'
+    private static final int STANDARD_KAPASITET = 16;
 
-    // Konstanter for å justere balansen mellom 'forreste' og 'bakre'
-    private static final int FORAN_THRESHOLD  = 10;
-    private static final int BAK_THRESHOLD    = 10;
+    private T[] elementer; // Sirkulær buffer, lengden er alltid en potens av 2.
+    private int hode; // Indeksen til elementet foran i køen.
+    private int antall; // Antall elementer i køen.
+    private int endringer; // Økes ved hver endring av antall, så subList-visninger kan oppdage dem.
 
     /**
      * Konstruktør som initialiserer den doble køen.
     */
     public Dobbelko() {
-        forreste = new ArrayDeque<T>();
-        bakre = new ArrayDeque<>();
+        this(STANDARD_KAPASITET);
+    }
+
+    /**
+     * Konstruktør som initialiserer den doble køen med plass til et gitt antall elementer.
+     *
+     * @param kapasitet Antall elementer køen skal ha plass til før den må vokse.
+     * @throws IllegalArgumentException hvis kapasiteten er negativ.
+     */
+    public Dobbelko(int kapasitet) {
+        if (kapasitet < 0) {
+            throw new IllegalArgumentException("Kapasiteten kan ikke være negativ: " + kapasitet);
+        }
+        elementer = (T[]) new Object[nestePotensAvTo(kapasitet)];
+    }
+
+    /**
+     * Finner den minste potensen av 2 som er minst n (og minst 1).
+     */
+    static int nestePotensAvTo(int n) {
+        if (n > 1 << 30) {
+            throw new IllegalArgumentException("Kapasiteten er for stor: " + n);
+        }
+        return (n <= 1) ? 1 : Integer.highestOneBit(n - 1) << 1;
     }
 
     /**
@@ -39,44 +63,37 @@ public class Dobbelko<T> {
      * @return `true` hvis køen er tom, `false` ellers.
      */
     public boolean erTom() {
-        return forreste.isEmpty() && bakre.isEmpty();
+        return antall == 0;
     }
 
     /**
-     * Rebalanserer de interne køene for å unngå at en blir for stor
-     * i forhold til den andre. Dette forbedrer den generelle ytelsen
-     * ved hyppige leggTilForan/leggTilBak operasjoner.
+     * Dobler bufferen.
      */
-    private void rebalanser() {
-        if(forreste.size() > BAK_THRESHOLD + bakre.size()) {
-            overførFraForanTilBak();
-        } else if (bakre.size() > FORAN_THRESHOLD + forreste.size()) {
-            overførFraBakTilForan();
+    private void voks() {
+        if (elementer.length == 1 << 30) {
+            throw new IllegalStateException("Køen er full.");
         }
+        voksTil(2 * elementer.length);
     }
 
     /**
-     * Hjelpemetode for å overføre elementer fra 'forreste' til 'bakre'
-     * slik at fordelingen av elementer er mer balansert.
-    */
-    private void overførFraForanTilBak() {
-        int antallFlyttes = forreste.size() - bakre.size(); // Antallet elementer å flytte. Kan være negativt, vi flytter uansett bare ett.
-        antallFlyttes = Math.max(1, antallFlyttes/2); // flytter minst ett element, og omtrent halvparten av differansen
-        for (int i = 0; i < antallFlyttes; i++) {
-            bakre.addFirst(forreste.removeLast()); // Flytter fra slutten av forreste til starten av bakre
-        }
+     * Flytter elementene over i en ny buffer med den gitte lengden (en potens av 2), slik at det
+     * fremste havner på indeks 0.
+     */
+    private void voksTil(int lengde) {
+        T[] nye = (T[]) new Object[lengde];
+        int forsteDel = Math.min(antall, elementer.length - hode); // Elementene fra hode til slutten av bufferen
+        System.arraycopy(elementer, hode, nye, 0, forsteDel);
+        System.arraycopy(elementer, 0, nye, forsteDel, antall - forsteDel);
+        elementer = nye;
+        hode = 0;
     }
 
     /**
-     * Hjelpemetode for å overføre elementer fra 'bakre' til 'forreste'
-     * slik at fordelingen av elementer er mer balansert.
-    */
-    private void overførFraBakTilForan() {
-        int antalllyFlyttes = bakre.size() - forreste.size();
-        antalllyFlyttes = Math.max(1, antalllyFlyttes/2);
-        for (int i = 0; i < antalllyFlyttes; i++) {
-            forreste.addLast(bakre.removeFirst());
-        }
+     * Finner plassen i bufferen til element nummer i fra fronten.
+     */
+    private int plass(int i) {
+        return (hode + i) & (elementer.length - 1);
     }
 
     /**
@@ -88,8 +105,13 @@ public class Dobbelko<T> {
      */
     public void leggTilForan(T element) {
         Objects.requireNonNull(element, "Elementet kan ikke være null.");
-        forreste.addFirst(element);
-        rebalanser();
+        if (antall == elementer.length) {
+            voks();
+        }
+        hode = (hode - 1) & (elementer.length - 1);
+        elementer[hode] = element;
+        antall++;
+        endringer++;
     }
 
     /**
@@ -101,8 +123,134 @@ public class Dobbelko<T> {
      */
     public void leggTilBak(T element) {
         Objects.requireNonNull(element, "Elementet kan ikke være null.");
-        bakre.addLast(element);
-        rebalanser();
+        if (antall == elementer.length) {
+            voks();
+        }
+        elementer[plass(antall)] = element;
+        antall++;
+        endringer++;
+    }
+
+    /**
+     * Legger til len elementer fra src bak i køen, i samme rekkefølge som i src. Elementene
+     * kopieres med {@link System#arraycopy} i høyst to biter, og bufferen vokser høyst én gang.
+     *
+     * @param src Arrayet elementene hentes fra.
+     * @param off Indeksen til det første elementet i src.
+     * @param len Antall elementer som skal legges til.
+     * @throws IndexOutOfBoundsException hvis off og len ikke er innenfor src.
+     * @throws NullPointerException hvis et av elementene er null. Køen endres da ikke.
+     */
+    public void addAllBak(T[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        for (int i = off; i < off + len; i++) {
+            Objects.requireNonNull(src[i], "Elementet kan ikke være null.");
+        }
+        if (len > elementer.length - antall) {
+            if ((long) antall + len > 1 << 30) {
+                throw new IllegalStateException("Køen er full.");
+            }
+            voksTil(nestePotensAvTo(antall + len));
+        }
+        int start = plass(antall);
+        int forsteDel = Math.min(len, elementer.length - start); // Det som får plass før bufferen går rundt
+        System.arraycopy(src, off, elementer, start, forsteDel);
+        System.arraycopy(src, off + forsteDel, elementer, 0, len - forsteDel);
+        antall += len;
+        endringer++;
+    }
+
+    /**
+     * Henter element nummer i fra fronten av køen, i O(1).
+     *
+     * @param i Indeksen, der 0 er elementet foran og storrelse() - 1 er elementet bak.
+     * @return Elementet.
+     * @throws IndexOutOfBoundsException hvis indeksen er ugyldig.
+     */
+    public T get(int i) {
+        Objects.checkIndex(i, antall);
+        return elementer[plass(i)];
+    }
+
+    /**
+     * Bytter ut element nummer i fra fronten av køen, i O(1).
+     *
+     * @param i Indeksen, der 0 er elementet foran og storrelse() - 1 er elementet bak.
+     * @param element Det nye elementet.
+     * @return Elementet som ble byttet ut.
+     * @throws IndexOutOfBoundsException hvis indeksen er ugyldig.
+     * @throws NullPointerException hvis elementet er null.
+     */
+    public T set(int i, T element) {
+        Objects.checkIndex(i, antall);
+        Objects.requireNonNull(element, "Elementet kan ikke være null.");
+        int p = plass(i);
+        T gammelt = elementer[p];
+        elementer[p] = element;
+        return gammelt;
+    }
+
+    /**
+     * Lager en visning av elementene på indeks [fra, til), som {@link List#subList}. Visningen
+     * kopierer ingenting: get og set går rett til køen. Hvis køen legges til i eller fjernes fra
+     * etterpå, kaster visningen {@link ConcurrentModificationException}.
+     *
+     * @param fra Første indeks, inkludert.
+     * @param til Siste indeks, ikke inkludert.
+     * @return En visning av elementene.
+     * @throws IndexOutOfBoundsException hvis indeksene er ugyldige.
+     */
+    public List<T> subList(int fra, int til) {
+        Objects.checkFromToIndex(fra, til, antall);
+        return new DelListe(fra, til - fra);
+    }
+
+    /**
+     * Visning av et utsnitt av køen, se {@link #subList(int, int)}.
+     */
+    private class DelListe extends AbstractList<T> implements RandomAccess {
+        private final int fra;
+        private final int lengde;
+        private final int forventedeEndringer;
+
+        DelListe(int fra, int lengde) {
+            this.fra = fra;
+            this.lengde = lengde;
+            this.forventedeEndringer = endringer;
+        }
+
+        private void sjekkEndringer() {
+            if (endringer != forventedeEndringer) {
+                throw new ConcurrentModificationException("Køen er endret etter at visningen ble laget.");
+            }
+        }
+
+        @Override
+        public T get(int i) {
+            sjekkEndringer();
+            Objects.checkIndex(i, lengde);
+            return Dobbelko.this.get(fra + i);
+        }
+
+        @Override
+        public T set(int i, T element) {
+            sjekkEndringer();
+            Objects.checkIndex(i, lengde);
+            return Dobbelko.this.set(fra + i, element);
+        }
+
+        @Override
+        public int size() {
+            sjekkEndringer();
+            return lengde;
+        }
+
+        @Override
+        public List<T> subList(int fraIndeks, int tilIndeks) {
+            sjekkEndringer();
+            Objects.checkFromToIndex(fraIndeks, tilIndeks, lengde);
+            return new DelListe(fra + fraIndeks, tilIndeks - fraIndeks);
+        }
     }
 
     /**
@@ -115,14 +263,11 @@ public class Dobbelko<T> {
         if (erTom()) {
             throw new NoSuchElementException("Køen er tom.");
         }
-        T element = null;
-
-        if (!forreste.isEmpty()) {
-            element = forreste.removeFirst();
-        } else {
-            element = bakre.removeFirst();
-        }
-        rebalanser();
+        T element = elementer[hode];
+        elementer[hode] = null; // Slipp referansen, så elementet kan ryddes av GC
+        hode = (hode + 1) & (elementer.length - 1);
+        antall--;
+        endringer++;
         return element;
     }
 
@@ -135,13 +280,11 @@ public class Dobbelko<T> {
         if (erTom()) {
             throw new NoSuchElementException("Køen er tom.");
         }
-        T element = null;
-        if (!bakre.isEmpty()) {
-            element = bakre.removeFirst();
-        } else {
-            element = forreste.removeLast();
-        }
-        rebalanser(); // Vurder rebalansering etter operasjonen
+        int hale = plass(antall - 1);
+        T element = elementer[hale];
+        elementer[hale] = null; // Slipp referansen, så elementet kan ryddes av GC
+        antall--;
+        endringer++;
         return element;
     }
 
@@ -154,11 +297,7 @@ public class Dobbelko<T> {
         if (erTom()) {
             throw new NoSuchElementException("Køen er tom.");
         }
-        if (!forreste.isEmpty()) {
-            return forreste.peekFirst();
-        } else {
-            return bakre.peekFirst();
-        }
+        return elementer[hode];
     }
 
     /**
@@ -171,11 +310,7 @@ public class Dobbelko<T> {
         if (erTom()) {
             throw new NoSuchElementException("Køen er tom.");
         }
-        if (!bakre.isEmpty()) {
-            return bakre.peekLast();
-        } else {
-            return forreste.peekLast();
-        }
+        return elementer[plass(antall - 1)];
     }
 
     /**
@@ -184,15 +319,23 @@ public class Dobbelko<T> {
      * @return Antall elementer i køen.
      */
     public int storrelse() {
-        return forreste.size() + bakre.size();
+        return antall;
     }
 
     /**
-     * Tømmer køen.
+     * Tømmer køen. Plassene som var i bruk nulles ut, så elementene kan ryddes av GC.
      */
     public void tøm() {
-        forreste.clear();
-        bakre.clear();
+        int slutt = hode + antall;
+        if (slutt <= elementer.length) {
+            Arrays.fill(elementer, hode, slutt, null);
+        } else {
+            Arrays.fill(elementer, hode, elementer.length, null);
+            Arrays.fill(elementer, 0, slutt - elementer.length, null);
+        }
+        hode = 0;
+        antall = 0;
+        endringer++;
     }
 
     /**
@@ -202,22 +345,28 @@ public class Dobbelko<T> {
      * @return true hvis invariantene holder, ellers false.
      */
     protected boolean validerInvarianter() {
-        // Invariant: Summen av størrelsen på forreste og bakre skal være lik storrelse().
-        if (forreste.size() + bakre.size() != storrelse()) {
-            System.err.println("Invariant brutt: Summen av kø størrelser er feil.");
+        // Invariant: Bufferen har en lengde som er en potens av 2, og plass til alle elementene.
+        if (Integer.bitCount(elementer.length) != 1 || antall < 0 || antall > elementer.length) {
+            System.err.println("Invariant brutt: Ugyldig bufferstørrelse eller antall.");
             return false;
         }
-        // Invariant: Ingen av køene skal inneholde null-verdier.  Dette er allerede garantert av leggTilForan og leggTilBak.
-        // (Men vi kan legge til en sjekk her hvis vi vil være ekstra forsiktige).
+        // Invariant: Plassene i køen holder elementer, og alle andre plasser er null.
+        for (int i = 0; i < elementer.length; i++) {
+            boolean iBruk = ((i - hode) & (elementer.length - 1)) < antall;
+            if (iBruk != (elementer[i] != null)) {
+                System.err.println("Invariant brutt: Plass " + i + " er feil fylt.");
+                return false;
+            }
+        }
         return true;
     }
     @Override
     public String toString() {
-        String forresteString = "Foran: [" + forreste.stream().map(Object::toString).collect(Collectors.joining(", ")) + "]";
-        String bakreString = "Bak: [" + bakre.stream().map(Object::toString).collect(Collectors.joining(", ")) + "]";
-
-        return "DobbelKo{" + forresteString + ", " +
-                bakreString + "}";
+        StringJoiner joiner = new StringJoiner(", ", "DobbelKo[", "]");
+        for (int i = 0; i < antall; i++) {
+            joiner.add(String.valueOf(elementer[plass(i)]));
+        }
+        return joiner.toString();
     }
     public static void main(String[] args) {
         Dobbelko<Integer> ko = new Dobbelko<>();
@@ -234,7 +383,7 @@ public class Dobbelko<T> {
 
         System.out.println(ko.toString());
 
-        // Testing av rebalansering
+        // Testing av at bufferen vokser når den går rundt
         for (int i = 0; i < 25; i++) {
             ko.leggTilForan(i);
         }
@@ -242,10 +391,17 @@ public class Dobbelko<T> {
         System.out.println(ko.toString());
 
         if (!ko.validerInvarianter()) {
-            System.err.println("Invarianter brutt etter rebalansering!");
+            System.err.println("Invarianter brutt etter vekst!");
         } else {
-            System.out.println("Invarianter validert etter rebalansering.");
+            System.out.println("Invarianter validert etter vekst.");
         }
+        System.out.println("Fjernet foran: " + ko.fjernForan() + ", fjernet bak: " + ko.fjernBak());
+
+        // Indeksert tilgang og et glidende vindu
+        ko.addAllBak(new Integer[]{100, 101, 102, 103}, 1, 3);
+        ko.set(0, 99);
+        System.out.println("get(0): " + ko.get(0) + ", get(" + (ko.storrelse() - 1) + "): " + ko.get(ko.storrelse() - 1));
+        System.out.println("Vindu [2, 6): " + ko.subList(2, 6));
         // Testing av at null-verdier ikke kan legges til
         try {
             ko.leggTilForan(null);
@@ -0,0 +1,200 @@
+package org.example;
+
+import java.util.EmptyStackException;
+
+/**
+ * To stakker av int-verdier i ett {@code int[]}, som {@link DobbelStack} men uten boksing.
+ * Siden verdiene ikke holder på noe GC må rydde, er {@link #clear1()} og {@link #clear2()} O(1).
+ */
+public class IntDobbelStack {
+
+    private static final int STANDARD_KAPASITET = 16;
+
+    private int[] elementer; // Stack 1 ligger på [0, topp1), stack 2 på [topp2, elementer.length).
+    private int topp1; // Indeksen der neste element i stack 1 legges, og antall elementer i stack 1.
+    private int topp2; // Indeksen til det øverste elementet i stack 2.
+
+    public IntDobbelStack() {
+        this(STANDARD_KAPASITET);
+    }
+
+    /**
+     * Konstruerer to tomme stakker med plass til et gitt antall verdier til sammen.
+     *
+     * @param kapasitet Antall verdier stakkene har plass til før arrayet må vokse.
+     * @throws IllegalArgumentException hvis kapasiteten er negativ.
+     */
+    public IntDobbelStack(int kapasitet) {
+        if (kapasitet < 0) {
+            throw new IllegalArgumentException("Kapasiteten kan ikke være negativ: " + kapasitet);
+        }
+        elementer = new int[Math.max(kapasitet, 2)];
+        topp2 = elementer.length;
+    }
+
+    /**
+     * Dobler arrayet. Stack 1 blir liggende først, og stack 2 flyttes til slutten av det nye arrayet.
+     */
+    private void voks() {
+        int size2 = size2();
+        int[] nye = new int[Math.addExact(elementer.length, elementer.length)];
+        System.arraycopy(elementer, 0, nye, 0, topp1);
+        System.arraycopy(elementer, topp2, nye, nye.length - size2, size2);
+        elementer = nye;
+        topp2 = nye.length - size2;
+    }
+
+    /**
+     * Pusher en verdi på toppen av stack 1.
+     *
+     * @param data Verdien som skal legges til.
+     */
+    public void push1(int data) {
+        if (topp1 == topp2) {
+            voks();
+        }
+        elementer[topp1++] = data;
+    }
+
+    /**
+     * Pusher en verdi på toppen av stack 2.
+     *
+     * @param data Verdien som skal legges til.
+     */
+    public void push2(int data) {
+        if (topp1 == topp2) {
+            voks();
+        }
+        elementer[--topp2] = data;
+    }
+
+    /**
+     * Popper verdien på toppen av stack 1.
+     *
+     * @return Verdien som ble poppet.
+     * @throws EmptyStackException hvis stack 1 er tom.
+     */
+    public int pop1() {
+        if (isEmpty1()) {
+            throw new EmptyStackException();
+        }
+        return elementer[--topp1];
+    }
+
+    /**
+     * Popper verdien på toppen av stack 2.
+     *
+     * @return Verdien som ble poppet.
+     * @throws EmptyStackException hvis stack 2 er tom.
+     */
+    public int pop2() {
+        if (isEmpty2()) {
+            throw new EmptyStackException();
+        }
+        return elementer[topp2++];
+    }
+
+    /**
+     * Sjekker om stack 1 er tom.
+     *
+     * @return True hvis stack 1 er tom, false ellers.
+     */
+    public boolean isEmpty1() {
+        return topp1 == 0;
+    }
+
+    public boolean isEmpty2() {
+        return topp2 == elementer.length;
+    }
+
+    /**
+     * Henter verdien på toppen av stack 1 uten å fjerne det.
+     *
+     * @return Verdien på toppen av stack 1.
+     * @throws EmptyStackException hvis stack 1 er tom.
+     */
+    public int peek1() {
+        if (isEmpty1()) {
+            throw new EmptyStackException();
+        }
+        return elementer[topp1 - 1];
+    }
+
+    public int peek2() {
+        if (isEmpty2()) {
+            throw new EmptyStackException();
+        }
+        return elementer[topp2];
+    }
+
+    /**
+     * Returnerer antall verdier i stack 1.
+     *
+     * @return Antall verdier i stack 1.
+     */
+    public int size1() {
+        return topp1;
+    }
+
+    public int size2() {
+        return elementer.length - topp2;
+    }
+
+    /**
+     * Tømmer stack 1 i O(1).
+     */
+    public void clear1() {
+        topp1 = 0;
+    }
+
+    /**
+     * Tømmer stack 2 i O(1).
+     */
+    public void clear2() {
+        topp2 = elementer.length;
+    }
+
+    @Override
+    public String toString() {
+        StringBuilder sb = new StringBuilder();
+        sb.append("Stack 1: [");
+        for (int i = topp1 - 1; i >= 0; i--) {
+            sb.append(elementer[i]);
+            if (i > 0) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]\n");
+
+        sb.append("Stack 2: [");
+        for (int i = topp2; i < elementer.length; i++) {
+            sb.append(elementer[i]);
+            if (i < elementer.length - 1) {
+                sb.append(", ");
+            }
+        }
+        sb.append("]\n");
+        return sb.toString();
+    }
+
+    public static void main(String[] args) {
+        IntDobbelStack dobbelStack = new IntDobbelStack(2);
+
+        dobbelStack.push1(10);
+        dobbelStack.push1(20);
+        dobbelStack.push2(30);
+        dobbelStack.push2(40);
+
+        System.out.println(dobbelStack.toString());
+
+        System.out.println("Stack 1 Size: " + dobbelStack.size1());
+        System.out.println("Stack 2 Size: " + dobbelStack.size2());
+
+        System.out.println("Popped from Stack 1: " + dobbelStack.pop1());
+        System.out.println("Peek on Stack 2: " + dobbelStack.peek2());
+        System.out.println(dobbelStack);
+
+        dobbelStack.clear1();
+        System.out.println("Stack 1 is empty: " + dobbelStack.isEmpty1());
+    }
+}
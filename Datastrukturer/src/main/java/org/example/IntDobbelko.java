@@ -0,0 +1,201 @@
+package org.example;
+
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.StringJoiner;
+
+/**
+ * En dobbel kø av int-verdier, med samme sirkulære buffer og samme metoder som {@link Dobbelko},
+ * men uten boksing. Verdiene ligger direkte i en {@code int[]}.
+ */
+public class IntDobbelko {
+
+    private static final int STANDARD_KAPASITET = 16;
+
+    private int[] elementer; // Sirkulær buffer, lengden er alltid en potens av 2.
+    private int hode; // Indeksen til elementet foran i køen.
+    private int antall; // Antall elementer i køen.
+
+    public IntDobbelko() {
+        this(STANDARD_KAPASITET);
+    }
+
+    /**
+     * Konstruktør som initialiserer den doble køen med plass til et gitt antall elementer.
+     *
+     * @param kapasitet Antall elementer køen skal ha plass til før den må vokse.
+     * @throws IllegalArgumentException hvis kapasiteten er negativ.
+     */
+    public IntDobbelko(int kapasitet) {
+        if (kapasitet < 0) {
+            throw new IllegalArgumentException("Kapasiteten kan ikke være negativ: " + kapasitet);
+        }
+        elementer = new int[Dobbelko.nestePotensAvTo(kapasitet)];
+    }
+
+    public boolean erTom() {
+        return antall == 0;
+    }
+
+    private void voks() {
+        if (elementer.length == 1 << 30) {
+            throw new IllegalStateException("Køen er full.");
+        }
+        voksTil(2 * elementer.length);
+    }
+
+    private void voksTil(int lengde) {
+        int[] nye = new int[lengde];
+        int forsteDel = Math.min(antall, elementer.length - hode);
+        System.arraycopy(elementer, hode, nye, 0, forsteDel);
+        System.arraycopy(elementer, 0, nye, forsteDel, antall - forsteDel);
+        elementer = nye;
+        hode = 0;
+    }
+
+    private int plass(int i) {
+        return (hode + i) & (elementer.length - 1);
+    }
+
+    public void leggTilForan(int element) {
+        if (antall == elementer.length) {
+            voks();
+        }
+        hode = (hode - 1) & (elementer.length - 1);
+        elementer[hode] = element;
+        antall++;
+    }
+
+    public void leggTilBak(int element) {
+        if (antall == elementer.length) {
+            voks();
+        }
+        elementer[plass(antall)] = element;
+        antall++;
+    }
+
+    /**
+     * Legger til len verdier fra src bak i køen, se {@link Dobbelko#addAllBak}.
+     *
+     * @throws IndexOutOfBoundsException hvis off og len ikke er innenfor src.
+     */
+    public void addAllBak(int[] src, int off, int len) {
+        Objects.checkFromIndexSize(off, len, src.length);
+        if (len > elementer.length - antall) {
+            if ((long) antall + len > 1 << 30) {
+                throw new IllegalStateException("Køen er full.");
+            }
+            voksTil(Dobbelko.nestePotensAvTo(antall + len));
+        }
+        int start = plass(antall);
+        int forsteDel = Math.min(len, elementer.length - start);
+        System.arraycopy(src, off, elementer, start, forsteDel);
+        System.arraycopy(src, off + forsteDel, elementer, 0, len - forsteDel);
+        antall += len;
+    }
+
+    /**
+     * Henter verdi nummer i fra fronten av køen, i O(1).
+     *
+     * @throws IndexOutOfBoundsException hvis indeksen er ugyldig.
+     */
+    public int get(int i) {
+        Objects.checkIndex(i, antall);
+        return elementer[plass(i)];
+    }
+
+    /**
+     * Bytter ut verdi nummer i fra fronten av køen, i O(1), og returnerer den gamle verdien.
+     *
+     * @throws IndexOutOfBoundsException hvis indeksen er ugyldig.
+     */
+    public int set(int i, int element) {
+        Objects.checkIndex(i, antall);
+        int p = plass(i);
+        int gammelt = elementer[p];
+        elementer[p] = element;
+        return gammelt;
+    }
+
+    /**
+     * Fjerner og returnerer elementet foran i køen.
+     *
+     * @return Elementet foran i køen.
+     * @throws NoSuchElementException hvis køen er tom.
+     */
+    public int fjernForan() {
+        if (erTom()) {
+            throw new NoSuchElementException("Køen er tom.");
+        }
+        int element = elementer[hode];
+        hode = (hode + 1) & (elementer.length - 1);
+        antall--;
+        return element;
+    }
+
+    /**
+     * Fjerner og returnerer elementet bak i køen.
+     *
+     * @return Elementet bak i køen.
+     * @throws NoSuchElementException hvis køen er tom.
+     */
+    public int fjernBak() {
+        if (erTom()) {
+            throw new NoSuchElementException("Køen er tom.");
+        }
+        antall--;
+        return elementer[plass(antall)];
+    }
+
+    public int seForan() {
+        if (erTom()) {
+            throw new NoSuchElementException("Køen er tom.");
+        }
+        return elementer[hode];
+    }
+
+    public int seBak() {
+        if (erTom()) {
+            throw new NoSuchElementException("Køen er tom.");
+        }
+        return elementer[plass(antall - 1)];
+    }
+
+    public int storrelse() {
+        return antall;
+    }
+
+    /**
+     * Tømmer køen i O(1). Verdiene blir liggende i bufferen, men overskrives ved neste innsetting.
+     */
+    public void tøm() {
+        hode = 0;
+        antall = 0;
+    }
+
+    @Override
+    public String toString() {
+        StringJoiner joiner = new StringJoiner(", ", "IntDobbelKo[", "]");
+        for (int i = 0; i < antall; i++) {
+            joiner.add(String.valueOf(elementer[plass(i)]));
+        }
+        return joiner.toString();
+    }
+
+    public static void main(String[] args) {
+        IntDobbelko ko = new IntDobbelko(4);
+        for (int i = 0; i < 10; i++) {
+            if (i % 2 == 0) {
+                ko.leggTilForan(i);
+            } else {
+                ko.leggTilBak(i);
+            }
+        }
+        System.out.println(ko + ", størrelse: " + ko.storrelse());
+        System.out.println("Fjernet foran: " + ko.fjernForan() + ", fjernet bak: " + ko.fjernBak());
+        System.out.println("Foran: " + ko.seForan() + ", bak: " + ko.seBak());
+        ko.addAllBak(new int[]{100, 101, 102}, 0, 3);
+        ko.set(0, 99);
+        System.out.println(ko + ", get(3): " + ko.get(3));
+    }
+}
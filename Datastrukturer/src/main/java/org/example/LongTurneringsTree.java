@@ -0,0 +1,184 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Et turneringstre for {@code long}-verdier. Samme implisitte heap-layout som
+ * {@link ArrayTurneringsTree}, men verdiene ligger i en {@code long[]} og sammenlignes
+ * med vanlige operatorer, så ingen verdier bokses og ingen Comparator kalles.
+ * Den største verdien vinner.
+ */
+public class LongTurneringsTree {
+
+    private final long dummyParticipant; // Dummy-deltaker for å fylle treet.
+    private int size; // Antall elementer i turneringen.
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock(); // Lås for å kontrollere trådsikkerhet.
+    private final Lock readLock = lock.readLock(); // Lås for lesetilgang.
+    private final Lock writeLock = lock.writeLock(); // Lås for skrivetilgang.
+    private long[] tree; // Hele treet i heap-rekkefølge, indeks 0 brukes ikke.
+    private int capacity; // Antall blader (alltid en potens av 2).
+    private volatile long publishedWinner; // Roten ved siste fullførte endring, leses uten lås.
+
+    /**
+     * Konstruerer et turneringstre fra en array av verdier.
+     * @param elements Verdiene som skal delta i turneringen. Kan ikke være null.
+     * @param dummyParticipant Verdien som fyller tomme blader. Bør være mindre enn alle deltakere.
+     */
+    public LongTurneringsTree(long[] elements, long dummyParticipant) {
+        Objects.requireNonNull(elements, "Elementer kan ikke være null");
+        this.size = elements.length;
+        this.dummyParticipant = dummyParticipant;
+        buildTree(elements);
+    }
+
+    public LongTurneringsTree(long[] elements) {
+        this(elements, Long.MIN_VALUE);
+    }
+
+    private void buildTree(long[] elements) {
+        writeLock.lock();
+        try {
+            capacity = calculateNextPowerOfTwo(size);
+            tree = new long[2 * capacity];
+            System.arraycopy(elements, 0, tree, capacity, size);
+            Arrays.fill(tree, capacity + size, 2 * capacity, dummyParticipant);
+            for (int i = capacity - 1; i >= 1; i--) {
+                tree[i] = Math.max(tree[2 * i], tree[2 * i + 1]);
+            }
+        } finally {
+            publishedWinner = tree[1];
+            writeLock.unlock();
+        }
+    }
+
+    private int calculateNextPowerOfTwo(int n) {
+        int powerOfTwo = 1;
+        while (powerOfTwo < n) {
+            powerOfTwo *= 2;
+        }
+        return powerOfTwo;
+    }
+
+    /**
+     * Henter vinneren av turneringen uten lås, fra den sist publiserte roten.
+     *
+     * @return Den største verdien, eller dummy-verdien hvis treet er tomt.
+     */
+    public long getWinner() {
+        return publishedWinner;
+    }
+
+    /**
+     * Endrer verdien til en deltaker og spiller kampene på nytt opp til roten.
+     * @param index   Indeksen til deltakeren.
+     * @param newValue Den nye verdien til deltakeren.
+     * @throws IndexOutOfBoundsException hvis indeksen er ugyldig.
+     */
+    public void updateParticipant(int index, long newValue) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Ugyldig indeks: " + index);
+        }
+        writeLock.lock();
+        try {
+            int node = capacity + index;
+            tree[node] = newValue;
+            updateUpwards(node);
+        } finally {
+            publishedWinner = tree[1];
+            writeLock.unlock();
+        }
+    }
+
+    private void updateUpwards(int node) {
+        for (int parent = node >> 1; parent >= 1; parent >>= 1) {
+            tree[parent] = Math.max(tree[2 * parent], tree[2 * parent + 1]);
+        }
+    }
+
+    /**
+     * Setter inn en ny verdi på første ledige blad. Hvis treet er fullt dobles antall blader.
+     * @param newValue Den nye verdien som skal settes inn.
+     */
+    public void insertParticipant(long newValue) {
+        writeLock.lock();
+        try {
+            if (size == capacity) {
+                grow();
+            }
+            int node = capacity + size;
+            size++;
+            tree[node] = newValue;
+            updateUpwards(node);
+        } finally {
+            publishedWinner = tree[1];
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Dobler antall blader, se {@link ArrayTurneringsTree} for layouten.
+     */
+    private void grow() {
+        long[] newTree = new long[4 * capacity];
+        for (int levelStart = 1; levelStart <= capacity; levelStart <<= 1) {
+            System.arraycopy(tree, levelStart, newTree, 2 * levelStart, levelStart);
+            Arrays.fill(newTree, 3 * levelStart, 4 * levelStart, dummyParticipant);
+        }
+        capacity *= 2;
+        tree = newTree;
+        tree[1] = Math.max(tree[2], tree[3]);
+    }
+
+    /**
+     * Sletter en deltaker basert på indeks. Senere deltakere flyttes én plass frem.
+     * @param index Indeksen til deltakeren som skal slettes.
+     * @throws IndexOutOfBoundsException hvis indeksen er ugyldig.
+     */
+    public void deleteParticipant(int index) {
+        writeLock.lock();
+        try {
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Ugyldig indeks: " + index);
+            }
+            int first = capacity + index;
+            int last = capacity + size - 1;
+            System.arraycopy(tree, first + 1, tree, first, last - first);
+            tree[last] = dummyParticipant;
+            size--;
+            for (int lo = first >> 1, hi = last >> 1; lo >= 1; lo >>= 1, hi >>= 1) {
+                for (int parent = lo; parent <= hi; parent++) {
+                    tree[parent] = Math.max(tree[2 * parent], tree[2 * parent + 1]);
+                }
+            }
+        } finally {
+            publishedWinner = tree[1];
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Henter treets størrelse (antall faktiske deltakere).
+     *
+     * @return Antall deltakere.
+     */
+    public int getSize() {
+        readLock.lock();
+        try {
+            return size;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    public static void main(String[] args) {
+        LongTurneringsTree tree1 = new LongTurneringsTree(new long[]{5, 2, 8, 9, 4, 7, 3});
+        System.out.println("Vinner (Tree1): " + tree1.getWinner());
+        tree1.updateParticipant(3, 3);
+        System.out.println("Vinner (Tree1): " + tree1.getWinner());
+        tree1.insertParticipant(45);
+        System.out.println("Vinner (Tree1): " + tree1.getWinner());
+    }
+}
@@ -0,0 +1,383 @@
+package org.example;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Objects;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Et turneringstre for {@code long}-nøkler der hele treet ligger utenfor Java-heapen, enten i
+ * direkte minne eller i en minnemappet fil. Layouten er den samme som i {@link LongTurneringsTree}
+ * (heap-rekkefølge, roten på indeks 1, bladene på {@code [capacity, 2 * capacity)}), så treet
+ * består av noen få buffer-objekter uansett størrelse og gir ikke GC noe å traversere.
+ * <p>
+ * En enkelt {@link ByteBuffer} kan ikke være større enn 2 GiB, så treet deles opp i biter på
+ * 2^27 nøkler. Det gir plass til flere hundre millioner deltakere.
+ * <p>
+ * Et filbasert tre lagres med et lite hode (magisk tall, kapasitet, størrelse og dummy-verdi),
+ * og kan åpnes igjen med {@link #load(Path)} uten at treet bygges på nytt.
+ * Kapasiteten er fast etter at treet er laget. Den største verdien vinner.
+ */
+public class OffHeapLongTurneringsTree implements AutoCloseable {
+
+    private static final long MAGIC = 0x5475726E54726565L; // "TurnTree"
+    private static final int HEADER_BYTES = 64;
+    private static final int CHUNK_SHIFT = 27; // 2^27 nøkler = 1 GiB per bit
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+    private static final long CHUNK_MASK = CHUNK_SIZE - 1;
+    private static final long MAX_LEAVES = 1L << 58; // Så filstørrelsen i byte passer i en long.
+    private static final ByteOrder ORDER = ByteOrder.LITTLE_ENDIAN; // Fast rekkefølge, så filene er flyttbare.
+
+    private final long capacity; // Antall blader (alltid en potens av 2).
+    private final long dummyParticipant; // Dummy-deltaker for å fylle treet.
+    private long size; // Antall elementer i turneringen.
+    private ByteBuffer[] buffers; // Minnet bak bitene, direkte eller mappet fra fil.
+    private LongBuffer[] chunks; // Hele treet i heap-rekkefølge, indeks 0 brukes ikke.
+    private ByteBuffer header; // Hodet i filen, null for trær i direkte minne.
+    private FileChannel channel; // Kanalen til filen, null for trær i direkte minne.
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock(); // Lås for å kontrollere trådsikkerhet.
+    private final Lock readLock = lock.readLock(); // Lås for lesetilgang.
+    private final Lock writeLock = lock.writeLock(); // Lås for skrivetilgang.
+    private volatile long publishedWinner; // Roten ved siste fullførte endring, leses uten lås.
+    private volatile boolean closed;
+
+    private OffHeapLongTurneringsTree(long capacity, long size, long dummyParticipant,
+                                      ByteBuffer[] buffers, ByteBuffer header, FileChannel channel) {
+        this.capacity = capacity;
+        this.size = size;
+        this.dummyParticipant = dummyParticipant;
+        this.buffers = buffers;
+        this.chunks = new LongBuffer[buffers.length];
+        for (int c = 0; c < buffers.length; c++) {
+            chunks[c] = buffers[c].order(ORDER).asLongBuffer();
+        }
+        this.header = header;
+        this.channel = channel;
+    }
+
+    /**
+     * Lager et tre i direkte minne utenfor heapen.
+     * @param elements Nøklene som skal delta i turneringen.
+     * @param capacity Minste antall deltakere treet skal ha plass til. Rundes opp til en potens av 2.
+     * @param dummyParticipant Verdien som fyller tomme blader. Bør være mindre enn alle deltakere.
+     */
+    public static OffHeapLongTurneringsTree allocate(long[] elements, long capacity, long dummyParticipant) {
+        Objects.requireNonNull(elements, "Elementer kan ikke være null");
+        long leaves = calculateNextPowerOfTwo(Math.max(capacity, elements.length));
+        ByteBuffer[] buffers = new ByteBuffer[chunkCount(leaves)];
+        for (int c = 0; c < buffers.length; c++) {
+            buffers[c] = ByteBuffer.allocateDirect(chunkBytes(leaves, c));
+        }
+        OffHeapLongTurneringsTree tree =
+                new OffHeapLongTurneringsTree(leaves, elements.length, dummyParticipant, buffers, null, null);
+        tree.buildTree(elements);
+        return tree;
+    }
+
+    public static OffHeapLongTurneringsTree allocate(long[] elements) {
+        return allocate(elements, elements.length, Long.MIN_VALUE);
+    }
+
+    /**
+     * Lager et tre i en ny minnemappet fil. Endringer skrives til filen av operativsystemet,
+     * og {@link #force()} eller {@link #close()} sørger for at alt er lagret.
+     * @param file Filen treet skal lagres i. Overskrives hvis den finnes.
+     * @param elements Nøklene som skal delta i turneringen.
+     * @param capacity Minste antall deltakere treet skal ha plass til. Rundes opp til en potens av 2.
+     * @param dummyParticipant Verdien som fyller tomme blader. Bør være mindre enn alle deltakere.
+     * @throws UncheckedIOException hvis filen ikke kan lages.
+     */
+    public static OffHeapLongTurneringsTree create(Path file, long[] elements, long capacity, long dummyParticipant) {
+        Objects.requireNonNull(elements, "Elementer kan ikke være null");
+        long leaves = calculateNextPowerOfTwo(Math.max(capacity, elements.length));
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                    StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+            try {
+                MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+                header.order(ORDER);
+                header.putLong(0, MAGIC).putLong(8, leaves).putLong(16, elements.length).putLong(24, dummyParticipant);
+                OffHeapLongTurneringsTree tree = new OffHeapLongTurneringsTree(leaves, elements.length,
+                        dummyParticipant, mapChunks(channel, leaves), header, channel);
+                tree.buildTree(elements);
+                return tree;
+            } catch (IOException | RuntimeException | Error e) {
+                closeQuietly(channel, e);
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Kunne ikke lage turneringstre i " + file, e);
+        }
+    }
+
+    /**
+     * Åpner et tre som er lagret med {@link #create}, uten å bygge det på nytt.
+     * @param file Filen treet er lagret i.
+     * @throws UncheckedIOException hvis filen ikke kan leses.
+     * @throws IllegalArgumentException hvis filen ikke inneholder et turneringstre.
+     */
+    public static OffHeapLongTurneringsTree load(Path file) {
+        try {
+            FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE);
+            try {
+                if (channel.size() < HEADER_BYTES) {
+                    throw new IllegalArgumentException("Filen er for liten til å være et turneringstre: " + file);
+                }
+                MappedByteBuffer header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+                header.order(ORDER);
+                long leaves = header.getLong(8);
+                long size = header.getLong(16);
+                // Antall blader sjekkes før det brukes i regnestykker, så 2 * leaves ikke kan flyte over
+                if (header.getLong(0) != MAGIC || leaves <= 0 || leaves > MAX_LEAVES || Long.bitCount(leaves) != 1
+                        || size < 0 || size > leaves || channel.size() < HEADER_BYTES + 2 * leaves * Long.BYTES) {
+                    throw new IllegalArgumentException("Filen inneholder ikke et gyldig turneringstre: " + file);
+                }
+                OffHeapLongTurneringsTree tree = new OffHeapLongTurneringsTree(leaves, size,
+                        header.getLong(24), mapChunks(channel, leaves), header, channel);
+                tree.publishedWinner = tree.get(1);
+                return tree;
+            } catch (IOException | RuntimeException | Error e) {
+                closeQuietly(channel, e);
+                throw e;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Kunne ikke åpne turneringstre i " + file, e);
+        }
+    }
+
+    /**
+     * Lukker kanalen etter en feil. En feil fra {@code close} legges til den opprinnelige.
+     */
+    private static void closeQuietly(FileChannel channel, Throwable cause) {
+        try {
+            channel.close();
+        } catch (IOException e) {
+            cause.addSuppressed(e);
+        }
+    }
+
+    private static ByteBuffer[] mapChunks(FileChannel channel, long leaves) throws IOException {
+        ByteBuffer[] buffers = new ByteBuffer[chunkCount(leaves)];
+        for (int c = 0; c < buffers.length; c++) {
+            long offset = HEADER_BYTES + ((long) c << CHUNK_SHIFT) * Long.BYTES;
+            buffers[c] = channel.map(FileChannel.MapMode.READ_WRITE, offset, chunkBytes(leaves, c));
+        }
+        return buffers;
+    }
+
+    private static int chunkCount(long leaves) {
+        return (int) ((2 * leaves + CHUNK_SIZE - 1) >>> CHUNK_SHIFT);
+    }
+
+    private static int chunkBytes(long leaves, int chunk) {
+        long first = (long) chunk << CHUNK_SHIFT;
+        return (int) (Math.min(CHUNK_SIZE, 2 * leaves - first) * Long.BYTES);
+    }
+
+    private static long calculateNextPowerOfTwo(long n) {
+        long powerOfTwo = 1;
+        while (powerOfTwo < n) {
+            powerOfTwo *= 2;
+        }
+        return powerOfTwo;
+    }
+
+    private long get(long node) {
+        return chunks[(int) (node >>> CHUNK_SHIFT)].get((int) (node & CHUNK_MASK));
+    }
+
+    private void set(long node, long value) {
+        chunks[(int) (node >>> CHUNK_SHIFT)].put((int) (node & CHUNK_MASK), value);
+    }
+
+    private void buildTree(long[] elements) {
+        writeLock.lock();
+        try {
+            for (long i = 0; i < capacity; i++) {
+                set(capacity + i, i < elements.length ? elements[(int) i] : dummyParticipant);
+            }
+            for (long i = capacity - 1; i >= 1; i--) {
+                set(i, Math.max(get(2 * i), get(2 * i + 1)));
+            }
+        } finally {
+            publishedWinner = get(1);
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Henter vinneren av turneringen uten lås, fra den sist publiserte roten.
+     *
+     * @return Den største nøkkelen, eller dummy-verdien hvis treet er tomt.
+     * @throws IllegalStateException hvis treet er lukket.
+     */
+    public long getWinner() {
+        ensureOpen();
+        return publishedWinner;
+    }
+
+    /**
+     * Endrer nøkkelen til en deltaker og spiller kampene på nytt opp til roten.
+     * @param index   Indeksen til deltakeren.
+     * @param newValue Den nye nøkkelen til deltakeren.
+     * @throws IndexOutOfBoundsException hvis indeksen er ugyldig.
+     * @throws IllegalStateException hvis treet er lukket.
+     */
+    public void updateParticipant(long index, long newValue) {
+        writeLock.lock();
+        try {
+            ensureOpen();
+            if (index < 0 || index >= size) {
+                throw new IndexOutOfBoundsException("Ugyldig indeks: " + index);
+            }
+            long node = capacity + index;
+            set(node, newValue);
+            updateUpwards(node);
+        } finally {
+            publishWinnerIfOpen();
+            writeLock.unlock();
+        }
+    }
+
+    private void updateUpwards(long node) {
+        for (long parent = node >> 1; parent >= 1; parent >>= 1) {
+            set(parent, Math.max(get(2 * parent), get(2 * parent + 1)));
+        }
+    }
+
+    /**
+     * Setter inn en ny nøkkel på første ledige blad.
+     * @param newValue Den nye nøkkelen som skal settes inn.
+     * @return Indeksen til den nye deltakeren.
+     * @throws IllegalStateException hvis treet er fullt eller lukket.
+     */
+    public long insertParticipant(long newValue) {
+        writeLock.lock();
+        try {
+            ensureOpen();
+            if (size == capacity) {
+                throw new IllegalStateException("Turneringstreet er fullt (" + capacity + " deltakere).");
+            }
+            long node = capacity + size;
+            size++;
+            if (header != null) {
+                header.putLong(16, size);
+            }
+            set(node, newValue);
+            updateUpwards(node);
+            return size - 1;
+        } finally {
+            publishWinnerIfOpen();
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Henter treets størrelse (antall faktiske deltakere).
+     *
+     * @return Antall deltakere.
+     */
+    public long getSize() {
+        readLock.lock();
+        try {
+            return size;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Henter antall deltakere treet har plass til.
+     *
+     * @return Antall blader.
+     */
+    public long getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Skriver alle endringer i et filbasert tre til disk. Gjør ingenting for trær i direkte minne.
+     * @throws IllegalStateException hvis treet er lukket.
+     */
+    public void force() {
+        writeLock.lock();
+        try {
+            ensureOpen();
+            if (channel != null) {
+                ((MappedByteBuffer) header).force();
+                for (ByteBuffer buffer : buffers) {
+                    ((MappedByteBuffer) buffer).force();
+                }
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Lukker treet. Et filbasert tre skrives til disk og filen lukkes. Referansene til minnet
+     * slippes, så det kan frigjøres. Videre bruk av treet gir {@link IllegalStateException}.
+     */
+    @Override
+    public void close() {
+        writeLock.lock();
+        try {
+            if (closed) {
+                return;
+            }
+            if (channel != null) {
+                force();
+                channel.close();
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Kunne ikke lukke turneringstreet", e);
+        } finally {
+            closed = true;
+            buffers = null;
+            chunks = null;
+            header = null;
+            channel = null;
+            writeLock.unlock();
+        }
+    }
+
+    private void ensureOpen() {
+        if (closed) {
+            throw new IllegalStateException("Turneringstreet er lukket.");
+        }
+    }
+
+    private void publishWinnerIfOpen() {
+        if (!closed) {
+            publishedWinner = get(1);
+        }
+    }
+
+    public static void main(String[] args) throws IOException {
+        try (OffHeapLongTurneringsTree tree1 = allocate(new long[]{5, 2, 8, 9, 4, 7, 3})) {
+            System.out.println("Vinner (Tree1): " + tree1.getWinner());
+            tree1.updateParticipant(3, 3);
+            System.out.println("Vinner (Tree1): " + tree1.getWinner());
+            tree1.insertParticipant(45);
+            System.out.println("Vinner (Tree1): " + tree1.getWinner());
+        }
+
+        Path file = Files.createTempFile("turneringstre", ".bin");
+        try (OffHeapLongTurneringsTree tree2 = create(file, new long[]{5, 2, 8, 9}, 16, Long.MIN_VALUE)) {
+            tree2.insertParticipant(12);
+        }
+        try (OffHeapLongTurneringsTree tree2 = load(file)) {
+            System.out.println("Vinner (lastet fra fil): " + tree2.getWinner() + ", størrelse: " + tree2.getSize());
+        }
+        Files.delete(file);
+    }
+}
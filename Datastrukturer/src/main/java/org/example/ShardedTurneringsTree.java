@@ -0,0 +1,195 @@
+package org.example;
+
+import java.util.Comparator;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.BinaryOperator;
+
+/**
+ * Et turneringstre delt opp i P uavhengige deltrær (shards), hvert med sin egen lås, og et
+ * lite topptre over vinnerne fra hvert deltre.
+ * <p>
+ * Deltaker {@code i} ligger i deltre {@code i % P} på lokal indeks {@code i / P}, så deltakere
+ * som ligger ved siden av hverandre havner i forskjellige deltrær. En skriver konkurrerer dermed
+ * bare med andre skrivere i samme deltre, pluss en kort publisering i topptreet på log P nivåer.
+ * Vinneren leses uten lås, som i {@link TurneringsTree}.
+ *
+ * @param <T> Typen deltakere i turneringen.
+ */
+public class ShardedTurneringsTree<T> {
+
+    private final TurneringsTree<T>[] shards; // Deltrærne.
+    private final ReentrantLock[] shardLocks; // Én lås per deltre, holdes til vinneren er publisert.
+    private final int shardCount; // Antall deltrær (P).
+    private final BinaryOperator<T> winnerFunction; // Funksjon for å bestemme vinneren.
+    private final T[] top; // Topptreet i heap-rekkefølge, bladene er vinnerne fra hvert deltre.
+    private final int topCapacity; // Antall blader i topptreet (alltid en potens av 2).
+    private final ReentrantLock topLock = new ReentrantLock(); // Lås for topptreet.
+    private final AtomicInteger nextInsertShard = new AtomicInteger(); // Fordeler innsettinger på deltrærne.
+    private volatile T publishedWinner; // Roten i topptreet ved siste publisering, leses uten lås.
+
+    /**
+     * Konstruerer et oppdelt turneringstre.
+     * @param elements   Arrayet av elementer som skal delta i turneringen. Kan ikke være null.
+     * @param comparator Comparator for å sammenligne elementene. Hvis null, brukes naturlig
+     *                   rekkefølge.
+     * @param dummyParticipant Dummy-deltaker som fyller deltrærne, se {@link TurneringsTree}.
+     * @param shardCount Antall deltrær. Bør være minst like stort som antall skrivende tråder.
+     * @throws IllegalArgumentException hvis shardCount er mindre enn 1.
+     */
+    public ShardedTurneringsTree(T[] elements, Comparator<T> comparator, T dummyParticipant, int shardCount) {
+        Objects.requireNonNull(elements, "Elementer kan ikke være null");
+        if (shardCount < 1) {
+            throw new IllegalArgumentException("Antall deltrær må være minst 1: " + shardCount);
+        }
+        Comparator<T> order =
+                (comparator != null) ? comparator : ((o1, o2) -> ((Comparable<T>) o1).compareTo(o2));
+        this.winnerFunction =
+                (a, b) -> (a == null) ? b : ((b == null) ? a : (order.compare(a, b) >= 0 ? a : b));
+        this.shardCount = shardCount;
+        this.shards = new TurneringsTree[shardCount];
+        this.shardLocks = new ReentrantLock[shardCount];
+
+        int powerOfTwo = 1;
+        while (powerOfTwo < shardCount) {
+            powerOfTwo *= 2;
+        }
+        this.topCapacity = powerOfTwo;
+        this.top = (T[]) new Object[2 * topCapacity];
+
+        for (int s = 0; s < shardCount; s++) {
+            T[] shardElements = (T[]) new Object[(elements.length - s + shardCount - 1) / shardCount];
+            for (int local = 0; local < shardElements.length; local++) {
+                shardElements[local] = elements[local * shardCount + s];
+            }
+            shards[s] = new TurneringsTree<>(shardElements, order, dummyParticipant);
+            shardLocks[s] = new ReentrantLock();
+            top[topCapacity + s] = shards[s].getWinner();
+        }
+        for (int i = topCapacity - 1; i >= 1; i--) {
+            top[i] = winnerFunction.apply(top[2 * i], top[2 * i + 1]);
+        }
+        publishedWinner = top[1];
+    }
+
+    public ShardedTurneringsTree(T[] elements, int shardCount) {
+        this(elements, null, null, shardCount);
+    }
+
+    /**
+     * Henter vinneren av turneringen uten lås.
+     *
+     * @return Vinneren av turneringen, eller null hvis treet er tomt.
+     */
+    public T getWinner() {
+        return publishedWinner;
+    }
+
+    /**
+     * Endrer verdien til en deltaker. Bare låsen til deltreet deltakeren ligger i tas,
+     * pluss topplåsen mens vinneren til deltreet publiseres.
+     * @param index   Indeksen til deltakeren.
+     * @param newValue Den nye verdien til deltakeren.
+     * @throws IndexOutOfBoundsException hvis indeksen er ugyldig.
+     */
+    public void updateParticipant(int index, T newValue) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Ugyldig indeks: " + index);
+        }
+        int s = index % shardCount;
+        ReentrantLock shardLock = shardLocks[s];
+        shardLock.lock();
+        try {
+            shards[s].updateParticipant(index / shardCount, newValue);
+            publish(s);
+        } finally {
+            shardLock.unlock();
+        }
+    }
+
+    /**
+     * Setter inn en ny deltaker. Innsettingene fordeles på deltrærne etter tur.
+     * @param newValue Den nye verdien som skal settes inn.
+     * @return Indeksen til den nye deltakeren.
+     */
+    public int insertParticipant(T newValue) {
+        Objects.requireNonNull(newValue, "Ikke tillat med null verdier.");
+        int s = Math.floorMod(nextInsertShard.getAndIncrement(), shardCount);
+        ReentrantLock shardLock = shardLocks[s];
+        shardLock.lock();
+        try {
+            int local = shards[s].insertParticipant(newValue);
+            publish(s);
+            return local * shardCount + s;
+        } finally {
+            shardLock.unlock();
+        }
+    }
+
+    /**
+     * Sletter en deltaker. Indeksene til de andre deltakerne endres ikke.
+     * @param index Indeksen til deltakeren som skal slettes.
+     * @throws IndexOutOfBoundsException hvis indeksen er ugyldig.
+     */
+    public void deleteParticipant(int index) {
+        if (index < 0) {
+            throw new IndexOutOfBoundsException("Ugyldig indeks: " + index);
+        }
+        int s = index % shardCount;
+        ReentrantLock shardLock = shardLocks[s];
+        shardLock.lock();
+        try {
+            shards[s].deleteParticipant(index / shardCount);
+            publish(s);
+        } finally {
+            shardLock.unlock();
+        }
+    }
+
+    /**
+     * Skriver vinneren til deltre s inn i topptreet og spiller kampene over den på nytt.
+     * Kalles mens låsen til deltreet holdes, slik at publiseringene fra ett deltre
+     * kommer i samme rekkefølge som endringene.
+     */
+    private void publish(int s) {
+        T shardWinner = shards[s].getWinner();
+        topLock.lock();
+        try {
+            int node = topCapacity + s;
+            top[node] = shardWinner;
+            for (int parent = node >> 1; parent >= 1; parent >>= 1) {
+                top[parent] = winnerFunction.apply(top[2 * parent], top[2 * parent + 1]);
+            }
+            publishedWinner = top[1];
+        } finally {
+            topLock.unlock();
+        }
+    }
+
+    /**
+     * Henter antall deltakere. Summen leses uten felles lås, så den er bare eksakt når ingen
+     * skriver samtidig.
+     *
+     * @return Antall deltakere.
+     */
+    public int getSize() {
+        int size = 0;
+        for (TurneringsTree<T> shard : shards) {
+            size += shard.getSize();
+        }
+        return size;
+    }
+
+    public static void main(String[] args) {
+        Integer[] participants1 = {5, 2, 8, 9, 4, 7, 3};
+        ShardedTurneringsTree<Integer> tree1 = new ShardedTurneringsTree<>(participants1, 3);
+        System.out.println("Vinner (Tree1): " + tree1.getWinner());
+        tree1.updateParticipant(3, 3);
+        System.out.println("Vinner (Tree1): " + tree1.getWinner());
+        int handle = tree1.insertParticipant(45);
+        System.out.println("Vinner (Tree1): " + tree1.getWinner());
+        tree1.deleteParticipant(handle);
+        System.out.println("Vinner (Tree1): " + tree1.getWinner() + ", størrelse: " + tree1.getSize());
+    }
+}
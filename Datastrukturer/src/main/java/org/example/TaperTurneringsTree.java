@@ -0,0 +1,190 @@
+package org.example;
+
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+
+/**
+ * Et tapertre ("loser tree"): en variant av turneringstreet der hver intern node lagrer
+ * <em>taperen</em> av kampen sin, mens vinneren bæres videre oppover. Når vinneren byttes ut
+ * med en ny verdi trengs det da bare én sammenligning per nivå, mot taperen som allerede
+ * ligger i noden, og søskennoden trenger ikke leses.
+ * <p>
+ * Treet er laget for k-veis fletting av sorterte sekvenser, se {@link #merge}. Det lagrer
+ * bare indekser i de interne nodene, og {@link #replaceWinner} allokerer ingenting.
+ * En deltaker med verdien {@code null} er tom og taper mot alle andre.
+ * Klassen er ikke trådsikker.
+ *
+ * @param <T> Typen deltakere i turneringen.
+ */
+public class TaperTurneringsTree<T> {
+
+    private final Comparator<? super T> comparator; // Comparator for å sammenligne elementer.
+    private final T[] leaves; // Nåværende verdi for hver deltaker.
+    private final int capacity; // Antall blader (alltid en potens av 2).
+    /*
+     losers[i] er indeksen til deltakeren som tapte kampen i node i (heap-rekkefølge, 1 er roten).
+     losers[0] brukes til vinneren av hele turneringen.
+     */
+    private final int[] losers;
+
+    /**
+     * Konstruerer et tapertre. Den største verdien etter comparatoren vinner, og ved likhet
+     * vinner deltakeren med lavest indeks.
+     * @param elements   Startverdiene til deltakerne. {@code null} betyr at deltakeren er tom.
+     * @param comparator Comparator for å sammenligne elementene. Hvis null, brukes naturlig
+     *                   rekkefølge.
+     */
+    public TaperTurneringsTree(T[] elements, Comparator<? super T> comparator) {
+        Objects.requireNonNull(elements, "Elementer kan ikke være null");
+        this.comparator =
+                (comparator != null) ? comparator : ((o1, o2) -> ((Comparable<T>) o1).compareTo(o2));
+        int powerOfTwo = 1;
+        while (powerOfTwo < elements.length) {
+            powerOfTwo *= 2;
+        }
+        this.capacity = powerOfTwo;
+        this.leaves = (T[]) new Object[capacity];
+        System.arraycopy(elements, 0, leaves, 0, elements.length);
+        this.losers = new int[capacity];
+        buildTree();
+    }
+
+    public TaperTurneringsTree(T[] elements) {
+        this(elements, null);
+    }
+
+    /**
+     * Spiller alle kampene nedenfra og opp. Vinneren av hver kamp går videre til forelderen,
+     * mens taperen blir liggende i noden.
+     */
+    private void buildTree() {
+        int[] winners = new int[2 * capacity];
+        for (int i = 0; i < capacity; i++) {
+            winners[capacity + i] = i;
+        }
+        for (int node = capacity - 1; node >= 1; node--) {
+            int left = winners[2 * node];
+            int right = winners[2 * node + 1];
+            if (beats(left, right)) {
+                winners[node] = left;
+                losers[node] = right;
+            } else {
+                winners[node] = right;
+                losers[node] = left;
+            }
+        }
+        losers[0] = winners[1];
+    }
+
+    /**
+     * Avgjør om deltaker a vinner over deltaker b.
+     */
+    private boolean beats(int a, int b) {
+        T valueA = leaves[a];
+        T valueB = leaves[b];
+        if (valueA == null) {
+            return false;
+        }
+        if (valueB == null) {
+            return true;
+        }
+        int result = comparator.compare(valueA, valueB);
+        return result > 0 || (result == 0 && a < b);
+    }
+
+    /**
+     * Henter vinneren av turneringen.
+     *
+     * @return Vinnerens verdi, eller null hvis alle deltakerne er tomme.
+     */
+    public T getWinner() {
+        return leaves[losers[0]];
+    }
+
+    /**
+     * Henter indeksen til vinneren av turneringen.
+     *
+     * @return Indeksen til deltakeren som vinner nå.
+     */
+    public int getWinnerIndex() {
+        return losers[0];
+    }
+
+    /**
+     * Bytter ut vinnerens verdi og spiller vinnerens kamper på nytt fra bladet til roten,
+     * med én sammenligning per nivå.
+     * @param next Den nye verdien til vinneren, eller null hvis deltakeren er tom.
+     * @return Verdien vinneren hadde før byttet.
+     */
+    public T replaceWinner(T next) {
+        int winner = losers[0];
+        T previous = leaves[winner];
+        leaves[winner] = next;
+        for (int node = (capacity + winner) >> 1; node >= 1; node >>= 1) {
+            int loser = losers[node];
+            if (beats(loser, winner)) {
+                losers[node] = winner;
+                winner = loser;
+            }
+        }
+        losers[0] = winner;
+        return previous;
+    }
+
+    /**
+     * Fletter sorterte sekvenser til én sortert sekvens. Hver sekvens må være sortert
+     * stigende etter {@code order}, og ved like verdier kommer verdien fra den tidligste
+     * sekvensen først. Elementene hentes fra sekvensene etter hvert som resultatet leses,
+     * og flettingen allokerer ingenting per element. Sekvensene kan ikke inneholde null.
+     * @param order Rekkefølgen sekvensene er sortert i.
+     * @param runs  De sorterte sekvensene.
+     * @return En iterator over alle elementene i sortert rekkefølge.
+     */
+    @SafeVarargs
+    public static <T> Iterator<T> merge(Comparator<? super T> order, Iterator<T>... runs) {
+        Objects.requireNonNull(order, "Comparator kan ikke være null");
+        T[] heads = (T[]) new Object[runs.length];
+        for (int i = 0; i < runs.length; i++) {
+            heads[i] = runs[i].hasNext() ? runs[i].next() : null;
+        }
+        // Den minste verdien skal vinne, så comparatoren snus
+        TaperTurneringsTree<T> tree = new TaperTurneringsTree<>(heads, (a, b) -> order.compare(b, a));
+
+        return new Iterator<>() {
+            @Override
+            public boolean hasNext() {
+                return tree.getWinner() != null;
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException("Ingen flere elementer.");
+                }
+                Iterator<T> run = runs[tree.getWinnerIndex()];
+                return tree.replaceWinner(run.hasNext() ? run.next() : null);
+            }
+        };
+    }
+
+    public static void main(String[] args) {
+        Integer[] participants1 = {5, 2, 8, 9, 4, 7, 3};
+        TaperTurneringsTree<Integer> tree1 = new TaperTurneringsTree<>(participants1);
+        System.out.println("Vinner (Tree1): " + tree1.getWinner());
+        tree1.replaceWinner(1);
+        System.out.println("Vinner (Tree1): " + tree1.getWinner());
+
+        Iterator<Integer> merged = merge(Comparator.naturalOrder(),
+                java.util.List.of(1, 4, 9).iterator(),
+                java.util.List.of(2, 3, 10, 11).iterator(),
+                java.util.List.<Integer>of().iterator(),
+                java.util.List.of(0, 4, 5).iterator());
+        StringBuilder sb = new StringBuilder("Flettet: ");
+        while (merged.hasNext()) {
+            sb.append(merged.next()).append(' ');
+        }
+        System.out.println(sb);
+    }
+}
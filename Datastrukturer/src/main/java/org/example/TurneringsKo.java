@@ -0,0 +1,204 @@
+package org.example;
+
+import java.util.AbstractQueue;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Objects;
+import java.util.function.Predicate;
+
+/**
+ * En indeksert prioritetskø bygget på {@link TurneringsTree}. Køen oppfører seg som
+ * {@link java.util.PriorityQueue}: det minste elementet etter comparatoren ligger først.
+ * <p>
+ * I tillegg får hvert element et håndtak (indeks) når det settes inn med {@link #insert}.
+ * Håndtaket er gyldig til elementet fjernes, og kan brukes til å endre prioriteten med
+ * {@link #changeKey} eller fjerne elementet med {@link #remove(int)}. Alle operasjonene er
+ * O(log n) uten å lete gjennom køen, i motsetning til {@code PriorityQueue.remove(Object)}.
+ * Hver operasjon er én atomisk operasjon på treet, så køen kan deles mellom tråder.
+ *
+ * @param <T> Typen elementer i køen.
+ */
+public class TurneringsKo<T> extends AbstractQueue<T> {
+
+    private final TurneringsTree<T> tree; // Treet der det minste elementet vinner.
+
+    /**
+     * Lager en tom kø.
+     * @param comparator Rekkefølgen elementene skal tas ut i. Hvis null, brukes naturlig rekkefølge.
+     */
+    public TurneringsKo(Comparator<? super T> comparator) {
+        Comparator<? super T> order =
+                (comparator != null) ? comparator : ((o1, o2) -> ((Comparable<T>) o1).compareTo(o2));
+        // Turneringstreet lar den største vinne, så comparatoren snus
+        this.tree = new TurneringsTree<>((T[]) new Object[0], (a, b) -> order.compare(b, a), null);
+    }
+
+    public TurneringsKo() {
+        this(null);
+    }
+
+    /**
+     * Legger til et element og returnerer håndtaket til det.
+     * @param element Elementet som skal legges til.
+     * @return Håndtaket til elementet.
+     * @throws NullPointerException hvis elementet er null.
+     */
+    public int insert(T element) {
+        return tree.insertParticipant(element);
+    }
+
+    @Override
+    public boolean offer(T element) {
+        insert(element);
+        return true;
+    }
+
+    @Override
+    public T poll() {
+        return tree.removeWinner();
+    }
+
+    @Override
+    public T peek() {
+        return tree.getWinner();
+    }
+
+    /**
+     * Henter elementet med det gitte håndtaket.
+     * @param handle Håndtaket fra {@link #insert}.
+     * @return Elementet.
+     * @throws IndexOutOfBoundsException hvis håndtaket er ugyldig.
+     */
+    public T get(int handle) {
+        return tree.getParticipant(handle);
+    }
+
+    /**
+     * Bytter ut elementet med det gitte håndtaket, f.eks. med en lavere avstand i Dijkstra.
+     * Håndtaket er det samme etterpå.
+     * @param handle Håndtaket fra {@link #insert}.
+     * @param element Det nye elementet.
+     * @throws IndexOutOfBoundsException hvis håndtaket er ugyldig.
+     * @throws NullPointerException hvis elementet er null.
+     */
+    public void changeKey(int handle, T element) {
+        Objects.requireNonNull(element, "Elementet kan ikke være null.");
+        tree.updateParticipant(handle, element);
+    }
+
+    /**
+     * Fjerner elementet med det gitte håndtaket. Merk at for en {@code TurneringsKo<Integer>}
+     * velger {@code remove(5)} denne metoden, og ikke {@link #remove(Object)}.
+     * @param handle Håndtaket fra {@link #insert}.
+     * @return Elementet som ble fjernet.
+     * @throws IndexOutOfBoundsException hvis håndtaket er ugyldig.
+     */
+    public T remove(int handle) {
+        // Lesing og sletting må skje under samme lås, ellers kan håndtaket gjenbrukes imellom
+        return tree.deleteParticipant(handle);
+    }
+
+    /**
+     * Fjerner ett element som er lik {@code o}, som {@code PriorityQueue.remove(Object)}.
+     * Letingen og slettingen skjer i én operasjon på treet, i O(n).
+     */
+    @Override
+    public boolean remove(Object o) {
+        return o != null && tree.deleteFirst(o::equals);
+    }
+
+    @Override
+    public boolean removeIf(Predicate<? super T> filter) {
+        return tree.deleteIf(filter) > 0;
+    }
+
+    @Override
+    public boolean removeAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(c::contains);
+    }
+
+    @Override
+    public boolean retainAll(Collection<?> c) {
+        Objects.requireNonNull(c);
+        return removeIf(element -> !c.contains(element));
+    }
+
+    @Override
+    public boolean contains(Object o) {
+        return o != null && tree.anyMatch(o::equals);
+    }
+
+    @Override
+    public int size() {
+        return tree.getSize();
+    }
+
+    /**
+     * Itererer over et øyeblikksbilde av køen i O(n), i ingen bestemt rekkefølge, som
+     * {@code PriorityQueue}. {@code remove} på iteratoren fjerner elementet fra køen hvis det
+     * fortsatt ligger der. Bruk {@link #sortedIterator()} for poll-rekkefølge.
+     */
+    @Override
+    public Iterator<T> iterator() {
+        List<Map.Entry<Integer, T>> entries = tree.entries();
+        return new Iterator<>() {
+            private int next;
+            private Map.Entry<Integer, T> last;
+
+            @Override
+            public boolean hasNext() {
+                return next < entries.size();
+            }
+
+            @Override
+            public T next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                last = entries.get(next++);
+                return last.getValue();
+            }
+
+            @Override
+            public void remove() {
+                if (last == null) {
+                    throw new IllegalStateException();
+                }
+                tree.deleteParticipant(last.getKey(), last.getValue());
+                last = null;
+            }
+        };
+    }
+
+    /**
+     * Itererer over et øyeblikksbilde av køen, i samme rekkefølge som {@link #poll()} ville gitt,
+     * i O(n log n). Iteratoren støtter ikke {@code remove}.
+     */
+    public Iterator<T> sortedIterator() {
+        return tree.sortedIterator();
+    }
+
+    public static void main(String[] args) {
+        TurneringsKo<Integer> ko = new TurneringsKo<>();
+        int a = ko.insert(50);
+        int b = ko.insert(20);
+        ko.offer(40);
+        ko.offer(30);
+        System.out.println("Kø: " + ko + ", først: " + ko.peek());
+        ko.changeKey(a, 10);
+        System.out.println("Etter changeKey: " + ko + ", først: " + ko.peek());
+        System.out.println("Fjernet med håndtak: " + ko.remove(b));
+        ko.remove((Object) 30);
+        System.out.println("Etter remove(30): " + ko + ", inneholder 40: " + ko.contains(40));
+        StringBuilder sb = new StringBuilder("Poll: ");
+        while (!ko.isEmpty()) {
+            sb.append(ko.poll()).append(' ');
+        }
+        System.out.println(sb);
+    }
+}
@@ -0,0 +1,176 @@
+package org.example;
+
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Målinger for et {@link TurneringsTree}: antall sammenligninger, ventetid på skrivelåsen og
+ * hvor mange nivåer hver endring gikk oppover i treet. Kobles til med
+ * {@link TurneringsTree#setMetrics(TurneringsMetrikker)}. Uten målinger koster hver
+ * skriveoperasjon bare én ekstra lesing av et felt.
+ * <p>
+ * Hver målte operasjon sendes også som en JFR-hendelse ({@code org.example.TurneringsTree}) når
+ * den er slått på i et opptak, f.eks. med {@code -XX:StartFlightRecording}.
+ * Alle tellerne er trådsikre, og {@link #snapshot()} kan kalles når som helst.
+ */
+public final class TurneringsMetrikker {
+
+    /**
+     * Skriveoperasjonene som måles.
+     */
+    public enum Operasjon {
+        UPDATE, BATCH_UPDATE, INSERT, DELETE, REMOVE_WINNER
+    }
+
+    private static final int MAX_HEIGHT = 64; // Høyder over dette telles i siste bøtte.
+
+    private final LongAdder comparisons = new LongAdder();
+    private final LongAdder[] operations = new LongAdder[Operasjon.values().length];
+    private final LongAdder lockWaitNanos = new LongAdder();
+    private final AtomicLong maxLockWaitNanos = new AtomicLong();
+    private final AtomicLongArray heightHistogram = new AtomicLongArray(MAX_HEIGHT + 1);
+
+    public TurneringsMetrikker() {
+        for (int i = 0; i < operations.length; i++) {
+            operations[i] = new LongAdder();
+        }
+    }
+
+    /**
+     * Pakker inn en comparator slik at hvert kall telles.
+     */
+    <T> Comparator<T> counting(Comparator<T> comparator) {
+        return (a, b) -> {
+            comparisons.increment();
+            return comparator.compare(a, b);
+        };
+    }
+
+    /**
+     * Totalt antall sammenligninger så langt. Brukes for å finne antallet i én operasjon.
+     */
+    long comparisonCount() {
+        return comparisons.sum();
+    }
+
+    /**
+     * Registrerer en fullført skriveoperasjon.
+     * @param operation Operasjonen.
+     * @param lockWait  Hvor lenge tråden ventet på skrivelåsen, i nanosekunder.
+     * @param operationComparisons Antall sammenligninger operasjonen gjorde.
+     * @param height Antall nivåer endringen gikk oppover i treet.
+     */
+    void record(Operasjon operation, long lockWait, long operationComparisons, int height) {
+        operations[operation.ordinal()].increment();
+        lockWaitNanos.add(lockWait);
+        maxLockWaitNanos.accumulateAndGet(lockWait, Math::max);
+        heightHistogram.incrementAndGet(Math.min(height, MAX_HEIGHT));
+
+        TurneringsTreeEvent event = new TurneringsTreeEvent();
+        if (event.isEnabled()) {
+            event.operation = operation.name();
+            event.comparisons = operationComparisons;
+            event.lockWait = lockWait;
+            event.height = height;
+            event.commit();
+        }
+    }
+
+    /**
+     * Lager et øyeblikksbilde av målingene så langt.
+     *
+     * @return Et uforanderlig øyeblikksbilde.
+     */
+    public Snapshot snapshot() {
+        long[] operationCounts = new long[operations.length];
+        for (int i = 0; i < operations.length; i++) {
+            operationCounts[i] = operations[i].sum();
+        }
+        long[] heights = new long[heightHistogram.length()];
+        for (int i = 0; i < heights.length; i++) {
+            heights[i] = heightHistogram.get(i);
+        }
+        return new Snapshot(comparisons.sum(), operationCounts, lockWaitNanos.sum(), maxLockWaitNanos.get(), heights);
+    }
+
+    /**
+     * Øyeblikksbilde av målingene.
+     *
+     * @param comparisons Totalt antall sammenligninger, også fra lesere som {@code topK}.
+     * @param operations Antall operasjoner, indeksert med {@link Operasjon#ordinal()}.
+     * @param lockWaitNanos Samlet ventetid på skrivelåsen.
+     * @param maxLockWaitNanos Lengste enkeltventetid på skrivelåsen.
+     * @param heightHistogram Antall operasjoner per høyde nådd oppover i treet.
+     */
+    public record Snapshot(long comparisons, long[] operations, long lockWaitNanos, long maxLockWaitNanos,
+                           long[] heightHistogram) {
+
+        // Arrayene kopieres inn og ut, så ingen kan endre øyeblikksbildet etterpå
+        public Snapshot {
+            operations = operations.clone();
+            heightHistogram = heightHistogram.clone();
+        }
+
+        /**
+         * @return En kopi av antall operasjoner, indeksert med {@link Operasjon#ordinal()}.
+         */
+        @Override
+        public long[] operations() {
+            return operations.clone();
+        }
+
+        /**
+         * @return En kopi av antall operasjoner per høyde.
+         */
+        @Override
+        public long[] heightHistogram() {
+            return heightHistogram.clone();
+        }
+
+        public long operations(Operasjon operation) {
+            return operations[operation.ordinal()];
+        }
+
+        public long totalOperations() {
+            return Arrays.stream(operations).sum();
+        }
+
+        public double comparisonsPerOperation() {
+            long total = totalOperations();
+            return total == 0 ? 0 : (double) comparisons / total;
+        }
+
+        public double averageLockWaitNanos() {
+            long total = totalOperations();
+            return total == 0 ? 0 : (double) lockWaitNanos / total;
+        }
+
+        /**
+         * Den største høyden en operasjon har nådd, eller 0 uten operasjoner.
+         */
+        public int maxHeight() {
+            for (int h = heightHistogram.length - 1; h > 0; h--) {
+                if (heightHistogram[h] > 0) {
+                    return h;
+                }
+            }
+            return 0;
+        }
+
+        @Override
+        public String toString() {
+            StringBuilder sb = new StringBuilder("TurneringsMetrikker{");
+            for (Operasjon operation : Operasjon.values()) {
+                sb.append(operation).append('=').append(operations(operation)).append(", ");
+            }
+            sb.append("sammenligninger/op=").append(String.format("%.2f", comparisonsPerOperation()))
+                    .append(", snittventetid=").append(String.format("%.0f", averageLockWaitNanos())).append(" ns")
+                    .append(", maks ventetid=").append(maxLockWaitNanos).append(" ns")
+                    .append(", maks høyde=").append(maxHeight()).append('}');
+            return sb.toString();
+        }
+    }
+}
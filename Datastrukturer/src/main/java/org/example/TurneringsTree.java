@@ -1,12 +1,23 @@
 package org.example;
 
+import java.util.AbstractMap;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.PriorityQueue;
 import java.util.concurrent.locks.Lock;
 import java.util.concurrent.locks.ReadWriteLock;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.function.BinaryOperator;
+import java.util.function.IntConsumer;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
 
 public class TurneringsTree<T> {
 
@@ -15,22 +26,43 @@ public class TurneringsTree<T> {
         Node<T> left;
         Node<T> right;
         Node<T> parent;
+        boolean dirty; // Brukes av updateParticipants for å spille hver kamp bare én gang.
+        int slot = -1; // Indeksen til deltakeren i bladet, eller til vinneren i deltreet. -1 hvis det ikke er noen deltaker.
 
         Node(T value) {
             this.value = value;
         }
+
+        Node(T value, int slot) {
+            this.value = value;
+            this.slot = slot;
+        }
     }
 
+    // Nivåer med minst så mange noder bygges i parallell.
+    private static final int PARALLEL_BUILD_THRESHOLD = 1 << 14;
+
     private final Comparator<T> comparator; // Comparator for å sammenligne elementer.
+    private Comparator<T> activeComparator; // comparator, eller en tellende versjon når målinger er på.
+    private volatile TurneringsMetrikker metrics; // Målinger, null når de er slått av.
     private final T dummyParticipant; // Dummy-deltaker for å fylle treet.
     private final BinaryOperator<T> winnerFunction; // Funksjon for å bestemme vinneren.
     private int size; // Antall elementer i turneringen.
+    private int usedSlots; // Antall indekser som er delt ut, inkludert slettede.
+    private final BitSet freed = new BitSet(); // Indekser som er slettet og ikke gjenbrukt ennå.
+    private int[] freeSlots = new int[4]; // Stakk med slettede indekser som kan gjenbrukes.
+    private int freeCount; // Antall indekser på freeSlots-stakken.
     private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock(); // Lås for å kontrollere trådsikkerhet.
     private final Lock readLock = lock.readLock(); // Lås for lesetilgang.
     private final Lock writeLock = lock.writeLock(); // Lås for skrivetilgang.
     private Node<T> root; // Rotnoden i turneringstreet.
-    private Node<T>[] leaves; // Array av bladnodene i treet.
-    private volatile boolean constructionComplete = false; // Flag for å indikere at trekonstruksjonen er fullført.
+    private Node<T>[] leaves; // Array av bladnodene i treet. Deltakerne ligger alltid på [0, size).
+    private Node<T>[] leafByIndex; // Bladet hver deltaker ligger i, med deltakerens indeks som nøkkel.
+    /*
+     Vinneren publiseres her etter hver fullførte skriveoperasjon, mens skrivelåsen fortsatt holdes.
+     Lesere henter vinneren herfra uten lås, og ser derfor aldri et halvveis oppdatert tre.
+     */
+    private volatile T publishedWinner;
 
 /**
  * Konstruerer et Turneringstre fra en array av elementer med en gitt Comparator.
@@ -38,7 +70,8 @@ public class TurneringsTree<T> {
  * @param comparator Comparator for å sammenligne elementene. Hvis null, brukes naturlig
  *                   rekkefølge.
  * @param dummyParticipant En "dummy"-deltaker som fyller treet hvis antall deltakere ikke er
- * en potens av 2. Bør "tape" mot alle andre elementer. Kan være null
+ * en potens av 2. Dummy-bladene har indeks -1 og taper alltid mot ekte deltakere, uansett
+ * comparator, så verdien kan gjerne være lik en ekte deltaker. Kan være null
  * hvis antall deltakere alltid vil være en potens av 2 og hvis`elements` ikke inneholder null-elementer.
  * @throws NullPointerException hvis elementer er null og ingen comparator er gitt.
  */
@@ -46,8 +79,10 @@ public class TurneringsTree<T> {
     public TurneringsTree(T[] elements, Comparator<T> comparator, T dummyParticipant) {
         Objects.requireNonNull(elements, "Elementer kan ikke være null");
         this.size = elements.length;
+        this.usedSlots = elements.length;
         this.comparator =
                 (comparator != null) ? comparator : ((o1, o2) -> ((Comparable<T>) o1).compareTo(o2));
+        this.activeComparator = this.comparator;
 
         if (Arrays.stream(elements).anyMatch(Objects::isNull) && dummyParticipant == null) {
             throw new IllegalArgumentException(
@@ -57,11 +92,10 @@ public class TurneringsTree<T> {
         this.dummyParticipant = dummyParticipant;
 
         this.winnerFunction =
-                (a, b) -> (a == null) ? b : ((b == null) ? a : (this.comparator.compare(a, b) >= 0 ? a : b));
+                (a, b) -> (a == null) ? b : ((b == null) ? a : (this.activeComparator.compare(a, b) >= 0 ? a : b));
 
 
         buildTree(elements);
-        constructionComplete = true; // Sett til true etter at treet er bygget
     }
 
     public TurneringsTree(T[] elements) {
@@ -75,48 +109,76 @@ public class TurneringsTree<T> {
             int numberOfLeaves = calculateNextPowerOfTwo(size);
 
             //  Lager en array som skal holde på alle bladnodene i treet (nederste nivå).
-            leaves = new Node[numberOfLeaves];
-            for (int i = 0; i < size; i++) {
-                leaves[i] = new Node<>(elements[i]);
-            }
-            // Fyll ut resten av bladnodene med dummy-deltakere
-            for (int i = size; i < numberOfLeaves; i++) {
-                leaves[i] = new Node<>(dummyParticipant);
-            }
+            //  Resten av bladnodene fylles ut med dummy-deltakere.
+            Node<T>[] leafLevel = new Node[numberOfLeaves];
+            forEachIndex(numberOfLeaves, i -> leafLevel[i] = (i < size)
+                    ? new Node<>(elements[i], i)
+                    : new Node<>(dummyParticipant, -1));
+            leaves = leafLevel;
+            leafByIndex = Arrays.copyOf(leafLevel, Math.max(size, 4));
+            Arrays.fill(leafByIndex, size, leafByIndex.length, null);
 
             // Bygg treet fra bunnen opp
-            Node<T>[] currentLevel = leaves; // starter først med nederste nivået
-
-            // Fortsetter så lenge vi ikke er kommet opp til roten
-            while (currentLevel.length > 1) {
-                // neste nivå skal inneholde halvparten så mange noder
-                Node<T>[] nextLevel = new Node[(currentLevel.length + 1) / 2];
-                // går gjennom nodene to og to
-                for (int i = 0; i < currentLevel.length; i += 2) {
-                    Node<T> left = currentLevel[i]; //  hent venstre noden på indeksen vi jobber over
-                    Node<T> right = (i + 1 < currentLevel.length) ? currentLevel[i + 1] : null; // hent høyre noden til indeksen vi  jobber over
-
-                    Node<T> parentNode = new Node<>(null); // Verdi beregnes nedenfor
-
-                    parentNode.left = left;
-                    left.parent = parentNode; //Sett parent
-                    if (right != null) {
-                        parentNode.right = right;
-                        right.parent = parentNode; //Sett parent
-                    }
-
-                    parentNode.value = winnerFunction.apply(left.value, (right != null ? right.value : null)); //Bruk winnerFunction istedenfor å sammenligne nodene direkte
-                    nextLevel[i / 2] = parentNode; // Legger foreldre-noden inn i neste nivå.
-                }
-                currentLevel = nextLevel;
-            }
-
-            root = currentLevel[0]; // Den siste noden er roten
+            root = buildLevels(leaves);
         } finally {
+            publishWinner();
             writeLock.unlock();
         }
     }
 
+    /**
+     * Bygger et deltre over de gitte bladene, ett nivå om gangen, og returnerer roten.
+     */
+    private Node<T> buildLevels(Node<T>[] bottomLevel) {
+        Node<T>[] currentLevel = bottomLevel; // starter først med nederste nivået
+
+        // Fortsetter så lenge vi ikke er kommet opp til roten
+        while (currentLevel.length > 1) {
+            // neste nivå skal inneholde halvparten så mange noder
+            Node<T>[] lowerLevel = currentLevel;
+            Node<T>[] nextLevel = new Node[(currentLevel.length + 1) / 2];
+            // kampene på samme nivå er uavhengige av hverandre, og kan spilles i parallell
+            forEachIndex(nextLevel.length, i -> nextLevel[i] = playMatch(lowerLevel, 2 * i));
+            currentLevel = nextLevel;
+        }
+        return currentLevel[0]; // Den siste noden er roten
+    }
+
+    /**
+     * Lager foreldrenoden til nodene på indeks i og i+1 på et nivå, og lar dem konkurrere.
+     */
+    private Node<T> playMatch(Node<T>[] level, int i) {
+        Node<T> left = level[i]; //  hent venstre noden på indeksen vi jobber over
+        Node<T> right = (i + 1 < level.length) ? level[i + 1] : null; // hent høyre noden til indeksen vi  jobber over
+
+        Node<T> parentNode = new Node<>(null); // Verdi beregnes nedenfor
+
+        parentNode.left = left;
+        left.parent = parentNode; //Sett parent
+        if (right != null) {
+            parentNode.right = right;
+            right.parent = parentNode; //Sett parent
+        }
+
+        replay(parentNode);
+        return parentNode;
+    }
+
+    /**
+     * Kjører action for hver indeks i [0, count). Store nivåer fordeles på fork/join-poolen som
+     * kaller metoden (eller common pool), små nivåer kjøres på denne tråden. Hver indeks skriver
+     * bare til sin egen plass, så resultatet blir det samme som ved sekvensiell bygging.
+     */
+    private static void forEachIndex(int count, IntConsumer action) {
+        if (count >= PARALLEL_BUILD_THRESHOLD) {
+            IntStream.range(0, count).parallel().forEach(action);
+        } else {
+            for (int i = 0; i < count; i++) {
+                action.accept(i);
+            }
+        }
+    }
+
     /**
      Denne sjekker om treet har 2 barn hver, fordi turneringstreet er enklest å
      implementere og balansere når antall blader er en potens av 2.
@@ -133,30 +195,194 @@ public class TurneringsTree<T> {
     }
 
     /**
-     * Henter vinneren av turneringen. Ytelsesoptimalisert ved å unngå readLock etter konstruksjon.
+     * Henter vinneren av turneringen. Låsfri: leser den sist publiserte vinneren, slik at
+     * lesere aldri blokkeres av skrivere og aldri ser et tre som er midt i en endring.
      *
      * @return Vinneren av turneringen (rotnoden), eller null hvis treet er tomt.
      */
     public T getWinner() {
-        /*
-         Hvis konstruksjonen av treet ikke er ferdig, så må vi være forsiktige
-         før vi leser data. Det er nødvendig å bruke readLock for å sikre
-         trådsikkerhet – altså at ingen leser treet mens en annen tråd fortsatt bygger det.
-         Det sikrer at vi ikke leser vinneren mens treet
-         fortsatt bygges, som kunne gitt feil eller ustabilt resultat.
-         */
-        if (!constructionComplete) {
-            // sikre korrektlesing før konstruksjon er ferdig
-            readLock.lock();
-            try {
-                return (root != null) ? root.value : null;
-            } finally {
-                readLock.unlock();
+        return publishedWinner;
+    }
+
+    /**
+     * Publiserer verdien i roten som ny vinner. Må kalles mens skrivelåsen holdes,
+     * etter at en endring av treet er fullført.
+     */
+    private void publishWinner() {
+        publishedWinner = (root != null && root.slot >= 0) ? root.value : null;
+    }
+
+    /**
+     * Henter indeksen til vinneren ved å følge vinnerens vei fra roten ned til bladet, i O(log n).
+     *
+     * @return Indeksen til vinneren, eller -1 hvis treet ikke har noen deltakere.
+     */
+    public int getWinnerIndex() {
+        readLock.lock();
+        try {
+            Node<T> leaf = winnerLeaf();
+            return (leaf != null) ? leaf.slot : -1;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Henter verdien til en deltaker.
+     * @param index Indeksen til deltakeren.
+     * @return Deltakerens verdi.
+     * @throws IndexOutOfBoundsException hvis indeksen er ugyldig.
+     */
+    public T getParticipant(int index) {
+        readLock.lock();
+        try {
+            checkIndex(index);
+            return leafByIndex[index].value;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Fjerner vinneren fra turneringen og returnerer den, i én operasjon under skrivelåsen.
+     *
+     * @return Vinneren, eller null hvis treet ikke har noen deltakere.
+     */
+    public T removeWinner() {
+        long lockWait = lockForWrite();
+        long comparisonsBefore = comparisonsBefore();
+        int height = 0;
+        try {
+            Node<T> leaf = winnerLeaf();
+            if (leaf == null) {
+                return null;
             }
+            T winner = leaf.value;
+            height = deleteSlot(leaf.slot);
+            return winner;
+        } finally {
+            publishWinner();
+            recordOperation(TurneringsMetrikker.Operasjon.REMOVE_WINNER, lockWait, comparisonsBefore, height);
+            writeLock.unlock();
         }
-        // Når konstruksjonen er ferdig, trenger vi ikke lenger bruke lås –
-        // det er trygt å lese rett fra roten uten å blokkere.
-        return (root != null) ? root.value : null;
+    }
+
+    /**
+     * Finner bladet til vinneren ut fra indeksen i roten. Må kalles mens en av låsene holdes.
+     */
+    private Node<T> winnerLeaf() {
+        return (root != null && root.slot >= 0) ? leafByIndex[root.slot] : null;
+    }
+
+    /**
+     * Henter nest beste deltaker. Bare motstanderne vinneren har møtt på veien fra bladet
+     * sitt til roten kan være nummer to, så det holder å se på de log n motstanderne.
+     *
+     * @return Nest beste deltaker, eller null hvis turneringen har færre enn to deltakere.
+     */
+    public T getRunnerUp() {
+        readLock.lock();
+        try {
+            if (root == null || root.slot < 0) {
+                return null;
+            }
+            T runnerUp = null;
+            Node<T> current = root;
+            while (current.left != null || current.right != null) {
+                Node<T> winnerChild = winnerChild(current);
+                Node<T> opponent = (winnerChild == current.left) ? current.right : current.left;
+                if (opponent != null && opponent.slot >= 0) {
+                    runnerUp = winnerFunction.apply(runnerUp, opponent.value);
+                }
+                current = winnerChild;
+            }
+            return runnerUp;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Henter de k beste deltakerne i vinnerrekkefølge, i O(k log n) kamper.
+     * <p>
+     * Hver node holder den beste verdien i sitt deltre. Kandidatene er deltrær som ennå ikke er
+     * tatt ut. Når den beste kandidaten tas ut, følges vinnerens vei ned til bladet, og
+     * motstanderne langs veien blir nye kandidater. Dermed ses bare på log n nye noder per deltaker.
+     *
+     * @param k Maks antall deltakere som skal hentes.
+     * @return En iterator over de (opptil) k beste deltakerne, den beste først.
+     * @throws IllegalArgumentException hvis k er negativ.
+     */
+    public Iterator<T> topK(int k) {
+        if (k < 0) {
+            throw new IllegalArgumentException("k kan ikke være negativ: " + k);
+        }
+        readLock.lock();
+        try {
+            List<T> result = new ArrayList<>(Math.min(k, size));
+            PriorityQueue<Node<T>> candidates =
+                    new PriorityQueue<>((a, b) -> activeComparator.compare(b.value, a.value));
+            if (root != null && root.slot >= 0) {
+                candidates.add(root);
+            }
+            while (result.size() < k && !candidates.isEmpty()) {
+                Node<T> best = candidates.poll();
+                result.add(best.value);
+                // Gå ned vinnerens vei og legg motstanderne til som kandidater
+                Node<T> current = best;
+                while (current.left != null || current.right != null) {
+                    Node<T> winnerChild = winnerChild(current);
+                    Node<T> opponent = (winnerChild == current.left) ? current.right : current.left;
+                    if (opponent != null && opponent.slot >= 0) {
+                        candidates.add(opponent);
+                    }
+                    current = winnerChild;
+                }
+            }
+            return Collections.unmodifiableList(result).iterator();
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Turneringssortering: alle deltakerne i vinnerrekkefølge, i O(n log n).
+     *
+     * @return En iterator over alle deltakerne, den beste først.
+     */
+    public Iterator<T> sortedIterator() {
+        return topK(getSize());
+    }
+
+    /**
+     * Finner barnet som vant kampen i noden, altså barnet med samme vinnerindeks som noden.
+     * Indeksene er unike, så i motsetning til verdiene kan de ikke forveksles. Noden må ha en
+     * ekte deltaker som vinner.
+     */
+    private Node<T> winnerChild(Node<T> node) {
+        return (node.left != null && node.left.slot == node.slot) ? node.left : node.right;
+    }
+
+    /**
+     * Spiller kampen mellom barna til noden og lar noden arve verdien og indeksen til vinneren.
+     * Et deltre uten deltakere (indeks -1) taper alltid, og ellers avgjør comparatoren, der
+     * null-verdier taper og venstre vinner ved likhet, som i {@code winnerFunction}.
+     */
+    private void replay(Node<T> node) {
+        Node<T> left = node.left;
+        Node<T> right = node.right;
+        Node<T> winner;
+        if (right == null || right.slot < 0) {
+            winner = left;
+        } else if (left.slot < 0 || left.value == null) {
+            winner = right;
+        } else if (right.value == null) {
+            winner = left;
+        } else {
+            winner = (activeComparator.compare(left.value, right.value) >= 0) ? left : right;
+        }
+        node.value = winner.value;
+        node.slot = winner.slot;
     }
 
     /**
@@ -167,193 +393,480 @@ public class TurneringsTree<T> {
      * @throws IndexOutOfBoundsException hvis indeksen er ugyldig.
      */
     public void updateParticipant(int index, T newValue) {
-        if (index < 0 || index >= size) {
+        long lockWait = lockForWrite();
+        long comparisonsBefore = comparisonsBefore();
+        int height = 0;
+        try {
+            checkIndex(index);
+            Node<T> leafNode = leafByIndex[index];
+            leafNode.value = newValue; // oppdaterer verdien i bladet
+            height = updateUpwards(leafNode);
+        } finally {
+            publishWinner();
+            recordOperation(TurneringsMetrikker.Operasjon.UPDATE, lockWait, comparisonsBefore, height);
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Sjekker at indeksen peker på en deltaker som finnes. Indeksen til en slettet deltaker er
+     * ugyldig helt til plassen gjenbrukes av {@link #insertParticipant}.
+     * @throws IndexOutOfBoundsException hvis indeksen er ugyldig.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= usedSlots || freed.get(index)) {
             throw new IndexOutOfBoundsException("Ugyldig indeks: " + index);
         }
-        writeLock.lock();
+    }
+
+    /**
+     * Endrer verdien til flere deltakere i én operasjon. Alle bladene settes først, og deretter
+     * spilles bare de berørte kampene på nytt, ett nivå om gangen nedenfra og opp. Felles
+     * forfedre beregnes dermed én gang per batch i stedet for én gang per deltaker, og
+     * skrivelåsen tas bare én gang.
+     * @param indices Indeksene til deltakerne som skal endres.
+     * @param newValues De nye verdiene, i samme rekkefølge som indeksene.
+     * @throws IllegalArgumentException hvis arrayene har ulik lengde.
+     * @throws IndexOutOfBoundsException hvis en indeks er ugyldig. Ingen deltakere endres da.
+     */
+    public void updateParticipants(int[] indices, T[] newValues) {
+        Objects.requireNonNull(indices, "Indekser kan ikke være null");
+        Objects.requireNonNull(newValues, "Verdier kan ikke være null");
+        if (indices.length != newValues.length) {
+            throw new IllegalArgumentException(
+                    "Antall indekser (" + indices.length + ") og verdier (" + newValues.length + ") er ulikt.");
+        }
+        long lockWait = lockForWrite();
+        long comparisonsBefore = comparisonsBefore();
+        int height = 0;
         try {
-            Node<T> leafNode = leaves[index];
-            leafNode.value = newValue; // oppdaterer verdien i bladet
-            updateUpwards(leafNode);
+            for (int index : indices) {
+                checkIndex(index);
+            }
+            List<Node<T>> dirtyNodes = new ArrayList<>();
+            for (int i = 0; i < indices.length; i++) {
+                Node<T> leafNode = leafByIndex[indices[i]];
+                leafNode.value = newValues[i];
+                markParentDirty(leafNode, dirtyNodes);
+            }
+            height = updateDirtyUpwards(dirtyNodes);
         } finally {
+            publishWinner();
+            recordOperation(TurneringsMetrikker.Operasjon.BATCH_UPDATE, lockWait, comparisonsBefore, height);
             writeLock.unlock();
         }
     }
 
+    /**
+     * Endrer verdien til flere deltakere i én operasjon, se {@link #updateParticipants(int[], Object[])}.
+     * @param newValues De nye verdiene, med deltakerens indeks som nøkkel.
+     * @throws IndexOutOfBoundsException hvis en indeks er ugyldig. Ingen deltakere endres da.
+     */
+    public void updateParticipants(Map<Integer, T> newValues) {
+        Objects.requireNonNull(newValues, "Verdier kan ikke være null");
+        int[] indices = new int[newValues.size()];
+        T[] values = (T[]) new Object[newValues.size()];
+        int i = 0;
+        for (Map.Entry<Integer, T> entry : newValues.entrySet()) {
+            indices[i] = entry.getKey();
+            values[i] = entry.getValue();
+            i++;
+        }
+        updateParticipants(indices, values);
+    }
+
+    /**
+     * Legger forelderen til noden i listen over kamper som må spilles på nytt,
+     * med mindre den allerede ligger der.
+     */
+    private void markParentDirty(Node<T> node, List<Node<T>> dirtyNodes) {
+        Node<T> parent = node.parent;
+        if (parent != null && !parent.dirty) {
+            parent.dirty = true;
+            dirtyNodes.add(parent);
+        }
+    }
+
+    /**
+     * Spiller de markerte kampene på nytt, ett nivå om gangen. Hver runde beregner vinnerne
+     * for nodene i listen og samler foreldrene deres til neste runde.
+     * @return Antall runder (nivåer) som ble spilt.
+     */
+    private int updateDirtyUpwards(List<Node<T>> dirtyNodes) {
+        List<Node<T>> currentLevel = dirtyNodes;
+        int levels = 0;
+        while (!currentLevel.isEmpty()) {
+            levels++;
+            List<Node<T>> nextLevel = new ArrayList<>((currentLevel.size() + 1) / 2);
+            for (Node<T> node : currentLevel) {
+                node.dirty = false;
+                replay(node);
+                markParentDirty(node, nextLevel);
+            }
+            currentLevel = nextLevel;
+        }
+        return levels;
+    }
+
     /**
      * Oppdaterer verdiene i foreldrenodene oppover i treet,
      * fra den gitte noden og helt opp til roten.
-     * Metoden bruker winnerFunction til å beregne vinneren mellom venstre og høyre barn.
+     * Metoden bruker {@link #replay} til å beregne vinneren mellom venstre og høyre barn.
      * Merk: Den jobber **fra bladet og opp mot roten**, ikke fra roten og nedover.
+     * @return Antall nivåer som ble oppdatert.
      */
-    private void updateUpwards(Node<T> node) {
+    private int updateUpwards(Node<T> node) {
         Node<T> current = node;
+        int levels = 0;
         while (current.parent != null) {
+            levels++;
             Node<T> parent = current.parent;
-            T leftValue = (parent.left != null) ? parent.left.value : null;
-            T rightValue = (parent.right != null) ? parent.right.value : null;
-            // beregner den nye wineneren etter endring av bladnone
-            parent.value = winnerFunction.apply(leftValue, rightValue); // bruker funksjonen jeg lagde
+            // beregner den nye vinneren etter endring av bladnoden
+            replay(parent);
             current = parent;
         }
+        return levels;
     }
 
     /**
-     * Setter inn en ny verdi i turneringstreet og konkurrerer den oppover. Denne metoden
-     * legger til den nye verdien på slutten av eksisterende deltakere.
+     * Setter inn en ny verdi i turneringstreet og konkurrerer den oppover, i O(log n). Verdien
+     * legges i neste ledige blad i det komplette binærtreet, og er alle bladene brukt dobles
+     * treet med {@link #grow()}. Hvis en deltaker er slettet tidligere, gjenbrukes indeksen dens.
      * @param newValue Den nye verdien som skal settes inn.
+     * @return Indeksen til den nye deltakeren. Den er gyldig helt til deltakeren slettes.
      */
-    public void insertParticipant(T newValue) {
+    public int insertParticipant(T newValue) {
         Objects.requireNonNull(newValue, "Ikke tillat med null verdier.");
-        writeLock.lock();
+        long lockWait = lockForWrite();
+        long comparisonsBefore = comparisonsBefore();
+        int height = 0;
         try {
-            // 1. Oppdater størrelsen, en ekstra deltaker i turneringen
-            size++;
-            // 2. Oppretter en ny bladnode som representerer deltakeren
-            Node<T> newLeaf = new Node<>(newValue);
-            // 3. Utvid blad-array (om nødvendig)
-            int numberOfLEaves = calculateNextPowerOfTwo(size);
-            if (numberOfLEaves > leaves.length) {
-                // Må utvide arrayet
-                leaves = Arrays.copyOf(leaves, numberOfLEaves);
-                // Fyll ut ekstra blad med dummyParticipants.
-                for (int i = size; i < numberOfLEaves; i++) {
-                    if (i >= size) {
-                        leaves[i] = new Node<>(dummyParticipant);
-                    }
+            int slot;
+            if (freeCount > 0) {
+                // Gjenbruk indeksen til en slettet deltaker
+                slot = freeSlots[--freeCount];
+                freed.clear(slot);
+            } else {
+                slot = usedSlots++;
+                if (slot == leafByIndex.length) {
+                    leafByIndex = Arrays.copyOf(leafByIndex, 2 * leafByIndex.length);
                 }
             }
-            // 4. Sett inn ny bladnode
-            leaves[size - 1] = newLeaf;
-            // 5. Koble til treet
-            if (root == null) {
-                // Spesialtilfelle: Treet er tomt
-                root = newLeaf;
-                return;
+            // Ta neste blad som fortsatt holder en dummy-deltaker
+            if (size == leaves.length) {
+                grow();
             }
-            // Finn riktig plassering for den nye noden
-            Node<T> current = root;
-            int level = 0;
-        /*  Vi traverserer nedover i treet for å finne en plass til den nye noden.
-              Eksempel: Når "Anna" blir med i turneringen, må vi finne ut hvem hun
-              skal møte først, og hvor i turneringstreet hennes kamp skal plasseres.  */
-            while (current.left != null || current.right != null) {
-                /*Vi bruker modulus-sjekken size % (2 << level) == 0 som en pekepinn
-                på at vi har fylt venstre greiner opp til et visst nivå, og at det
-                nå er klart for å legge til høyre gren. */
-                if (size % (2 << level) == 0) { // 2 << level er det samme som 2^(level + 1)
-                    // Ny node skal være høyre barn
-                    if (current.right == null) {
-                        break; //Exit hvis vi finner en node som ikke har to barn ennå
-                    }
-                    current = current.right;
-                } else {
-                    // Ny node skal være venstre barn
-                    if(current.left == null){
-                        break; //Exit hvis vi finner en node som ikke har to barn ennå
+            Node<T> leafNode = leaves[size++];
+            leafNode.value = newValue;
+            leafNode.slot = slot;
+            leafByIndex[slot] = leafNode;
+            height = updateUpwards(leafNode);
+            return slot;
+        } finally {
+            publishWinner();
+            recordOperation(TurneringsMetrikker.Operasjon.INSERT, lockWait, comparisonsBefore, height);
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Dobler antall blader. Et nytt deltre med like mange dummy-blader bygges ved siden av det
+     * gamle treet, og begge kobles under en ny rot. Treet forblir komplett, så høyden er alltid
+     * log2 av antall blader. Amortisert koster dette O(1) per innsetting.
+     */
+    private void grow() {
+        int oldCount = leaves.length;
+        Node<T>[] newLeaves = new Node[oldCount];
+        forEachIndex(oldCount, i -> newLeaves[i] = new Node<>(dummyParticipant, -1));
+        leaves = Arrays.copyOf(leaves, 2 * oldCount);
+        System.arraycopy(newLeaves, 0, leaves, oldCount, oldCount);
+
+        Node<T> newRoot = new Node<>(null);
+        newRoot.left = root;
+        root.parent = newRoot;
+        newRoot.right = buildLevels(newLeaves);
+        newRoot.right.parent = newRoot;
+        replay(newRoot);
+        root = newRoot;
+    }
+
+    /**
+     * Halverer antall blader. Kalles bare når alle deltakerne ligger i venstre halvdel, slik at
+     * venstre deltre kan bli ny rot og høyre deltre (bare dummy-blader) kastes.
+     */
+    private void shrink() {
+        root = root.left;
+        root.parent = null;
+        leaves = Arrays.copyOf(leaves, leaves.length / 2);
+    }
+
+    /**
+     * Sletter en deltaker fra turneringstreet basert på indeks, i O(log n).
+     * Den siste deltakeren flyttes inn i bladet som blir ledig, så deltakerne ligger tett og
+     * treet er komplett. Indeksen gjenbrukes av neste {@link #insertParticipant}, og
+     * indeksene til de andre deltakerne endres ikke.
+     * <p>
+     * Når bare en fjerdedel av bladene er i bruk, halveres treet med {@link #shrink()}. Sammen med
+     * doblingen i {@link #grow()} holder det høyden på høyst ceil(log2 n) + 1 uansett rekkefølgen
+     * på innsettinger og slettinger, og treet veksler ikke frem og tilbake på en grense.
+     * @param index Indeksen til deltakeren som skal slettes.
+     * @return Verdien til deltakeren som ble slettet, lest under samme skrivelås som slettingen.
+     * @throws IndexOutOfBoundsException hvis indeksen er ugyldig.
+     */
+    public T deleteParticipant(int index) {
+        long lockWait = lockForWrite();
+        long comparisonsBefore = comparisonsBefore();
+        int height = 0;
+        try {
+            checkIndex(index);
+            T value = leafByIndex[index].value;
+            height = deleteSlot(index);
+            return value;
+        } finally {
+            publishWinner();
+            recordOperation(TurneringsMetrikker.Operasjon.DELETE, lockWait, comparisonsBefore, height);
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Sletter en deltaker hvis den fortsatt har den gitte indeksen og er det samme objektet
+     * som {@code expected}. Brukes når indeksen kommer fra et øyeblikksbilde, der deltakeren
+     * kan være slettet og indeksen gjenbrukt siden.
+     * @param index Indeksen til deltakeren.
+     * @param expected Deltakeren som skal slettes.
+     * @return true hvis deltakeren ble slettet.
+     */
+    public boolean deleteParticipant(int index, T expected) {
+        long lockWait = lockForWrite();
+        long comparisonsBefore = comparisonsBefore();
+        int height = 0;
+        try {
+            if (index < 0 || index >= usedSlots || freed.get(index) || leafByIndex[index].value != expected) {
+                return false;
+            }
+            height = deleteSlot(index);
+            return true;
+        } finally {
+            publishWinner();
+            recordOperation(TurneringsMetrikker.Operasjon.DELETE, lockWait, comparisonsBefore, height);
+            writeLock.unlock();
+        }
+    }
+
+    /**
+     * Sletter alle deltakerne som oppfyller betingelsen, i én operasjon under skrivelåsen.
+     * Går gjennom bladene én gang og sletter hver treff i O(log n).
+     * @param filter Betingelsen.
+     * @return Antall deltakere som ble slettet.
+     */
+    public int deleteIf(Predicate<? super T> filter) {
+        return deleteMatching(filter, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Sletter den første deltakeren (i bladrekkefølge) som oppfyller betingelsen.
+     * @param filter Betingelsen.
+     * @return true hvis en deltaker ble slettet.
+     */
+    public boolean deleteFirst(Predicate<? super T> filter) {
+        return deleteMatching(filter, 1) > 0;
+    }
+
+    private int deleteMatching(Predicate<? super T> filter, int limit) {
+        Objects.requireNonNull(filter, "Betingelsen kan ikke være null");
+        long lockWait = lockForWrite();
+        long comparisonsBefore = comparisonsBefore();
+        int height = 0;
+        try {
+            // Indeksene samles først, siden slettingen flytter deltakere mellom bladene
+            int[] matches = new int[Math.min(size, 16)];
+            int count = 0;
+            for (int i = 0; i < size && count < limit; i++) {
+                if (filter.test(leaves[i].value)) {
+                    if (count == matches.length) {
+                        matches = Arrays.copyOf(matches, 2 * matches.length);
                     }
-                    current = current.left;
+                    matches[count++] = leaves[i].slot;
                 }
-                level++;
             }
-            // current har blitt navigert til en node som ikke har 2 barn enda
-            // opprett ny foreldrenode, fordi når nodene skal konkurrere skrives vinnerverdien til newParent
-            Node<T> newParent = new Node<>(null);
-            // Koble den nye bladnoden og den eksisterende noden til den nye foreldrenoden
-            // Partall: Den nye noden skal til høyre.
-            // Oddetall: Den nye noden skal til venstre.
-            if (size % 2 == 0) {
-                // Ny node er høyre barn
-                newParent.left = current;
-                newParent.right = newLeaf;
-            } else {
-                // Ny node er venstre barn
-                newParent.left = newLeaf;
-                newParent.right = current;
+            for (int i = 0; i < count; i++) {
+                height = Math.max(height, deleteSlot(matches[i]));
             }
+            return count;
+        } finally {
+            publishWinner();
+            recordOperation(TurneringsMetrikker.Operasjon.DELETE, lockWait, comparisonsBefore, height);
+            writeLock.unlock();
+        }
+    }
 
-            /*
-            Her konkurerer de og vinner verdien skrives til newparent.
-             */
-            newParent.value = winnerFunction.apply(newParent.left.value, newParent.right.value);
-            // Koble den nye foreldrenoden til treet
-            if (current == root) {
-                // Den eksisterende noden var roten
-                root = newParent;
-            } else {
-                // Koble den nye foreldrenoden til besteforeldren
-                if (current.parent.left == current) {
-                    current.parent.left = newParent;
-                } else {
-                    current.parent.right = newParent;
+    /**
+     * Sjekker om en deltaker oppfyller betingelsen, ved å gå gjennom bladene i O(n).
+     */
+    public boolean anyMatch(Predicate<? super T> filter) {
+        Objects.requireNonNull(filter, "Betingelsen kan ikke være null");
+        readLock.lock();
+        try {
+            for (int i = 0; i < size; i++) {
+                if (filter.test(leaves[i].value)) {
+                    return true;
                 }
             }
-            newParent.parent = current.parent; // Sett forelder
-            // alle noder må vite hvem som er forelderen deres, spesielt for å kunne gå oppover senere
-            current.parent = newParent; // Sett parent
-            newLeaf.parent = newParent;
-            // 6. Konkurer oppover
-            updateUpwards(newLeaf);
+            return false;
         } finally {
-            writeLock.unlock();
+            readLock.unlock();
         }
     }
 
     /**
-     * Sletter en deltaker fra turneringstreet basert på indeks.
-     * @param index Indeksen til deltakeren som skal slettes.
-     * @throws IndexOutOfBoundsException hvis indeksen er ugyldig.
+     * Et øyeblikksbilde av deltakerne og indeksene deres i bladrekkefølge, i O(n).
+     * @return Indeks og verdi for hver deltaker.
      */
-    public void deleteParticipant(int index) {
-        writeLock.lock();
+    List<Map.Entry<Integer, T>> entries() {
+        readLock.lock();
         try {
-            if (index < 0 || index >= size) {
-                throw new IndexOutOfBoundsException("Ugyldig indeks: " + index);
-            }
-            // 1. Finn bladnode som skal slettes
-            Node<T> nodeToDelete = leaves[index];
-            // 2. Håndter spesialtilfeller (rotnode, tomt tre)
-            if (nodeToDelete == root) {
-                root = null;
-                size = 0;
-                leaves = new Node[leaves.length]; // lag et nytt tomt leaves array
-                return;
+            List<Map.Entry<Integer, T>> entries = new ArrayList<>(size);
+            for (int i = 0; i < size; i++) {
+                entries.add(new AbstractMap.SimpleImmutableEntry<>(leaves[i].slot, leaves[i].value));
             }
-            // 3. Finn foreldrenode
-            Node<T> parent = nodeToDelete.parent;
-            // 4. Finn søsken
-            Node<T> sibling = (parent.left == nodeToDelete) ? parent.right : parent.left;
-            // 5. Koble besteforelder til søsken
-            if (parent == root) {
-                // Hvis foreldren er roten, blir søsken den nye roten
-                root = sibling;
-                sibling.parent = null; // Fjern forelder
-            } else {
-                // Koble besteforelder til søsken
-                Node<T> grandParent = parent.parent;
-                if (grandParent.left == parent) {
-                    grandParent.left = sibling;
-                } else {
-                    grandParent.right = sibling;
+            return entries;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Måler høyden ved å følge foreldrepekerne fra hvert blad opp til roten, i O(n log n), i
+     * stedet for å regne den ut fra antall blader som {@link #getHeight()}. Brukes av testene.
+     * @return Det største antallet kamper fra et blad opp til roten.
+     * @throws IllegalStateException hvis et blad ikke henger sammen med roten.
+     */
+    int measureHeight() {
+        readLock.lock();
+        try {
+            int height = 0;
+            for (Node<T> leaf : leaves) {
+                int depth = 0;
+                Node<T> node = leaf;
+                while (node.parent != null) {
+                    node = node.parent;
+                    depth++;
                 }
-                sibling.parent = grandParent;
-            }
-            // 6. Oppdater treet oppover
-            updateUpwards(sibling);
-            // 7. Oppdater størrelse
-            size--;
-            // 8. Oppdater leaves array (valgfritt: kan fylle hullet med null eller flytte elementer)
-            leaves[index] = null; // Logisk sletting: Sett elementet til null
-            // Fysisk sletting:  Flytt de resterende elementene.
-            for (int i = index; i < size; i++) {
-                leaves[i] = leaves[i + 1];
+                if (node != root) {
+                    throw new IllegalStateException("Et blad henger ikke sammen med roten");
+                }
+                height = Math.max(height, depth);
             }
-            leaves[size] = null; // Sett den siste til null
+            return height;
+        } finally {
+            readLock.unlock();
+        }
+    }
+
+    /**
+     * Sletter deltakeren på en gyldig plass. Må kalles mens skrivelåsen holdes.
+     * @return Antall nivåer som ble oppdatert.
+     */
+    private int deleteSlot(int index) {
+        // 1. Flytt den siste deltakeren inn i bladet som blir ledig
+        Node<T> nodeToDelete = leafByIndex[index];
+        Node<T> last = leaves[size - 1];
+        if (nodeToDelete != last) {
+            nodeToDelete.value = last.value;
+            nodeToDelete.slot = last.slot;
+            leafByIndex[last.slot] = nodeToDelete;
+            updateUpwards(nodeToDelete);
+        }
+        // 2. Erstatt det siste bladet med en taper og spill kampene oppover på nytt
+        last.value = dummyParticipant;
+        last.slot = -1;
+        int height = updateUpwards(last);
+        size--;
+        // 3. Legg indeksen på stakken over ledige indekser
+        leafByIndex[index] = null;
+        if (freeCount == freeSlots.length) {
+            freeSlots = Arrays.copyOf(freeSlots, 2 * freeSlots.length);
+        }
+        freeSlots[freeCount++] = index;
+        freed.set(index);
+        if (leaves.length > 1 && size <= leaves.length / 4) {
+            shrink();
+        }
+        return height;
+    }
+
+    /**
+     * Slår på målinger for treet, eller av med null. Sammenligninger, ventetid på skrivelåsen og
+     * høyden hver endring når, registreres i metrics fra og med neste operasjon.
+     * @param metrics Målingene som skal oppdateres, eller null for å slå av.
+     */
+    public void setMetrics(TurneringsMetrikker metrics) {
+        writeLock.lock();
+        try {
+            this.metrics = metrics;
+            this.activeComparator = (metrics != null) ? metrics.counting(comparator) : comparator;
         } finally {
             writeLock.unlock();
         }
     }
 
+    /**
+     * Henter målingene som er koblet til treet.
+     *
+     * @return Målingene, eller null hvis de er slått av.
+     */
+    public TurneringsMetrikker getMetrics() {
+        return metrics;
+    }
+
+    /**
+     * Tar skrivelåsen. Med målinger på returneres hvor lenge tråden ventet, ellers 0.
+     */
+    private long lockForWrite() {
+        if (metrics == null) {
+            writeLock.lock();
+            return 0;
+        }
+        long start = System.nanoTime();
+        writeLock.lock();
+        return System.nanoTime() - start;
+    }
+
+    /**
+     * Antall sammenligninger så langt, slik at en operasjon kan finne sitt eget antall. 0 uten målinger.
+     */
+    private long comparisonsBefore() {
+        TurneringsMetrikker current = metrics;
+        return (current != null) ? current.comparisonCount() : 0;
+    }
+
+    /**
+     * Registrerer en fullført skriveoperasjon hvis målinger er på. Må kalles mens skrivelåsen holdes.
+     */
+    private void recordOperation(TurneringsMetrikker.Operasjon operation, long lockWait,
+                                 long comparisonsBefore, int height) {
+        TurneringsMetrikker current = metrics;
+        if (current != null) {
+            current.record(operation, lockWait, current.comparisonCount() - comparisonsBefore, height);
+        }
+    }
+
+
+    /**
+     * Henter høyden til treet, altså antall kamper fra et blad opp til roten. Treet er alltid
+     * komplett, så høyden er log2 av antall blader og høyst ceil(log2 n) + 1 for n deltakere.
+     *
+     * @return Høyden til treet.
+     */
+    public int getHeight() {
+        readLock.lock();
+        try {
+            return Integer.numberOfTrailingZeros(leaves.length);
+        } finally {
+            readLock.unlock();
+        }
+    }
 
     /**
      * Henter treets størrelse (antall faktiske deltakere).
@@ -389,11 +902,27 @@ public class TurneringsTree<T> {
     public static void main(String[] args) {
         Integer[] participants1 = {5, 2, 8, 9, 4, 7, 3};
         TurneringsTree<Integer> tree1 = new TurneringsTree<>(participants1);
+        TurneringsMetrikker metrics = new TurneringsMetrikker();
+        tree1.setMetrics(metrics);
         tree1.printTree();
         System.out.println("Vinner (Tree1): " + tree1.getWinner());
         tree1.updateParticipant(3, 3);
         System.out.println("Vinner (Tree1): " + tree1.getWinner());
         tree1.insertParticipant(45);
         System.out.println("Vinner (Tree1): " + tree1.getWinner());
+        tree1.updateParticipants(new int[]{0, 7, 2}, new Integer[]{50, 1, 60});
+        System.out.println("Vinner (Tree1): " + tree1.getWinner());
+        tree1.deleteParticipant(2);
+        System.out.println("Vinner (Tree1): " + tree1.getWinner() + ", størrelse: " + tree1.getSize());
+        int handle = tree1.insertParticipant(70);
+        System.out.println("Vinner (Tree1): " + tree1.getWinner() + " på indeks " + handle);
+        System.out.println("Nest best (Tree1): " + tree1.getRunnerUp());
+        Iterator<Integer> sorted = tree1.sortedIterator();
+        StringBuilder sb = new StringBuilder("Sortert (Tree1): ");
+        while (sorted.hasNext()) {
+            sb.append(sorted.next()).append(' ');
+        }
+        System.out.println(sb);
+        System.out.println(metrics.snapshot());
     }
 }
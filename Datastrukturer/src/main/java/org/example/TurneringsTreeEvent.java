@@ -0,0 +1,31 @@
+package org.example;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.Timespan;
+
+/**
+ * JFR-hendelse for én skriveoperasjon på et {@link TurneringsTree} med målinger slått på.
+ */
+@Name("org.example.TurneringsTree")
+@Label("Turneringstre-operasjon")
+@Category("Datastrukturer")
+@Description("Én skriveoperasjon på et turneringstre")
+class TurneringsTreeEvent extends jdk.jfr.Event {
+
+    @Label("Operasjon")
+    String operation;
+
+    @Label("Sammenligninger")
+    long comparisons;
+
+    @Label("Ventetid på lås")
+    @Timespan(Timespan.NANOSECONDS)
+    long lockWait;
+
+    @Label("Høyde")
+    @Description("Antall nivåer endringen gikk oppover i treet")
+    int height;
+}
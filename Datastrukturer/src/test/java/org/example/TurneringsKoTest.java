@@ -0,0 +1,64 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TurneringsKoTest {
+
+    /**
+     * Metodene {@code AbstractQueue} arver fra {@code AbstractCollection}, fjerner via iteratoren,
+     * så de skal virke på køen og ikke kaste {@code UnsupportedOperationException}.
+     */
+    @Test
+    void fjerningViaCollectionMetodene() {
+        TurneringsKo<Integer> ko = new TurneringsKo<>();
+        ko.addAll(List.of(5, 1, 4, 2, 3, 2));
+
+        assertTrue(ko.remove((Object) 2));
+        assertFalse(ko.remove((Object) 9));
+        assertEquals(5, ko.size());
+        assertTrue(ko.contains(2));
+
+        assertTrue(ko.removeIf(verdi -> verdi > 4));
+        assertTrue(ko.removeAll(List.of(2)));
+        assertFalse(ko.contains(2));
+        assertTrue(ko.retainAll(List.of(1, 3)));
+        assertEquals(List.of(1, 3), liste(ko.sortedIterator()));
+
+        Iterator<Integer> iterator = ko.iterator();
+        assertThrows(IllegalStateException.class, iterator::remove);
+        iterator.next();
+        iterator.remove();
+        assertEquals(1, ko.size());
+    }
+
+    /**
+     * {@code remove} på iteratoren skal ikke fjerne et nytt element som har fått samme håndtak
+     * etter at øyeblikksbildet ble tatt.
+     */
+    @Test
+    void iteratorFjernerIkkeGjenbruktHandtak() {
+        TurneringsKo<Integer> ko = new TurneringsKo<>();
+        int handle = ko.insert(7);
+        Iterator<Integer> iterator = ko.iterator();
+        iterator.next();
+        ko.remove(handle);
+        ko.offer(8);
+        iterator.remove();
+        assertEquals(List.of(8), liste(ko.sortedIterator()));
+    }
+
+    private static List<Integer> liste(Iterator<Integer> iterator) {
+        List<Integer> liste = new ArrayList<>();
+        iterator.forEachRemaining(liste::add);
+        return liste;
+    }
+}
@@ -0,0 +1,92 @@
+package org.example;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeMap;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class TurneringsTreeTest {
+
+    /**
+     * Tilfeldige innsettinger og slettinger skal aldri gjøre treet høyere enn ceil(log2 n) + 1.
+     * Høyden måles ved å gå fra hvert blad opp til roten, ikke regnes ut fra antall blader.
+     * Annenhver bolk på 10 000 operasjoner setter mest inn og sletter mest, så treet både vokser
+     * og krymper flere ganger. Vinneren sjekkes mot en sortert telling av verdiene etter hvert steg.
+     */
+    @Test
+    void hoydenHoldesInnenforGrensenEtterTilfeldigeOperasjoner() {
+        Random random = new Random(42);
+        TurneringsTree<Integer> tree = new TurneringsTree<>(new Integer[0]);
+        List<Integer> handles = new ArrayList<>();
+        TreeMap<Integer, Integer> verdier = new TreeMap<>(); // Verdi -> antall deltakere med verdien
+
+        for (int op = 0; op < 100_000; op++) {
+            boolean insert = handles.isEmpty() || random.nextInt(100) < (op / 10_000 % 2 == 0 ? 70 : 30);
+            if (insert) {
+                int verdi = random.nextInt(1_000_000);
+                handles.add(tree.insertParticipant(verdi));
+                verdier.merge(verdi, 1, Integer::sum);
+            } else {
+                int last = handles.size() - 1;
+                Collections.swap(handles, random.nextInt(handles.size()), last);
+                int verdi = tree.deleteParticipant(handles.remove(last));
+                verdier.merge(verdi, -1, (a, b) -> a + b == 0 ? null : a + b);
+            }
+
+            int n = tree.getSize();
+            assertEquals(handles.size(), n);
+            int bound = (n <= 1) ? 1 : 32 - Integer.numberOfLeadingZeros(n - 1) + 1;
+            int hoyde = tree.measureHeight();
+            assertTrue(hoyde <= bound, () -> "Høyden " + hoyde + " er større enn " + bound + " for " + n + " deltakere");
+            assertEquals(verdier.isEmpty() ? null : verdier.lastKey(), tree.getWinner(), "Feil vinner etter operasjon " + op);
+        }
+    }
+
+    /**
+     * Små {@code Integer}-verdier er samme objekt, så en deltaker med samme verdi som
+     * dummy-deltakeren må ikke forveksles med den.
+     */
+    @Test
+    void deltakerLikDummyForsvinnerIkke() {
+        TurneringsTree<Integer> tree = new TurneringsTree<>(new Integer[]{-1, -5}, Comparator.naturalOrder(), 0);
+        tree.insertParticipant(0);
+        assertEquals(0, tree.getWinner());
+        assertEquals(3, tree.getSize());
+        assertEquals(-1, tree.getRunnerUp());
+        assertEquals(List.of(0, -1, -5), liste(tree.sortedIterator()));
+
+        TurneringsTree<Integer> tree2 = new TurneringsTree<>(new Integer[]{5, 0, 3}, Comparator.naturalOrder(), 0);
+        assertEquals(List.of(5, 3, 0), liste(tree2.topK(3)));
+        assertEquals(0, tree2.getWinnerIndex());
+    }
+
+    /**
+     * En dummy-deltaker som ville slått de ekte deltakerne, skal likevel aldri vinne.
+     */
+    @Test
+    void dummyTaperAlltid() {
+        TurneringsTree<Integer> tree = new TurneringsTree<>(new Integer[]{1, 2, 3}, Comparator.naturalOrder(), 100);
+        assertEquals(3, tree.getWinner());
+        assertEquals(List.of(3, 2, 1), liste(tree.sortedIterator()));
+        tree.removeWinner();
+        tree.removeWinner();
+        tree.removeWinner();
+        assertNull(tree.getWinner());
+        assertNull(tree.removeWinner());
+    }
+
+    private static List<Integer> liste(Iterator<Integer> iterator) {
+        List<Integer> liste = new ArrayList<>();
+        iterator.forEachRemaining(liste::add);
+        return liste;
+    }
+}